@@ -0,0 +1,100 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.exception;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hemajoo.foundation.benchmark.resource.bundle.ResourceBundleManagerState;
+import com.hemajoo.foundation.common.exception.AbstractUncheckedException;
+import com.hemajoo.foundation.common.exception.InvalidArgumentException;
+import com.hemajoo.foundation.common.resource.bundle.HemajooFoundationCommonBundle;
+
+/**
+ * Benchmarks the construction of {@link AbstractUncheckedException} instances.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class ExceptionBenchmark
+{
+	/**
+	 * Creates an exception with a plain message.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Exception.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Benchmark
+	public AbstractUncheckedException createWithMessage(final ResourceBundleManagerState state)
+	{
+		return new InvalidArgumentException("Resource bundle file name cannot be null or empty");
+	}
+
+	/**
+	 * Creates an exception with a resource bundle key.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Exception.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public AbstractUncheckedException createWithKey(final ResourceBundleManagerState state)
+	{
+		return new InvalidArgumentException(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_INVALIDNAME);
+	}
+
+	/**
+	 * Creates an exception with a resource bundle key and parameters.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Exception.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Benchmark
+	public AbstractUncheckedException createWithKeyAndParameters(final ResourceBundleManagerState state)
+	{
+		return new InvalidArgumentException(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_NOTFOUND, "bundle/hemajoo-foundation-common", Locale.ENGLISH);
+	}
+
+	/**
+	 * Single threaded variant.
+	 */
+	@Threads(1)
+	public static class SingleThreaded extends ExceptionBenchmark
+	{
+		// Empty.
+	}
+
+	/**
+	 * Contended variant.
+	 */
+	@Threads(4)
+	public static class Contended extends ExceptionBenchmark
+	{
+		// Empty.
+	}
+}
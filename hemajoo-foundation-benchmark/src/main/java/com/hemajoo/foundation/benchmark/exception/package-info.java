@@ -0,0 +1,4 @@
+/**
+ * Contains the JMH benchmarks of the Hemajoo's Foundation Common component dedicated to the exceptions.
+ */
+package com.hemajoo.foundation.benchmark.exception;
\ No newline at end of file
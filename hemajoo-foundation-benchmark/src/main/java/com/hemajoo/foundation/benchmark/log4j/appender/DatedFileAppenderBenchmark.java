@@ -0,0 +1,152 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.log4j.appender;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hemajoo.foundation.common.log4j.appender.DatedFileAppender;
+
+/**
+ * Benchmarks the write throughput of the {@link DatedFileAppender}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class DatedFileAppenderBenchmark
+{
+	/**
+	 * Appender under test, writing into a temporary directory (re-created for each iteration to bound the size of the
+	 * written file).
+	 */
+	@State(Scope.Benchmark)
+	public static class Appender
+	{
+		/**
+		 * Should the appender flush after each event?
+		 */
+		@Param({ "true", "false" })
+		public boolean immediateFlush;
+
+		/**
+		 * Temporary directory.
+		 */
+		private File directory;
+
+		/**
+		 * Appender.
+		 */
+		private DatedFileAppender appender;
+
+		/**
+		 * Event to append.
+		 */
+		private LoggingEvent event;
+
+		/**
+		 * Creates the appender.
+		 * <hr>
+		 * @throws IOException Thrown if the temporary directory cannot be created.
+		 */
+		@SuppressWarnings("nls")
+		@Setup(Level.Iteration)
+		public void setUp() throws IOException
+		{
+			directory = Files.createTempDirectory("hemajoo-benchmark").toFile();
+
+			appender = new DatedFileAppender();
+			appender.setName("BENCHMARK");
+			appender.setFile(new File(directory, "benchmark_%date%.log").getPath());
+			appender.setLayout(new PatternLayout("%d [%t] %-5p %c - %m%n"));
+			appender.setAppend(false);
+			appender.setImmediateFlush(immediateFlush);
+			appender.activateOptions();
+
+			Logger logger = Logger.getLogger(DatedFileAppenderBenchmark.class);
+			event = new LoggingEvent(Logger.class.getName(), logger, org.apache.log4j.Level.INFO, "Resource bundle: 'bundle/hemajoo-foundation-common' registered for language: 'en'", null);
+		}
+
+		/**
+		 * Closes the appender and deletes the written files.
+		 */
+		@TearDown(Level.Iteration)
+		public void tearDown()
+		{
+			appender.close();
+
+			File[] files = directory.listFiles();
+			if (files != null)
+			{
+				for (File file : files)
+				{
+					file.delete();
+				}
+			}
+			directory.delete();
+		}
+	}
+
+	/**
+	 * Appends a logging event.
+	 * <hr>
+	 * @param state Appender under test.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public void append(final Appender state)
+	{
+		state.appender.doAppend(state.event);
+	}
+
+	/**
+	 * Single threaded variant.
+	 */
+	@Threads(1)
+	public static class SingleThreaded extends DatedFileAppenderBenchmark
+	{
+		// Empty.
+	}
+
+	/**
+	 * Contended variant.
+	 */
+	@Threads(4)
+	public static class Contended extends DatedFileAppenderBenchmark
+	{
+		// Empty.
+	}
+}
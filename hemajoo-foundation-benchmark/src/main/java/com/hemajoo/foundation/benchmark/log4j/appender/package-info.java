@@ -0,0 +1,4 @@
+/**
+ * Contains the JMH benchmarks of the Hemajoo's Foundation Common component dedicated to the log4j appenders.
+ */
+package com.hemajoo.foundation.benchmark.log4j.appender;
\ No newline at end of file
@@ -0,0 +1,4 @@
+/**
+ * Contains the JMH benchmarks of the Hemajoo's Foundation components.
+ */
+package com.hemajoo.foundation.benchmark;
\ No newline at end of file
@@ -0,0 +1,69 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
+
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
+import com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod;
+
+/**
+ * Honorific titles used to benchmark the retrieving of resource bundle values through annotated methods.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@Bundle(file="bundle/type.honorific-title", root="enum.honorific")
+public enum BenchmarkHonorificType
+{
+	/**
+	 * For men, regardless of marital status.
+	 */
+	MR,
+
+	/**
+	 * For women, regardless of marital status.
+	 */
+	MS,
+
+	/**
+	 * For women who have been honored with a British knighthood in their own right.
+	 */
+	DAME,
+
+	/**
+	 * Doctor for a person who has an academic research degree.
+	 */
+	DR;
+
+	/**
+	 * Returns the short honorific title in the current language (the method key being inferred from the caller).
+	 * <hr>
+	 * @return Short honorific title.
+	 */
+	@BundleMethod(key="short")
+	public final String getShortTitle()
+	{
+		return ResourceBundleManager.getBundleValue(this.getClass(), this);
+	}
+
+	/**
+	 * Returns the long honorific title in the current language (the method key being given).
+	 * <hr>
+	 * @return Long honorific title.
+	 */
+	@SuppressWarnings("nls")
+	@BundleMethod(key="long")
+	public final String getLongTitle()
+	{
+		return ResourceBundleManager.getBundleValue(this.getClass(), "long", this);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+
+/**
+ * Benchmarks the retrieving of resource bundle values through the
+ * {@link ResourceBundleManager#getBundleValue(Class, Enum)} services.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class BundleValueBenchmark
+{
+	/**
+	 * Retrieves a value through an annotated method, the method key being inferred from the caller.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Value.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public String getBundleValueByCaller(final ResourceBundleManagerState state)
+	{
+		return BenchmarkHonorificType.DAME.getShortTitle();
+	}
+
+	/**
+	 * Retrieves a value through an annotated method, the method key being given.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Value.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public String getBundleValueByKey(final ResourceBundleManagerState state)
+	{
+		return BenchmarkHonorificType.DAME.getLongTitle();
+	}
+
+	/**
+	 * Single threaded variant.
+	 */
+	@Threads(1)
+	public static class SingleThreaded extends BundleValueBenchmark
+	{
+		// Empty.
+	}
+
+	/**
+	 * Contended variant.
+	 */
+	@Threads(4)
+	public static class Contended extends BundleValueBenchmark
+	{
+		// Empty.
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hemajoo.foundation.common.resource.bundle.loader.PropertiesBundleLoader;
+
+/**
+ * Benchmarks the cold loading of resource bundle files (each file for each locale) through the
+ * {@link ResourceBundle#getBundle(String, Locale, ClassLoader)} services ({@code JDK}, its cache being cleared
+ * first) and through a new {@link PropertiesBundleLoader} ({@code PROPERTIES}).
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class LoaderBenchmark
+{
+	/**
+	 * Locales the resource bundle files are loaded for ({@code fr_CA} falling back to {@code fr}).
+	 */
+	@SuppressWarnings("nls")
+	static final Locale[] LOCALES = {
+			Locale.ENGLISH, Locale.FRENCH, Locale.CANADA_FRENCH, Locale.GERMAN, Locale.ITALIAN, new Locale("es"), new Locale("pt"),
+			new Locale("nl"), Locale.JAPANESE, Locale.CHINESE, Locale.KOREAN, new Locale("ru"), new Locale("pl"), new Locale("sv") };
+
+	/**
+	 * Number of entries per resource bundle file.
+	 */
+	private static final int ENTRIES = 20;
+
+	/**
+	 * Resource bundle files written to a temporary class path directory.
+	 */
+	@State(Scope.Benchmark)
+	public static class Bundles
+	{
+		/**
+		 * Loader type.
+		 */
+		@Param({ "JDK", "PROPERTIES" })
+		public String type;
+
+		/**
+		 * Number of resource bundle files.
+		 */
+		@Param({ "300" })
+		public int files;
+
+		/**
+		 * Class path directory.
+		 */
+		Path directory;
+
+		/**
+		 * Base names of the resource bundle files.
+		 */
+		String[] names;
+
+		/**
+		 * Writes the resource bundle files.
+		 * <hr>
+		 * @throws IOException Thrown if a resource bundle file cannot be written.
+		 */
+		@SuppressWarnings("nls")
+		@Setup(Level.Trial)
+		public void setUp() throws IOException
+		{
+			directory = Files.createTempDirectory("hemajoo-loader-benchmark");
+			names = new String[files];
+			for (int i = 0; i < files; i++)
+			{
+				names[i] = "bundle/file" + i;
+				write(names[i], "");
+				for (Locale locale : LOCALES)
+				{
+					if (locale.getCountry().isEmpty())
+					{
+						write(names[i], "_" + locale);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Deletes the resource bundle files.
+		 * <hr>
+		 * @throws IOException Thrown if a resource bundle file cannot be deleted.
+		 */
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException
+		{
+			try (Stream<Path> paths = Files.walk(directory))
+			{
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+
+		/**
+		 * Writes a resource bundle file.
+		 * <hr>
+		 * @param name Base name.
+		 * @param suffix Locale suffix.
+		 * @throws IOException Thrown if the resource bundle file cannot be written.
+		 */
+		@SuppressWarnings("nls")
+		private void write(final String name, final String suffix) throws IOException
+		{
+			StringBuilder builder = new StringBuilder();
+			for (int i = 0; i < ENTRIES; i++)
+			{
+				builder.append(StoreFootprint.key(i)).append('=').append(StoreFootprint.value(i)).append(suffix).append('\n');
+			}
+
+			Path file = directory.resolve(name + suffix + ".properties");
+			Files.createDirectories(file.getParent());
+			Files.write(file, builder.toString().getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Class loader of the class path directory (one per thread, so the threads do not share the loaded resource bundle
+	 * files but only contend on the loading services).
+	 */
+	@State(Scope.Thread)
+	public static class Loader
+	{
+		/**
+		 * Class loader.
+		 */
+		URLClassLoader loader;
+
+		/**
+		 * Creates the class loader.
+		 * <hr>
+		 * @param bundles Resource bundle files.
+		 * @throws IOException Thrown if the class path directory is invalid.
+		 */
+		@Setup(Level.Trial)
+		public void setUp(final Bundles bundles) throws IOException
+		{
+			loader = new URLClassLoader(new URL[] { bundles.directory.toUri().toURL() }, null);
+		}
+
+		/**
+		 * Closes the class loader.
+		 * <hr>
+		 * @throws IOException Thrown if the class loader cannot be closed.
+		 */
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException
+		{
+			loader.close();
+		}
+	}
+
+	/**
+	 * Loads each resource bundle file for each locale.
+	 * <hr>
+	 * @param state Resource bundle files.
+	 * @param loader Class loader.
+	 * @return Number of entries loaded.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public int load(final Bundles state, final Loader loader)
+	{
+		int count = 0;
+		if ("JDK".equals(state.type)) //$NON-NLS-1$
+		{
+			ResourceBundle.clearCache(loader.loader);
+			for (String name : state.names)
+			{
+				for (Locale locale : LOCALES)
+				{
+					count += ResourceBundle.getBundle(name, locale, loader.loader).keySet().size();
+				}
+			}
+		}
+		else
+		{
+			PropertiesBundleLoader bundles = new PropertiesBundleLoader(loader.loader);
+			for (String name : state.names)
+			{
+				for (Locale locale : LOCALES)
+				{
+					count += bundles.load(name, locale).keySet().size();
+				}
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Single threaded variant.
+	 */
+	@Threads(1)
+	public static class SingleThreaded extends LoaderBenchmark
+	{
+		// Empty.
+	}
+
+	/**
+	 * Contended variant.
+	 */
+	@Threads(4)
+	public static class Contended extends LoaderBenchmark
+	{
+		// Empty.
+	}
+}
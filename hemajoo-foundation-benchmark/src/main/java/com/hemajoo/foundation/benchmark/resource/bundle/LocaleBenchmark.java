@@ -0,0 +1,106 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+
+/**
+ * Benchmarks the refresh of the {@link ResourceBundleManager} when switching the language through the
+ * {@link ResourceBundleManager#setLocale(Locale)} service.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class LocaleBenchmark
+{
+	/**
+	 * Languages switched in turn.
+	 */
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN };
+
+	/**
+	 * Per thread position in the languages.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor
+	{
+		/**
+		 * Current position.
+		 */
+		private int position = 0;
+
+		/**
+		 * Returns the next language to switch to.
+		 * <hr>
+		 * @return Locale.
+		 */
+		public final Locale next()
+		{
+			position = (position + 1) % LOCALES.length;
+
+			return LOCALES[position];
+		}
+	}
+
+	/**
+	 * Switches the language of the resource bundle manager.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @param cursor Per thread position in the languages.
+	 * @return Locale of the resource bundle manager.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public Locale setLocale(final ResourceBundleManagerState state, final Cursor cursor)
+	{
+		ResourceBundleManager.setLocale(cursor.next());
+
+		return ResourceBundleManager.getLocale();
+	}
+
+	/**
+	 * Single threaded variant.
+	 */
+	@Threads(1)
+	public static class SingleThreaded extends LocaleBenchmark
+	{
+		// Empty.
+	}
+
+	/**
+	 * Contended variant.
+	 */
+	@Threads(4)
+	public static class Contended extends LocaleBenchmark
+	{
+		// Empty.
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hemajoo.foundation.common.resource.bundle.HemajooFoundationCommonBundle;
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+
+/**
+ * Benchmarks the retrieving of messages through the {@link ResourceBundleManager#getMessage(String)},
+ * {@link ResourceBundleManager#getMessage(Enum, Object...)} and {@link ResourceBundleManager#getMessageOrDefault(String, String)}
+ * services.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class MessageBenchmark
+{
+	/**
+	 * Full key of a resource bundle entry.
+	 */
+	@SuppressWarnings("nls")
+	private static final String FULL_KEY = "hemajoo-foundation-common.test.dummy";
+
+	/**
+	 * Root-relative key of an entry of the resource bundle file registered directly.
+	 */
+	@SuppressWarnings("nls")
+	private static final String RELATIVE_KEY = "short.DAME";
+
+	/**
+	 * Retrieves a message through its full key.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Message.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public String getMessageByFullKey(final ResourceBundleManagerState state)
+	{
+		return ResourceBundleManager.getMessage(FULL_KEY);
+	}
+
+	/**
+	 * Retrieves a message through its root-relative key.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Message.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public String getMessageByRelativeKey(final ResourceBundleManagerState state)
+	{
+		return ResourceBundleManager.getMessage(RELATIVE_KEY);
+	}
+
+	/**
+	 * Retrieves a message through an enumerated value without parameter.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Message.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public String getMessageByEnum(final ResourceBundleManagerState state)
+	{
+		return ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY);
+	}
+
+	/**
+	 * Retrieves and formats a message through an enumerated value with parameters.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Message.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Benchmark
+	public String getMessageByEnumWithParameters(final ResourceBundleManagerState state)
+	{
+		return ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_REGISTERED, "HemajooFoundationCommonBundle", Locale.ENGLISH, Integer.valueOf(84), "bundle/hemajoo-foundation-common");
+	}
+
+	/**
+	 * Retrieves a message through a missing key, falling back to a default value.
+	 * <hr>
+	 * @param state Resource bundle manager state.
+	 * @return Default value.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Benchmark
+	public String getMessageOrDefaultMissing(final ResourceBundleManagerState state)
+	{
+		return ResourceBundleManager.getMessageOrDefault("does.not.exist", "n/a");
+	}
+
+	/**
+	 * Single threaded variant.
+	 */
+	@Threads(1)
+	public static class SingleThreaded extends MessageBenchmark
+	{
+		// Empty.
+	}
+
+	/**
+	 * Contended variant.
+	 */
+	@Threads(4)
+	public static class Contended extends MessageBenchmark
+	{
+		// Empty.
+	}
+}
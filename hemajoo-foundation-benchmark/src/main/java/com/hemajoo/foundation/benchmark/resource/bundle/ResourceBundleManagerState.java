@@ -0,0 +1,58 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
+
+import java.util.Locale;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hemajoo.foundation.common.resource.bundle.BundleLoadStrategyType;
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+
+/**
+ * Benchmark state ensuring the {@link ResourceBundleManager} is initialized (in English) before measuring.
+ * <p>
+ * The honorific titles file is also registered directly so that its entries can be retrieved by root-relative keys.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+public class ResourceBundleManagerState
+{
+	/**
+	 * Resource bundle file registered directly.
+	 */
+	@SuppressWarnings("nls")
+	public static final String FILE = "bundle/type/honorific-title";
+
+	/**
+	 * Root of the resource bundle file registered directly.
+	 */
+	@SuppressWarnings("nls")
+	public static final String ROOT = "enum.honorific";
+
+	/**
+	 * Initializes the resource bundle manager.
+	 */
+	@SuppressWarnings("static-method")
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		ResourceBundleManager.setLocale(Locale.ENGLISH);
+		ResourceBundleManager.register(FILE, ROOT, Locale.ENGLISH);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hemajoo.foundation.common.resource.bundle.store.HeapBundleStore;
+import com.hemajoo.foundation.common.resource.bundle.store.IBundleStore;
+import com.hemajoo.foundation.common.resource.bundle.store.SlabBundleStore;
+
+/**
+ * Benchmarks the retrieving of values from the {@link HeapBundleStore} and {@link SlabBundleStore} entry stores.
+ * <p>
+ * See {@link StoreFootprint} for the memory used by each store.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class StoreBenchmark
+{
+	/**
+	 * Store filled with synthetic entries.
+	 */
+	@State(Scope.Benchmark)
+	public static class Store
+	{
+		/**
+		 * Storage type.
+		 */
+		@Param({ "HEAP", "SLAB" })
+		public String type;
+
+		/**
+		 * Number of entries.
+		 */
+		@Param({ "100000" })
+		public int entries;
+
+		/**
+		 * Store.
+		 */
+		IBundleStore store;
+
+		/**
+		 * Keys of the entries.
+		 */
+		String[] keys;
+
+		/**
+		 * Fills the store.
+		 */
+		@SuppressWarnings("nls")
+		@Setup(Level.Trial)
+		public void setUp()
+		{
+			store = "SLAB".equals(type) ? new SlabBundleStore() : new HeapBundleStore();
+			keys = new String[entries];
+			for (int i = 0; i < entries; i++)
+			{
+				keys[i] = StoreFootprint.key(i);
+				store.put(keys[i], StoreFootprint.value(i));
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the value of an existing key.
+	 * <hr>
+	 * @param state Store.
+	 * @return Value.
+	 */
+	@SuppressWarnings("static-method")
+	@Benchmark
+	public String get(final Store state)
+	{
+		return state.store.get(state.keys[ThreadLocalRandom.current().nextInt(state.keys.length)]);
+	}
+
+	/**
+	 * Single threaded variant.
+	 */
+	@Threads(1)
+	public static class SingleThreaded extends StoreBenchmark
+	{
+		// Empty.
+	}
+
+	/**
+	 * Contended variant.
+	 */
+	@Threads(4)
+	public static class Contended extends StoreBenchmark
+	{
+		// Empty.
+	}
+}
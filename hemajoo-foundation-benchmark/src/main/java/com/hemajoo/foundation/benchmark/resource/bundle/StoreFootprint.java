@@ -0,0 +1,140 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
+
+import java.lang.ref.Reference;
+
+import com.hemajoo.foundation.common.resource.bundle.store.HeapBundleStore;
+import com.hemajoo.foundation.common.resource.bundle.store.IBundleStore;
+import com.hemajoo.foundation.common.resource.bundle.store.SlabBundleStore;
+
+/**
+ * Measures the heap retained per entry by the {@link HeapBundleStore} and {@link SlabBundleStore} entry stores,
+ * filled with the same synthetic entries (the retained heap is the used heap difference after a full collection).
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.hemajoo.foundation.benchmark.resource.bundle.StoreFootprint [entries]}
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class StoreFootprint
+{
+	/**
+	 * Default number of entries.
+	 */
+	private static final int ENTRIES = 500000;
+
+	/**
+	 * Words used to build the synthetic values.
+	 */
+	@SuppressWarnings("nls")
+	private static final String[] WORDS = { "resource", "bundle", "cannot", "find", "the", "value", "for", "key", "language", "file" };
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private StoreFootprint()
+	{
+		// Empty.
+	}
+
+	/**
+	 * Main entry point.
+	 * <hr>
+	 * @param arguments Number of entries (optional).
+	 */
+	@SuppressWarnings("nls")
+	public static void main(final String[] arguments)
+	{
+		int entries = arguments.length > 0 ? Integer.parseInt(arguments[0]) : ENTRIES;
+
+		for (String type : new String[] { "HEAP", "SLAB" })
+		{
+			long before = usedHeap();
+			IBundleStore store = fill("SLAB".equals(type) ? new SlabBundleStore() : new HeapBundleStore(), entries);
+			long after = usedHeap();
+
+			System.out.println(String.format("%s: %d entries, %d bytes retained, %.1f bytes per entry", type, Integer.valueOf(store.size()), Long.valueOf(after - before), Double.valueOf((double) (after - before) / entries)));
+			Reference.reachabilityFence(store);
+		}
+	}
+
+	/**
+	 * Fills a store with synthetic entries.
+	 * <hr>
+	 * @param store Store.
+	 * @param entries Number of entries.
+	 * @return Filled store.
+	 */
+	private static IBundleStore fill(final IBundleStore store, final int entries)
+	{
+		for (int i = 0; i < entries; i++)
+		{
+			store.put(key(i), value(i));
+		}
+
+		return store;
+	}
+
+	/**
+	 * Returns the key of a synthetic entry (shaped as a real resource bundle key).
+	 * <hr>
+	 * @param index Index of the entry.
+	 * @return Key.
+	 */
+	@SuppressWarnings("nls")
+	static String key(final int index)
+	{
+		return "hemajoo-foundation-common.module" + (index % 50) + ".resource.bundle.key" + index;
+	}
+
+	/**
+	 * Returns the value of a synthetic entry (from 3 to 10 words).
+	 * <hr>
+	 * @param index Index of the entry.
+	 * @return Value.
+	 */
+	static String value(final int index)
+	{
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 3 + index % 8; i++)
+		{
+			builder.append(i > 0 ? " " : "").append(WORDS[(index + i) % WORDS.length]); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Returns the used heap after a full collection.
+	 * <hr>
+	 * @return Number of bytes.
+	 */
+	private static long usedHeap()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 4; i++)
+		{
+			System.gc();
+			try
+			{
+				Thread.sleep(100);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the JMH benchmarks of the Hemajoo's Foundation Common component dedicated to the resource bundles.
+ */
+package com.hemajoo.foundation.benchmark.resource.bundle;
\ No newline at end of file
@@ -0,0 +1,341 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.annotation;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import eu.infomas.annotation.AnnotationDetector;
+import eu.infomas.annotation.AnnotationDetector.TypeReporter;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Scans the class path once for all the {@link IAnnotationVisitor} registered as services (in a
+ * {@code META-INF/services/com.hemajoo.foundation.common.annotation.IAnnotationVisitor} resource), each annotated
+ * class found being reported to the visitors interested in its annotation. Once a scan is over, each visitor is asked
+ * to delegate the registration of the classes it has been reported (see
+ * {@link IAnnotationVisitor#delegateRegistration()}).
+ * <p>
+ * The scan can be restricted to some packages (and their sub-packages) through the {@link #setPackages(String...)}
+ * service or the {@code hemajoo.annotation.packages} system property (package names separated by commas). It can also
+ * be restricted to some entries of the class path through the {@link #getVisitor(Class, List)} service.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@Log4j
+@UtilityClass
+public final class AnnotationScanner
+{
+	/**
+	 * System property holding the packages to restrict the scan to.
+	 */
+	@SuppressWarnings("nls")
+	public static final String PROPERTY_PACKAGES = "hemajoo.annotation.packages";
+
+	/**
+	 * Packages to restrict the scan to (empty to scan the whole class path).
+	 */
+	private static List<String> packages = parse(System.getProperty(PROPERTY_PACKAGES, "")); //$NON-NLS-1$
+
+	/**
+	 * Visitors of the last scan ({@code null} if not scanned yet).
+	 */
+	private static List<IAnnotationVisitor> visitors = null;
+
+	/**
+	 * Sets the packages to restrict the scan to.
+	 * <p>
+	 * The packages apply to the next scan, a scan already done being discarded.
+	 * <hr>
+	 * @param packageNames Package names (none to scan the whole class path).
+	 */
+	@SuppressWarnings("nls")
+	public static final synchronized void setPackages(final @NonNull String... packageNames)
+	{
+		packages = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(packageNames)));
+		visitors = null;
+
+		log.info(String.format("Annotation scanner packages set to: %s", packages));
+	}
+
+	/**
+	 * Returns the packages the scan is restricted to.
+	 * <hr>
+	 * @return Package names (empty if the whole class path is scanned).
+	 */
+	public static final synchronized List<String> getPackages()
+	{
+		return packages;
+	}
+
+	/**
+	 * Returns the visitor of a given type, scanning the class path if not yet done.
+	 * <hr>
+	 * @param type Type of the visitor.
+	 * @return Visitor or {@code null} if no visitor of this type is registered as a service.
+	 * @throws IOException Thrown if the class path cannot be scanned.
+	 */
+	public static final synchronized <T extends IAnnotationVisitor> T getVisitor(final @NonNull Class<T> type) throws IOException
+	{
+		for (IAnnotationVisitor visitor : scan())
+		{
+			if (type.isInstance(visitor))
+			{
+				return type.cast(visitor);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the visitor of a given type after a scan restricted to some entries of the class path.
+	 * <p>
+	 * The restricted scan is not shared: only the visitor of the given type is created, for this scan only, and the
+	 * annotated classes are reported to it alone.
+	 * <hr>
+	 * @param type Type of the visitor.
+	 * @param roots Class path entries (directories or archives) to scan.
+	 * @return Visitor or {@code null} if no visitor of this type is registered as a service.
+	 * @throws IOException Thrown if the class path entries cannot be scanned.
+	 */
+	@SuppressWarnings("nls")
+	public static final synchronized <T extends IAnnotationVisitor> T getVisitor(final @NonNull Class<T> type, final @NonNull List<File> roots) throws IOException
+	{
+		T visitor = load(type);
+		if (visitor == null)
+		{
+			return null;
+		}
+
+		detect(Collections.singletonList(visitor), roots.toArray(new File[roots.size()]));
+
+		log.info(String.format("Scanned %d classpath entries for annotation visitor: '%s' [packages=%s]", Integer.valueOf(roots.size()), type.getName(), packages.isEmpty() ? "*" : packages));
+
+		return visitor;
+	}
+
+	/**
+	 * Scans the class path for all the visitors registered as services, if not yet done.
+	 * <hr>
+	 * @return Visitors.
+	 * @throws IOException Thrown if the class path cannot be scanned.
+	 */
+	@SuppressWarnings("nls")
+	public static final synchronized List<IAnnotationVisitor> scan() throws IOException
+	{
+		if (visitors != null)
+		{
+			return visitors;
+		}
+
+		List<IAnnotationVisitor> loaded = load();
+		detect(loaded, null);
+
+		log.info(String.format("Scanned the classpath for %d annotation visitor(s) [packages=%s]", Integer.valueOf(loaded.size()), packages.isEmpty() ? "*" : packages));
+
+		visitors = Collections.unmodifiableList(loaded);
+
+		return visitors;
+	}
+
+	/**
+	 * Loads the visitors registered as services.
+	 * <hr>
+	 * @return Visitors.
+	 */
+	private static final List<IAnnotationVisitor> load()
+	{
+		List<IAnnotationVisitor> loaded = new ArrayList<>();
+		ServiceLoader.load(IAnnotationVisitor.class, getClassLoader()).forEach(loaded::add);
+
+		return loaded;
+	}
+
+	/**
+	 * Loads the visitor of a given type registered as a service, without instantiating the other visitors.
+	 * <hr>
+	 * @param type Type of the visitor.
+	 * @return Visitor or {@code null} if no visitor of this type is registered as a service.
+	 */
+	private static final <T extends IAnnotationVisitor> T load(final Class<T> type)
+	{
+		return ServiceLoader.load(IAnnotationVisitor.class, getClassLoader()).stream()
+				.filter(provider -> type.isAssignableFrom(provider.type()))
+				.findFirst()
+				.map(provider -> type.cast(provider.get()))
+				.orElse(null);
+	}
+
+	/**
+	 * Reports the annotated classes of the class path (or of some of its entries) to the visitors.
+	 * <hr>
+	 * @param loaded Visitors.
+	 * @param roots Class path entries to scan or {@code null} to scan the whole class path.
+	 * @throws IOException Thrown if the class path cannot be scanned.
+	 */
+	private static final void detect(final List<IAnnotationVisitor> loaded, final File[] roots) throws IOException
+	{
+		// Visitors by annotation.
+		Map<Class<? extends Annotation>, List<IAnnotationVisitor>> dispatch = new HashMap<>();
+		for (IAnnotationVisitor visitor : loaded)
+		{
+			for (Class<? extends Annotation> annotation : visitor.annotations())
+			{
+				dispatch.computeIfAbsent(annotation, k -> new ArrayList<>()).add(visitor);
+			}
+		}
+
+		if (dispatch.isEmpty())
+		{
+			return;
+		}
+
+		AnnotationDetector detector = new AnnotationDetector(new DispatchReporter(dispatch, packages));
+		if (roots != null)
+		{
+			if (roots.length > 0)
+			{
+				detector.detect(roots);
+			}
+		}
+		else if (packages.isEmpty())
+		{
+			detector.detect();
+		}
+		else
+		{
+			detector.detect(packages.toArray(new String[packages.size()]));
+		}
+
+		delegateRegistration(loaded);
+	}
+
+	/**
+	 * Asks the visitors to delegate the registration of the annotated classes they have been reported.
+	 * <p>
+	 * A visitor failing to do so is only reported, so that the other visitors still get called.
+	 * <hr>
+	 * @param loaded Visitors.
+	 */
+	@SuppressWarnings("nls")
+	private static final void delegateRegistration(final List<IAnnotationVisitor> loaded)
+	{
+		for (IAnnotationVisitor visitor : loaded)
+		{
+			try
+			{
+				visitor.delegateRegistration();
+			}
+			catch (ClassNotFoundException | RuntimeException e)
+			{
+				log.error(String.format("Annotation visitor: '%s' cannot delegate the registration due to: %s", visitor.getClass().getName(), e.getMessage()), e);
+			}
+		}
+	}
+
+	/**
+	 * Splits a list of package names separated by commas.
+	 * <hr>
+	 * @param value Package names separated by commas.
+	 * @return Package names.
+	 */
+	private static final List<String> parse(final String value)
+	{
+		Set<String> names = new LinkedHashSet<>();
+		for (String name : value.split(",")) //$NON-NLS-1$
+		{
+			if (!name.trim().isEmpty())
+			{
+				names.add(name.trim());
+			}
+		}
+
+		return Collections.unmodifiableList(new ArrayList<>(names));
+	}
+
+	/**
+	 * Returns the class loader used to discover the visitors.
+	 * <hr>
+	 * @return Class loader.
+	 */
+	private static final ClassLoader getClassLoader()
+	{
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+		return loader != null ? loader : AnnotationScanner.class.getClassLoader();
+	}
+
+	/**
+	 * Reporter dispatching the annotated classes to the visitors interested in their annotation.
+	 */
+	private static final class DispatchReporter implements TypeReporter
+	{
+		/**
+		 * Visitors by annotation.
+		 */
+		private final Map<Class<? extends Annotation>, List<IAnnotationVisitor>> dispatch;
+
+		/**
+		 * Packages the reported classes are restricted to (empty for no restriction).
+		 */
+		private final List<String> packages;
+
+		/**
+		 * Creates a new dispatch reporter.
+		 * <hr>
+		 * @param dispatch Visitors by annotation.
+		 * @param packages Packages the reported classes are restricted to (empty for no restriction).
+		 */
+		DispatchReporter(final Map<Class<? extends Annotation>, List<IAnnotationVisitor>> dispatch, final List<String> packages)
+		{
+			this.dispatch = dispatch;
+			this.packages = packages;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		@Override
+		public final Class<? extends Annotation>[] annotations()
+		{
+			return dispatch.keySet().toArray(new Class[dispatch.size()]);
+		}
+
+		@Override
+		public final void reportTypeAnnotation(final Class<? extends Annotation> annotation, final String className)
+		{
+			// Class path entries are scanned whatever the packages.
+			if (!packages.isEmpty() && packages.stream().noneMatch(e -> className.startsWith(e + '.')))
+			{
+				return;
+			}
+
+			List<IAnnotationVisitor> targets = dispatch.get(annotation);
+			if (targets != null)
+			{
+				targets.forEach(e -> e.reportTypeAnnotation(annotation, className));
+			}
+		}
+	}
+}
@@ -24,6 +24,9 @@ public interface IAnnotationVisitor extends TypeReporter
 {
 	/**
 	 * Delegates registration of annotated classes.
+	 * <p>
+	 * Called by the {@link AnnotationScanner} once a scan is over, with all the annotated classes of the scan
+	 * reported to the visitor.
 	 * <hr>
 	 * @throws ClassNotFoundException Thrown in case an error occurred while trying to
 	 * delegate the registration of the annotated class.
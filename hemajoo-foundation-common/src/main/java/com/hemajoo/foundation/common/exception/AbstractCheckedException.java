@@ -11,9 +11,8 @@
  */
 package com.hemajoo.foundation.common.exception;
 
-import java.text.MessageFormat;
-
 import com.hemajoo.foundation.common.resource.bundle.IBundle;
+import com.hemajoo.foundation.common.resource.bundle.MessageTemplate;
 import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
 
 /**
@@ -102,7 +101,7 @@ public abstract class AbstractCheckedException extends Exception
 	@SuppressWarnings({ "unchecked" })
 	public AbstractCheckedException(final Enum<?> key, final Object... parameters)
 	{
-		super(key instanceof IBundle ? MessageFormat.format(ResourceBundleManager.getMessage((Enum<? extends IBundle>) key), parameters) : MessageFormat.format(((IExceptionType) key).getMessage(), parameters));
+		super(MessageTemplate.of(key instanceof IBundle ? ResourceBundleManager.getMessage((Enum<? extends IBundle>) key) : ((IExceptionType) key).getMessage()).format(parameters));
 
 		// Do we have an exception in the parameter list?
 		for (Object o : parameters)
@@ -0,0 +1,571 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod;
+import com.hemajoo.foundation.common.resource.bundle.store.HeapBundleStore;
+import com.hemajoo.foundation.common.resource.bundle.store.IBundleStore;
+import com.hemajoo.foundation.common.resource.bundle.store.SlabBundleStore;
+import com.hemajoo.foundation.common.resource.bundle.visitor.BundleMetadata;
+
+import lombok.NonNull;
+
+/**
+ * A catalog holds the state of the resource bundles registered for a given locale.
+ * <p>
+ * A catalog is built aside and then published by the {@link ResourceBundleManager} through a single reference swap.
+ * Once published, a catalog is never cleared: a change of locale builds and publishes a new catalog, so readers
+ * never observe a partially loaded catalog.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+final class BundleCatalog
+{
+	/**
+	 * Locale of the catalog.
+	 */
+	private final Locale locale;
+
+	/**
+	 * Storage type of the entries.
+	 */
+	private final BundleStorageType storage;
+
+	/**
+	 * Thread-safe store of all resource bundle entries (flat mode), each entry being reachable by its full key and by
+	 * its root-relative key (alias). A full key always wins over an alias.
+	 * <p>
+	 * The store is the single storage of the values of the catalog, the string keys and the enumerated values being
+	 * both resolved against it.
+	 */
+	private final IBundleStore entries;
+
+	/**
+	 * Thread-safe collection of the full keys owning the aliases.
+	 */
+	private final Map<String, String> aliases = new ConcurrentHashMap<>(1000);
+
+	/**
+	 * Thread-safe collection of the ranges of entries of the resource bundles registered through annotated class.
+	 */
+	private final Map<Class<?>, BundleRange> classes = new ConcurrentHashMap<>();
+
+	/**
+	 * Thread-safe collection of the ranges of entries of the resource bundles registered directly (by file name).
+	 */
+	private final Map<String, BundleRange> files = new ConcurrentHashMap<>();
+
+	/**
+	 * Catalog this catalog is derived from ({@code null} if none), its entries being reused for the resource bundles
+	 * resolving to the same resource bundle file in both catalogs.
+	 */
+	private final BundleCatalog base;
+
+	/**
+	 * Thread-safe collection of resolved values for the annotated enumeration classes implementing the {@link IBundle}
+	 * interface (indexed by the ordinal of the enumerated values).
+	 */
+	private final Map<Class<?>, BundleTable> tables = new ConcurrentHashMap<>();
+
+	/**
+	 * Thread-safe collection of resolved values for the methods annotated with the {@link BundleMethod} annotation
+	 * (by annotated class, then by key prefix, indexed by the ordinal of the enumerated values).
+	 */
+	private final Map<Class<?>, Map<String, String[]>> methods = new ConcurrentHashMap<>();
+
+	/**
+	 * Thread-safe collection of the annotated classes whose resource bundle is not loaded yet (lazy mode), by class
+	 * name (the classes being only loaded on first use).
+	 */
+	private final Map<String, BundleMetadata> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * Resolver of the resource bundle files of the catalog.
+	 */
+	private final BundleResolver resolver;
+
+	/**
+	 * Keys missed in the catalog.
+	 */
+	private final BundleMisses misses = new BundleMisses();
+
+	/**
+	 * Number of entries left unused by the patched resource bundle files.
+	 */
+	private volatile int released = 0;
+
+	/**
+	 * Creates a new empty catalog storing its entries on the heap.
+	 * <hr>
+	 * @param locale Locale of the catalog.
+	 */
+	BundleCatalog(final @NonNull Locale locale)
+	{
+		this(locale, BundleStorageType.HEAP, null);
+	}
+
+	/**
+	 * Creates a new empty catalog.
+	 * <hr>
+	 * @param locale Locale of the catalog.
+	 * @param storage Storage type of the entries.
+	 * @param base Catalog this catalog is derived from ({@code null} if none).
+	 */
+	BundleCatalog(final @NonNull Locale locale, final @NonNull BundleStorageType storage, final BundleCatalog base)
+	{
+		this.locale = locale;
+		this.storage = storage;
+		this.base = base;
+		this.resolver = new BundleResolver(locale);
+		this.entries = storage == BundleStorageType.SLAB ? new SlabBundleStore() : new HeapBundleStore();
+	}
+
+	/**
+	 * Returns the locale of the catalog.
+	 * <hr>
+	 * @return Locale.
+	 */
+	final Locale getLocale()
+	{
+		return locale;
+	}
+
+	/**
+	 * Returns the storage type of the entries.
+	 * <hr>
+	 * @return Storage type.
+	 */
+	final BundleStorageType getStorage()
+	{
+		return storage;
+	}
+
+	/**
+	 * Returns the catalog this catalog is derived from.
+	 * <hr>
+	 * @return Catalog or {@code null} if none.
+	 */
+	final BundleCatalog getBase()
+	{
+		return base;
+	}
+
+	/**
+	 * Records an annotated class whose resource bundle will be loaded on first use.
+	 * <hr>
+	 * @param metadata Element values of the {@link com.hemajoo.foundation.common.resource.bundle.annotation.Bundle}
+	 * annotation of the annotated class.
+	 * @return {@code True} if the class has been recorded, {@code false} if it was already recorded.
+	 */
+	final boolean addPending(final @NonNull BundleMetadata metadata)
+	{
+		return pending.putIfAbsent(metadata.getClassName(), metadata) == null;
+	}
+
+	/**
+	 * Returns if the resource bundle of an annotated class is not loaded yet.
+	 * <hr>
+	 * @param className Name of the annotated class.
+	 * @return {@code True} if the resource bundle is not loaded yet, {@code false} otherwise.
+	 */
+	final boolean isPending(final @NonNull String className)
+	{
+		return !pending.isEmpty() && pending.containsKey(className);
+	}
+
+	/**
+	 * Forgets an annotated class whose resource bundle has been loaded.
+	 * <hr>
+	 * @param className Name of the annotated class.
+	 */
+	final void removePending(final @NonNull String className)
+	{
+		pending.remove(className);
+	}
+
+	/**
+	 * Returns the annotated classes whose resource bundle is not loaded yet.
+	 * <hr>
+	 * @return Names of the annotated classes (empty if all the resource bundles are loaded).
+	 */
+	final List<String> getPending()
+	{
+		return pending.isEmpty() ? Collections.emptyList() : new ArrayList<>(pending.keySet());
+	}
+
+	/**
+	 * Returns the annotated classes whose resource bundle is not loaded yet and may contain a key: the ones whose root
+	 * prefixes the key or, if the key has the root of no resource bundle (loaded or not), all of them (as the key may
+	 * be a root-relative key).
+	 * <hr>
+	 * @param key Full key or root-relative key.
+	 * @return Names of the annotated classes (empty if all the resource bundles which may contain the key are loaded).
+	 */
+	final List<String> getPending(final @NonNull String key)
+	{
+		if (pending.isEmpty())
+		{
+			return Collections.emptyList();
+		}
+
+		List<String> matching = new ArrayList<>();
+		for (Map.Entry<String, BundleMetadata> entry : pending.entrySet())
+		{
+			if (hasRoot(key, entry.getValue().getRoot()))
+			{
+				matching.add(entry.getKey());
+			}
+		}
+
+		if (!matching.isEmpty() || classes.values().stream().anyMatch(range -> hasRoot(key, range.getRoot())) || files.values().stream().anyMatch(range -> hasRoot(key, range.getRoot())))
+		{
+			// A full key: only the resource bundles having its root may contain it.
+			return matching;
+		}
+
+		return new ArrayList<>(pending.keySet());
+	}
+
+	/**
+	 * Returns if a key starts with a root.
+	 * <hr>
+	 * @param key Key.
+	 * @param root Root (ending with a dot or not).
+	 * @return {@code True} if the key starts with the root, {@code false} otherwise.
+	 */
+	private static final boolean hasRoot(final String key, final String root)
+	{
+		return !root.isEmpty() && key.startsWith(root) && (root.endsWith(".") || key.startsWith(".", root.length())); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns the resolver of the resource bundle files of the catalog.
+	 * <hr>
+	 * @return Resolver.
+	 */
+	final BundleResolver getResolver()
+	{
+		return resolver;
+	}
+
+	/**
+	 * Returns the keys missed in the catalog.
+	 * <hr>
+	 * @return Missed keys.
+	 */
+	final BundleMisses getMisses()
+	{
+		return misses;
+	}
+
+	/**
+	 * Returns the value of a resource bundle entry.
+	 * <hr>
+	 * @param key Full key or root-relative key of the entry.
+	 * @return Value or {@code null} if the key does not exist.
+	 */
+	final String getValue(final @NonNull String key)
+	{
+		return entries.get(key);
+	}
+
+	/**
+	 * Returns the entry number of a resource bundle entry.
+	 * <hr>
+	 * @param key Full key or root-relative key of the entry.
+	 * @return Entry number or {@code -1} if the key does not exist.
+	 */
+	final int getEntry(final @NonNull String key)
+	{
+		return entries.indexOf(key);
+	}
+
+	/**
+	 * Returns the key an entry has been added with.
+	 * <hr>
+	 * @param entry Entry number.
+	 * @return Full key.
+	 */
+	final String getEntryKey(final int entry)
+	{
+		return entries.getKey(entry);
+	}
+
+	/**
+	 * Returns the value of an entry.
+	 * <hr>
+	 * @param entry Entry number.
+	 * @return Value.
+	 */
+	final String getEntryValue(final int entry)
+	{
+		return entries.get(entry);
+	}
+
+	/**
+	 * Returns the number of entries of the catalog (being the number of the next entry).
+	 * <hr>
+	 * @return Number of entries.
+	 */
+	final int getEntryCount()
+	{
+		return entries.getEntryCount();
+	}
+
+	/**
+	 * Returns the number of entries of the catalog still in use (the previous entries of the patched resource bundle
+	 * files being left unused).
+	 * <hr>
+	 * @return Number of entries.
+	 */
+	final int getLiveEntryCount()
+	{
+		return entries.getEntryCount() - released;
+	}
+
+	/**
+	 * Returns if the entries left unused by the patched resource bundle files outnumber the live entries, the catalog
+	 * being then worth loading again.
+	 * <hr>
+	 * @return {@code True} if the catalog should be compacted, {@code false} otherwise.
+	 */
+	final boolean isCompactable()
+	{
+		return released > getLiveEntryCount();
+	}
+
+	/**
+	 * Records the entries of a range left unused by a patched resource bundle file.
+	 * <hr>
+	 * @param range Previous range of the entries of the resource bundle file.
+	 */
+	final synchronized void release(final @NonNull BundleRange range)
+	{
+		released += range.getEnd() - range.getFirst();
+	}
+
+	/**
+	 * Returns the number of keys of the catalog.
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	final int getKeyCount()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * Returns an estimate of the memory held by the entries of the catalog.
+	 * <hr>
+	 * @return Number of bytes.
+	 */
+	final long getFootprint()
+	{
+		return entries.getFootprint();
+	}
+
+	/**
+	 * Adds a resource bundle entry, reachable by its full key and, if the key starts with the given root, by its
+	 * root-relative key (both keys sharing the same entry).
+	 * <p>
+	 * In case of collision, a full key wins over an alias and the first registered full key (or alias) wins over the
+	 * next ones.
+	 * <hr>
+	 * @param key Full key.
+	 * @param value Value.
+	 * @param root Root of the resource bundle file (ending with a dot).
+	 * @return Full key of the entry colliding with the given one or {@code null} if none.
+	 */
+	final String putEntry(final @NonNull String key, final @NonNull String value, final @NonNull String root)
+	{
+		// A full key shadows the alias it collides with.
+		String collision = aliases.remove(key);
+		if (collision == null && entries.indexOf(key) >= 0)
+		{
+			// The full key of another entry: the first registered one wins (nothing is appended to the store).
+			return key;
+		}
+
+		int entry = entries.add(key, value);
+		entries.bind(key, entry);
+
+		if (key.length() > root.length() && key.startsWith(root))
+		{
+			String alias = key.substring(root.length());
+			String owner = aliases.putIfAbsent(alias, key);
+			if (owner == null)
+			{
+				if (!entries.bindIfAbsent(alias, entry))
+				{
+					// The alias is the full key of another entry.
+					aliases.remove(alias);
+					collision = alias;
+				}
+			}
+			else if (owner.equals(key))
+			{
+				entries.bind(alias, entry);
+			}
+			else
+			{
+				collision = owner;
+			}
+		}
+
+		return collision;
+	}
+
+	/**
+	 * Replaces the entry of a key of a reloaded resource bundle file by a new entry.
+	 * <p>
+	 * A key bound to an entry of the previous range of the resource bundle file is bound to the new entry, as its
+	 * alias if the resource bundle file owns it. Any other key is added as by {@link #putEntry(String, String, String)}.
+	 * <hr>
+	 * @param key Full key.
+	 * @param value Value.
+	 * @param root Root of the resource bundle file (ending with a dot).
+	 * @param previous Previous range of the entries of the resource bundle file.
+	 * @return Full key of the entry colliding with the given one or {@code null} if none.
+	 */
+	final String replaceEntry(final @NonNull String key, final @NonNull String value, final @NonNull String root, final @NonNull BundleRange previous)
+	{
+		int bound = entries.indexOf(key);
+		if (bound < 0 || !previous.contains(bound) || !key.equals(entries.getKey(bound)))
+		{
+			return putEntry(key, value, root);
+		}
+
+		int entry = entries.add(key, value);
+		entries.bind(key, entry);
+
+		if (key.length() > root.length() && key.startsWith(root))
+		{
+			String alias = key.substring(root.length());
+			if (key.equals(aliases.get(alias)))
+			{
+				entries.bind(alias, entry);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Removes a key of a reloaded resource bundle file (and the alias it owns), if bound to an entry of the previous
+	 * range of the resource bundle file.
+	 * <hr>
+	 * @param key Full key.
+	 * @param root Root of the resource bundle file (ending with a dot).
+	 * @param previous Previous range of the entries of the resource bundle file.
+	 */
+	final void removeEntry(final @NonNull String key, final @NonNull String root, final @NonNull BundleRange previous)
+	{
+		int bound = entries.indexOf(key);
+		if (bound < 0 || !previous.contains(bound) || !key.equals(entries.getKey(bound)))
+		{
+			return;
+		}
+
+		entries.unbind(key);
+
+		if (key.length() > root.length() && key.startsWith(root))
+		{
+			String alias = key.substring(root.length());
+			if (aliases.remove(alias, key))
+			{
+				entries.unbind(alias);
+			}
+		}
+	}
+
+	/**
+	 * Returns the ranges of entries of the resource bundles registered through annotated class.
+	 * <hr>
+	 * @return Ranges of entries by annotated class.
+	 */
+	final Map<Class<?>, BundleRange> getClasses()
+	{
+		return classes;
+	}
+
+	/**
+	 * Returns the ranges of entries of the resource bundles registered directly.
+	 * <hr>
+	 * @return Ranges of entries by resource bundle file.
+	 */
+	final Map<String, BundleRange> getFiles()
+	{
+		return files;
+	}
+
+	/**
+	 * Returns the resolved table of an annotated enumeration class.
+	 * <hr>
+	 * @param annotatedClass Annotated enumeration class.
+	 * @return Bundle table or {@code null} if none.
+	 */
+	final BundleTable getTable(final Class<?> annotatedClass)
+	{
+		return tables.get(annotatedClass);
+	}
+
+	/**
+	 * Sets the resolved table of an annotated enumeration class.
+	 * <hr>
+	 * @param annotatedClass Annotated enumeration class.
+	 * @param table Entry numbers indexed by the ordinal of the enumerated values ({@code -1} for a missing key).
+	 */
+	final void putTable(final @NonNull Class<?> annotatedClass, final @NonNull int[] table)
+	{
+		tables.put(annotatedClass, new BundleTable(entries, table, locale));
+	}
+
+	/**
+	 * Returns the value of an enumerated value for a method annotated with the {@link BundleMethod} annotation.
+	 * <hr>
+	 * @param annotatedClass Annotated enumeration class.
+	 * @param prefix Key prefix of the method.
+	 * @param enumerated Enumerated value.
+	 * @return Value or {@code null} if the key does not exist.
+	 */
+	final String getMethodValue(final @NonNull Class<? extends Enum<?>> annotatedClass, final @NonNull String prefix, final @NonNull Enum<?> enumerated)
+	{
+		String[] values = methods.computeIfAbsent(annotatedClass, k -> new ConcurrentHashMap<>()).computeIfAbsent(prefix, k -> new String[annotatedClass.getEnumConstants().length]);
+
+		// Missing values are looked up again as the entries of a catalog can still be appended.
+		String value = values[enumerated.ordinal()];
+		if (value == null)
+		{
+			value = entries.get(prefix + enumerated.name());
+			values[enumerated.ordinal()] = value;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Forgets the values cached for the methods annotated with the {@link BundleMethod} annotation (once entries have
+	 * been replaced).
+	 */
+	final void clearMethodValues()
+	{
+		methods.clear();
+	}
+}
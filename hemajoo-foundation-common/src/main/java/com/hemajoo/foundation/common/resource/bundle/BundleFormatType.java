@@ -0,0 +1,34 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+/**
+ * Enumeration of the resource bundle format type.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public enum BundleFormatType
+{
+	/**
+	 * Properties bundle format: the resource bundle files are parsed from their {@code .properties} form.
+	 */
+	PROPERTIES,
+
+	/**
+	 * Binary bundle format: the compiled binary form ({@code .hbc}) of the resource bundle files is memory-mapped when
+	 * available and its entries copied into the catalog without being parsed, the {@code .properties} form being used
+	 * otherwise.
+	 * @see com.hemajoo.foundation.common.resource.bundle.binary.BinaryBundle
+	 */
+	BINARY;
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
+import com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod;
+import com.hemajoo.foundation.common.resource.bundle.processor.BundleIndexProcessor;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Index of the classes annotated with the {@link Bundle} annotation and of their methods annotated with the
+ * {@link BundleMethod} annotation, as generated at compile time by the {@link BundleIndexProcessor}.
+ * <p>
+ * Each artifact having been compiled with the processor contributes its own index resource, all the index resources
+ * found on the class path are merged. The class path entries (directories or archives) having contributed an index
+ * resource are recorded, so only the other ones have to be scanned for annotated classes.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@Log4j
+final class BundleIndex
+{
+	/**
+	 * Annotated class names by priority.
+	 */
+	private final Map<Integer, List<String>> classes = new TreeMap<>();
+
+	/**
+	 * Keys of the annotated methods by method name and by class name.
+	 */
+	private final Map<String, Map<String, String>> methods = new HashMap<>();
+
+	/**
+	 * Number of index resources read.
+	 */
+	private int resources = 0;
+
+	/**
+	 * Class path entries (directories or archives) having contributed an index resource.
+	 */
+	private final Set<Path> roots = new LinkedHashSet<>();
+
+	/**
+	 * Loads the indexes available to a class loader.
+	 * <hr>
+	 * @param loader Class loader.
+	 * @return Bundle index (empty if no index resource has been found).
+	 * @throws IOException Thrown if an index resource cannot be read.
+	 */
+	static final BundleIndex load(final @NonNull ClassLoader loader) throws IOException
+	{
+		BundleIndex index = new BundleIndex();
+
+		Enumeration<URL> urls = loader.getResources(BundleIndexProcessor.INDEX);
+		while (urls.hasMoreElements())
+		{
+			URL url = urls.nextElement();
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)))
+			{
+				index.read(reader, url);
+			}
+			index.resources++;
+
+			Path root = getRoot(url);
+			if (root != null)
+			{
+				index.roots.add(root);
+			}
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the class path entry (directory or archive) an index resource has been read from.
+	 * <hr>
+	 * @param url URL of the index resource.
+	 * @return Class path entry or {@code null} if the index resource is not located in a directory or in an archive
+	 * of the file system.
+	 */
+	@SuppressWarnings("nls")
+	static final Path getRoot(final @NonNull URL url)
+	{
+		try
+		{
+			if ("jar".equals(url.getProtocol()))
+			{
+				String path = url.getPath();
+				int separator = path.indexOf("!/");
+				URL archive = new URL(separator < 0 ? path : path.substring(0, separator));
+
+				return "file".equals(archive.getProtocol()) ? toPath(Paths.get(archive.toURI())) : null;
+			}
+
+			if ("file".equals(url.getProtocol()))
+			{
+				// The index resource is located under the root directory.
+				Path root = Paths.get(url.toURI());
+				for (int i = 0; i < BundleIndexProcessor.INDEX.split("/").length && root != null; i++)
+				{
+					root = root.getParent();
+				}
+
+				return root != null ? toPath(root) : null;
+			}
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException e)
+		{
+			log.warn(String.format("Cannot resolve the class path entry of resource bundle index: %s due to: %s", url, e.getMessage()));
+		}
+
+		return null;
+	}
+
+	/**
+	 * Normalizes the path of a class path entry.
+	 * <hr>
+	 * @param path Path.
+	 * @return Absolute and normalized path.
+	 */
+	private static final Path toPath(final Path path)
+	{
+		return path.toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Reads an index resource.
+	 * <hr>
+	 * @param reader Reader.
+	 * @param url URL of the index resource.
+	 * @throws IOException Thrown if the index resource cannot be read.
+	 */
+	@SuppressWarnings("nls")
+	private final void read(final BufferedReader reader, final URL url) throws IOException
+	{
+		String line;
+		while ((line = reader.readLine()) != null)
+		{
+			if (line.isEmpty() || line.startsWith("#"))
+			{
+				continue;
+			}
+
+			String[] fields = line.split("\t", -1);
+			if (BundleIndexProcessor.TYPE_BUNDLE.equals(fields[0]) && fields.length == 5)
+			{
+				addClass(Integer.valueOf(fields[1]), fields[2]);
+			}
+			else if (BundleIndexProcessor.TYPE_METHOD.equals(fields[0]) && fields.length == 4)
+			{
+				// The first key wins for overloaded methods.
+				methods.computeIfAbsent(fields[1], k -> new LinkedHashMap<>()).putIfAbsent(fields[2], fields[3]);
+			}
+			else
+			{
+				log.warn(String.format("Invalid resource bundle index entry: '%s' in: %s", line, url));
+			}
+		}
+	}
+
+	/**
+	 * Adds an annotated class to the index (an artifact present twice on the class path being indexed once).
+	 * <hr>
+	 * @param priority Priority.
+	 * @param className Class name.
+	 */
+	private final void addClass(final Integer priority, final String className)
+	{
+		for (List<String> names : classes.values())
+		{
+			if (names.contains(className))
+			{
+				return;
+			}
+		}
+
+		classes.computeIfAbsent(priority, k -> new ArrayList<>()).add(className);
+	}
+
+	/**
+	 * Returns if no index resource has been found.
+	 * <hr>
+	 * @return {@code True} if no index resource has been found, {@code false} otherwise.
+	 */
+	final boolean isEmpty()
+	{
+		return resources == 0;
+	}
+
+	/**
+	 * Returns the class path entries (directories or archives) having contributed an index resource.
+	 * <hr>
+	 * @return Class path entries.
+	 */
+	final Set<Path> getRoots()
+	{
+		return Collections.unmodifiableSet(roots);
+	}
+
+	/**
+	 * Returns the entries of a class path not having contributed an index resource (so to be scanned).
+	 * <hr>
+	 * @param classPath Class path (entries separated by the path separator).
+	 * @return Class path entries without index resource (in class path order).
+	 */
+	final List<File> getUnindexedRoots(final @NonNull String classPath)
+	{
+		List<File> unindexed = new ArrayList<>();
+		for (String entry : classPath.split(File.pathSeparator))
+		{
+			if (!entry.isEmpty() && !roots.contains(toPath(Paths.get(entry))))
+			{
+				unindexed.add(new File(entry));
+			}
+		}
+
+		return unindexed;
+	}
+
+	/**
+	 * Returns the names of the annotated classes by priority tier (ordered by priority).
+	 * <hr>
+	 * @return Class names by priority.
+	 */
+	final Map<Integer, List<String>> getClassNamesByPriority()
+	{
+		return Collections.unmodifiableMap(classes);
+	}
+
+	/**
+	 * Returns the keys of the annotated methods of a class.
+	 * <hr>
+	 * @param className Class name.
+	 * @return Keys by method name (empty if the class has no annotated method).
+	 */
+	final Map<String, String> getMethodKeys(final @NonNull String className)
+	{
+		Map<String, String> keys = methods.get(className);
+
+		return keys == null ? Collections.emptyMap() : Collections.unmodifiableMap(keys);
+	}
+}
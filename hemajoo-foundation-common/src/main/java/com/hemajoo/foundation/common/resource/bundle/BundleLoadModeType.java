@@ -0,0 +1,32 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+/**
+ * Enumeration of the resource bundle load mode type.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public enum BundleLoadModeType
+{
+	/**
+	 * Eager bundle load mode: the resource bundles of the annotated classes are loaded when registered.
+	 */
+	EAGER,
+
+	/**
+	 * Lazy bundle load mode: only the annotated classes are recorded when registered, their resource bundles being
+	 * loaded the first time one of their keys is requested.
+	 */
+	LAZY;
+}
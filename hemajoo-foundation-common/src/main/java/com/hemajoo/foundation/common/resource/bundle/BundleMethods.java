@@ -0,0 +1,110 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
+import com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod;
+
+import lombok.NonNull;
+
+/**
+ * Resolved key prefixes of the methods annotated with the {@link BundleMethod} annotation of a class annotated with
+ * the {@link Bundle} annotation.
+ * <p>
+ * A key prefix is the root of the class followed by the key of the method, the full key of a resource bundle entry
+ * being the key prefix followed by the name of the enumerated value.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+final class BundleMethods
+{
+	/**
+	 * Character dot.
+	 */
+	private static final String CHARACTER_DOT = "."; //$NON-NLS-1$
+
+	/**
+	 * Root of the annotated class (ending with a dot).
+	 */
+	private final String root;
+
+	/**
+	 * Key prefixes by method name.
+	 */
+	private final Map<String, String> methods = new HashMap<>();
+
+	/**
+	 * Key prefixes by method key (lazily filled).
+	 */
+	private final Map<String, String> keys = new ConcurrentHashMap<>();
+
+	/**
+	 * Resolves the annotated methods of a class.
+	 * <hr>
+	 * @param annotation {@link Bundle} annotation of the class.
+	 * @param annotatedClass Annotated class.
+	 * @param indexedKeys Method keys by method name as indexed at compile time (if empty, the methods of the class
+	 * are introspected).
+	 */
+	BundleMethods(final @NonNull Bundle annotation, final @NonNull Class<?> annotatedClass, final @NonNull Map<String, String> indexedKeys)
+	{
+		this.root = annotation.root().endsWith(CHARACTER_DOT) ? annotation.root() : annotation.root() + CHARACTER_DOT;
+
+		if (indexedKeys.isEmpty())
+		{
+			for (Method method : annotatedClass.getMethods())
+			{
+				BundleMethod annotationMethod = method.getAnnotation(BundleMethod.class);
+				if (annotationMethod != null)
+				{
+					methods.putIfAbsent(method.getName(), getPrefixForKey(annotationMethod.key()));
+				}
+			}
+		}
+		else
+		{
+			indexedKeys.forEach((name, key) -> methods.put(name, getPrefixForKey(key)));
+		}
+	}
+
+	/**
+	 * Returns the key prefix of an annotated method.
+	 * <hr>
+	 * @param methodName Method name.
+	 * @return Key prefix or {@code null} if the method is not annotated.
+	 */
+	final String getPrefixForMethod(final @NonNull String methodName)
+	{
+		return methods.get(methodName);
+	}
+
+	/**
+	 * Returns the key prefix of a method key.
+	 * <hr>
+	 * @param key Method key (as declared by the {@link BundleMethod} annotation).
+	 * @return Key prefix.
+	 */
+	final String getPrefixForKey(final @NonNull String key)
+	{
+		return keys.computeIfAbsent(key, k -> {
+			String second = k.endsWith(CHARACTER_DOT) ? k : k + CHARACTER_DOT;
+
+			return second.startsWith(root) ? second : root + second;
+		});
+	}
+}
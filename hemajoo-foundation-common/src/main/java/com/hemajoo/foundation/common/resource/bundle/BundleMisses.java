@@ -0,0 +1,142 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import lombok.NonNull;
+
+/**
+ * Bounded negative cache of the keys missed in a catalog.
+ * <p>
+ * Each missed key keeps its (formatted once) error message and counts its misses, so that repeated misses of the
+ * same key are reported at most once per {@link #INTERVAL} with the number of misses since the previous report.
+ * <p>
+ * The cache is only consulted once a key has not been found, so a key registered after having been missed is
+ * immediately found.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+final class BundleMisses
+{
+	/**
+	 * Maximum number of missed keys kept.
+	 */
+	static final int CAPACITY = 1024;
+
+	/**
+	 * Minimum interval between two reports of the same missed key (in nanoseconds).
+	 */
+	static final long INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+	/**
+	 * Missed keys (string keys or enumerated values).
+	 */
+	private final Map<Object, Miss> misses = new ConcurrentHashMap<>();
+
+	/**
+	 * Miss of a key.
+	 */
+	static final class Miss
+	{
+		/**
+		 * Error message.
+		 */
+		private final String message;
+
+		/**
+		 * Number of misses since the last report.
+		 */
+		private final LongAdder count = new LongAdder();
+
+		/**
+		 * Time of the last report ({@code 0} if never reported).
+		 */
+		private final AtomicLong reported = new AtomicLong();
+
+		/**
+		 * Creates a new miss.
+		 * <hr>
+		 * @param message Error message.
+		 */
+		Miss(final @NonNull String message)
+		{
+			this.message = message;
+		}
+
+		/**
+		 * Returns the error message.
+		 * <hr>
+		 * @return Error message.
+		 */
+		final String getMessage()
+		{
+			return message;
+		}
+
+		/**
+		 * Counts a miss and returns the number of misses to report if the miss has to be reported.
+		 * <hr>
+		 * @return Number of misses since the previous report or {@code 0} if the miss must not be reported yet.
+		 */
+		final long hit()
+		{
+			count.increment();
+
+			long now = System.nanoTime();
+			long last = reported.get();
+			if ((last == 0 || now - last >= INTERVAL) && reported.compareAndSet(last, now == 0 ? 1 : now))
+			{
+				return count.sumThenReset();
+			}
+
+			return 0;
+		}
+	}
+
+	/**
+	 * Records a miss of a key.
+	 * <p>
+	 * When the cache is full, an arbitrary missed key is evicted to make room for the new one.
+	 * <hr>
+	 * @param key Missed key.
+	 * @param message Function creating the error message of the key (only called when the key is not cached).
+	 * @return Miss.
+	 */
+	final Miss record(final @NonNull Object key, final @NonNull Function<Object, String> message)
+	{
+		Miss miss = misses.get(key);
+		if (miss == null)
+		{
+			if (misses.size() >= CAPACITY)
+			{
+				Iterator<Object> iterator = misses.keySet().iterator();
+				if (iterator.hasNext())
+				{
+					iterator.next();
+					iterator.remove();
+				}
+			}
+
+			miss = misses.computeIfAbsent(key, k -> new Miss(message.apply(k)));
+		}
+
+		return miss;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.util.Locale;
+
+import lombok.NonNull;
+
+/**
+ * Result of the preloading of the catalog of a locale (see {@link ResourceBundleManager#preload(java.util.Set)}).
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundlePreload
+{
+	/**
+	 * Locale of the catalog.
+	 */
+	private final Locale locale;
+
+	/**
+	 * Was the catalog already resident?
+	 */
+	private final boolean resident;
+
+	/**
+	 * Number of entries of the catalog.
+	 */
+	private final int entries;
+
+	/**
+	 * Number of keys of the catalog.
+	 */
+	private final int keys;
+
+	/**
+	 * Estimate of the memory held by the entries of the catalog (in bytes).
+	 */
+	private final long footprint;
+
+	/**
+	 * Duration of the loading of the catalog (in nanoseconds).
+	 */
+	private final long duration;
+
+	/**
+	 * Creates a new preload result.
+	 * <hr>
+	 * @param locale Locale of the catalog.
+	 * @param resident Was the catalog already resident?
+	 * @param entries Number of entries of the catalog.
+	 * @param keys Number of keys of the catalog.
+	 * @param footprint Estimate of the memory held by the entries of the catalog (in bytes).
+	 * @param duration Duration of the loading of the catalog (in nanoseconds).
+	 */
+	BundlePreload(final @NonNull Locale locale, final boolean resident, final int entries, final int keys, final long footprint, final long duration)
+	{
+		this.locale = locale;
+		this.resident = resident;
+		this.entries = entries;
+		this.keys = keys;
+		this.footprint = footprint;
+		this.duration = duration;
+	}
+
+	/**
+	 * Returns the locale of the catalog.
+	 * <hr>
+	 * @return Locale.
+	 */
+	public final Locale getLocale()
+	{
+		return locale;
+	}
+
+	/**
+	 * Returns if the catalog was already resident (only its pending resource bundles, if any, being loaded).
+	 * <hr>
+	 * @return {@code True} if the catalog was already resident, {@code false} otherwise.
+	 */
+	public final boolean isResident()
+	{
+		return resident;
+	}
+
+	/**
+	 * Returns the number of entries of the catalog.
+	 * <hr>
+	 * @return Number of entries.
+	 */
+	public final int getEntries()
+	{
+		return entries;
+	}
+
+	/**
+	 * Returns the number of keys of the catalog (full keys and root-relative keys).
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	public final int getKeys()
+	{
+		return keys;
+	}
+
+	/**
+	 * Returns an estimate of the memory held by the entries of the catalog.
+	 * <hr>
+	 * @return Number of bytes.
+	 */
+	public final long getFootprint()
+	{
+		return footprint;
+	}
+
+	/**
+	 * Returns the duration of the loading of the catalog.
+	 * <hr>
+	 * @return Duration in nanoseconds.
+	 */
+	public final long getDuration()
+	{
+		return duration;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("Catalog: '%s' %s: %d entries, %d keys, %d KB in %d ms", locale, resident ? "resident" : "preloaded", Integer.valueOf(entries), Integer.valueOf(keys), Long.valueOf(footprint / 1024), Long.valueOf(duration / 1000000));
+	}
+}
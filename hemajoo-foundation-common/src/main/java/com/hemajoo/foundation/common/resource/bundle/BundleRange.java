@@ -0,0 +1,132 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.util.Locale;
+
+import lombok.NonNull;
+
+/**
+ * Range of the consecutive entries merged from a resource bundle file into the store of a catalog.
+ * <p>
+ * A catalog keeps the ranges of its registered resource bundle files rather than the resource bundles themselves,
+ * the values being only held once by the store of the catalog.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+final class BundleRange
+{
+	/**
+	 * Resource bundle file.
+	 */
+	private final String filename;
+
+	/**
+	 * Root of the keys (ending with a dot).
+	 */
+	private final String root;
+
+	/**
+	 * Locale of the resolved resource bundle.
+	 */
+	private final Locale locale;
+
+	/**
+	 * First entry number (inclusive).
+	 */
+	private final int first;
+
+	/**
+	 * Last entry number (exclusive).
+	 */
+	private final int end;
+
+	/**
+	 * Creates a new range.
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 * @param root Root of the keys (ending with a dot).
+	 * @param locale Locale of the resolved resource bundle.
+	 * @param first First entry number (inclusive).
+	 * @param end Last entry number (exclusive).
+	 */
+	BundleRange(final @NonNull String filename, final @NonNull String root, final @NonNull Locale locale, final int first, final int end)
+	{
+		this.filename = filename;
+		this.root = root;
+		this.locale = locale;
+		this.first = first;
+		this.end = end;
+	}
+
+	/**
+	 * Returns the resource bundle file.
+	 * <hr>
+	 * @return File name.
+	 */
+	final String getFilename()
+	{
+		return filename;
+	}
+
+	/**
+	 * Returns the root of the keys.
+	 * <hr>
+	 * @return Root (ending with a dot).
+	 */
+	final String getRoot()
+	{
+		return root;
+	}
+
+	/**
+	 * Returns the locale of the resolved resource bundle.
+	 * <hr>
+	 * @return Locale.
+	 */
+	final Locale getLocale()
+	{
+		return locale;
+	}
+
+	/**
+	 * Returns the first entry number of the range (inclusive).
+	 * <hr>
+	 * @return Entry number.
+	 */
+	final int getFirst()
+	{
+		return first;
+	}
+
+	/**
+	 * Returns the last entry number of the range (exclusive).
+	 * <hr>
+	 * @return Entry number.
+	 */
+	final int getEnd()
+	{
+		return end;
+	}
+
+	/**
+	 * Returns if an entry belongs to the range.
+	 * <hr>
+	 * @param entry Entry number.
+	 * @return {@code True} if the entry belongs to the range, {@code false} otherwise.
+	 */
+	final boolean contains(final int entry)
+	{
+		return entry >= first && entry < end;
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+
+import lombok.NonNull;
+
+/**
+ * Result of the reload of an external resource bundle file by a {@link BundleWatcher}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleReload
+{
+	/**
+	 * Resource bundle file.
+	 */
+	private final String filename;
+
+	/**
+	 * Locale of the resource bundle file.
+	 */
+	private final Locale locale;
+
+	/**
+	 * Number of keys added.
+	 */
+	private final int added;
+
+	/**
+	 * Number of keys whose value has changed.
+	 */
+	private final int changed;
+
+	/**
+	 * Number of keys removed.
+	 */
+	private final int removed;
+
+	/**
+	 * Keys added.
+	 */
+	private final Set<String> addedKeys;
+
+	/**
+	 * Keys whose value has changed.
+	 */
+	private final Set<String> changedKeys;
+
+	/**
+	 * Keys removed.
+	 */
+	private final Set<String> removedKeys;
+
+	/**
+	 * Number of catalogs updated.
+	 */
+	private final int catalogs;
+
+	/**
+	 * Duration of the reload (in nanoseconds).
+	 */
+	private final long duration;
+
+	/**
+	 * Creates a new reload result.
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 * @param locale Locale of the resource bundle file.
+	 * @param added Number of keys added.
+	 * @param changed Number of keys whose value has changed.
+	 * @param removed Number of keys removed.
+	 * @param addedKeys Keys added.
+	 * @param changedKeys Keys whose value has changed.
+	 * @param removedKeys Keys removed.
+	 * @param catalogs Number of catalogs updated.
+	 * @param duration Duration of the reload (in nanoseconds).
+	 */
+	BundleReload(final @NonNull String filename, final @NonNull Locale locale, final int added, final int changed, final int removed, final @NonNull Set<String> addedKeys, final @NonNull Set<String> changedKeys, final @NonNull Set<String> removedKeys, final int catalogs, final long duration)
+	{
+		this.filename = filename;
+		this.locale = locale;
+		this.added = added;
+		this.changed = changed;
+		this.removed = removed;
+		this.addedKeys = Collections.unmodifiableSet(addedKeys);
+		this.changedKeys = Collections.unmodifiableSet(changedKeys);
+		this.removedKeys = Collections.unmodifiableSet(removedKeys);
+		this.catalogs = catalogs;
+		this.duration = duration;
+	}
+
+	/**
+	 * Returns the resource bundle file.
+	 * <hr>
+	 * @return File name.
+	 */
+	public final String getFilename()
+	{
+		return filename;
+	}
+
+	/**
+	 * Returns the locale of the resource bundle file.
+	 * <hr>
+	 * @return Locale ({@link Locale#ROOT} for the default file).
+	 */
+	public final Locale getLocale()
+	{
+		return locale;
+	}
+
+	/**
+	 * Returns the number of keys added (counted on the catalogs updated).
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	public final int getAdded()
+	{
+		return added;
+	}
+
+	/**
+	 * Returns the number of keys whose value has changed (counted on the catalogs updated).
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	public final int getChanged()
+	{
+		return changed;
+	}
+
+	/**
+	 * Returns the number of keys removed (counted on the catalogs updated).
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	public final int getRemoved()
+	{
+		return removed;
+	}
+
+	/**
+	 * Returns the keys added (in any of the catalogs updated).
+	 * <hr>
+	 * @return Keys.
+	 */
+	public final Set<String> getAddedKeys()
+	{
+		return addedKeys;
+	}
+
+	/**
+	 * Returns the keys whose value has changed (in any of the catalogs updated).
+	 * <hr>
+	 * @return Keys.
+	 */
+	public final Set<String> getChangedKeys()
+	{
+		return changedKeys;
+	}
+
+	/**
+	 * Returns the keys removed (in any of the catalogs updated).
+	 * <hr>
+	 * @return Keys.
+	 */
+	public final Set<String> getRemovedKeys()
+	{
+		return removedKeys;
+	}
+
+	/**
+	 * Returns the number of catalogs updated.
+	 * <hr>
+	 * @return Number of catalogs.
+	 */
+	public final int getCatalogs()
+	{
+		return catalogs;
+	}
+
+	/**
+	 * Returns the duration of the reload.
+	 * <hr>
+	 * @return Duration in nanoseconds.
+	 */
+	public final long getDuration()
+	{
+		return duration;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("Resource bundle: '%s' [locale=%s] reloaded: %d key(s) added, %d key(s) changed, %d key(s) removed in %d catalog(s) in %d ms", filename, locale, Integer.valueOf(added), Integer.valueOf(changed), Integer.valueOf(removed), Integer.valueOf(catalogs), Long.valueOf(duration / 1000000));
+	}
+}
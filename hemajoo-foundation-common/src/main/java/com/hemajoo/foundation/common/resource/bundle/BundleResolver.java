@@ -0,0 +1,252 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hemajoo.foundation.common.resource.bundle.binary.BinaryBundleControl;
+import com.hemajoo.foundation.common.resource.bundle.loader.PropertiesBundleLoader;
+
+import lombok.NonNull;
+
+/**
+ * Resolves the resource bundle files of a catalog, each resource bundle file being resolved at most once per
+ * requested locale (and fall-back locale) for the lifetime of the catalog.
+ * <p>
+ * A resolution holds the resource bundle to merge into the catalog, its fall-back chain (for example
+ * {@code fr_CA -> fr -> root}) being already linked by the loader, so the entries of a
+ * resource bundle file are merged in a single pass without loading it again. Once merged, the resolutions of a
+ * resource bundle file are released, the catalog holding the entries on its own.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+final class BundleResolver
+{
+	/**
+	 * Loader of the {@code .properties} resource bundle files (shared by the catalogs, so the resource bundle files
+	 * found missing are only probed once).
+	 */
+	private static final PropertiesBundleLoader LOADER = new PropertiesBundleLoader(BundleResolver.class.getClassLoader());
+
+	/**
+	 * Control providing the candidate locales (the fall-back chain) of the resource bundle files.
+	 */
+	private static final ResourceBundle.Control CANDIDATES = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+	/**
+	 * Language of the catalog.
+	 */
+	private final String language;
+
+	/**
+	 * Resolutions by resource bundle file, requested locale and fall-back locale.
+	 */
+	private final Map<String, Resolution> resolutions = new ConcurrentHashMap<>();
+
+	/**
+	 * Resolution of a resource bundle file.
+	 */
+	static final class Resolution
+	{
+		/**
+		 * Resolved resource bundle.
+		 */
+		private final ResourceBundle bundle;
+
+		/**
+		 * Has the fall-back locale been used (the resource bundle of the requested locale not being for the
+		 * language of the catalog)?
+		 */
+		private final boolean fallback;
+
+		/**
+		 * Is the resolved resource bundle for the language of the catalog?
+		 */
+		private final boolean matching;
+
+		/**
+		 * Creates a new resolution.
+		 * <hr>
+		 * @param bundle Resolved resource bundle.
+		 * @param fallback Has the fall-back locale been used?
+		 * @param matching Is the resolved resource bundle for the language of the catalog?
+		 */
+		Resolution(final @NonNull ResourceBundle bundle, final boolean fallback, final boolean matching)
+		{
+			this.bundle = bundle;
+			this.fallback = fallback;
+			this.matching = matching;
+		}
+
+		/**
+		 * Returns the resolved resource bundle.
+		 * <hr>
+		 * @return Resource bundle.
+		 */
+		final ResourceBundle getBundle()
+		{
+			return bundle;
+		}
+
+		/**
+		 * Returns if the resource bundle of the requested locale was not for the language of the catalog.
+		 * <hr>
+		 * @return {@code True} if the resource bundle has been resolved through the fall-back locale (or if no
+		 * fall-back locale was given), {@code false} otherwise.
+		 */
+		final boolean isFallback()
+		{
+			return fallback;
+		}
+
+		/**
+		 * Returns if the resolved resource bundle is for the language of the catalog.
+		 * <hr>
+		 * @return {@code True} if the resource bundle is for the language of the catalog, {@code false} otherwise.
+		 */
+		final boolean isMatching()
+		{
+			return matching;
+		}
+	}
+
+	/**
+	 * Creates a new resolver for the catalog of a given locale.
+	 * <hr>
+	 * @param locale Locale of the catalog.
+	 */
+	BundleResolver(final @NonNull Locale locale)
+	{
+		this.language = locale.getLanguage();
+	}
+
+	/**
+	 * Resolves a resource bundle file.
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 * @param requested Requested locale.
+	 * @param fallback Locale to use if the resource bundle of the requested locale is not for the language of the
+	 * catalog ({@code null} for none).
+	 * @param format Resource bundle format.
+	 * @return Resolution.
+	 * @throws MissingResourceException Thrown if the resource bundle file cannot be found.
+	 */
+	final Resolution resolve(final @NonNull String filename, final @NonNull Locale requested, final Locale fallback, final @NonNull BundleFormatType format)
+	{
+		String key = filename + '|' + requested + '|' + fallback + '|' + format;
+
+		Resolution resolution = resolutions.get(key);
+		if (resolution == null)
+		{
+			ResourceBundle bundle = load(filename, requested, format);
+			if (isMatching(bundle))
+			{
+				resolution = new Resolution(bundle, false, true);
+			}
+			else if (fallback != null)
+			{
+				bundle = load(filename, fallback, format);
+				resolution = new Resolution(bundle, true, isMatching(bundle));
+			}
+			else
+			{
+				resolution = new Resolution(bundle, true, false);
+			}
+
+			resolutions.put(key, resolution);
+		}
+
+		return resolution;
+	}
+
+	/**
+	 * Releases the resolutions of a resource bundle file (once merged into the catalog).
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 */
+	final void release(final @NonNull String filename)
+	{
+		String prefix = filename + '|';
+		resolutions.keySet().removeIf(e -> e.startsWith(prefix));
+	}
+
+	/**
+	 * Returns if a resource bundle is for the language of the catalog.
+	 * <hr>
+	 * @param bundle Resource bundle.
+	 * @return {@code True} if the resource bundle is for the language of the catalog, {@code false} otherwise.
+	 */
+	private final boolean isMatching(final @NonNull ResourceBundle bundle)
+	{
+		// Languages of locales are normalized lower case codes, no need to compare their ISO 3 forms.
+		return bundle.getLocale().getLanguage().equals(language);
+	}
+
+	/**
+	 * Returns the candidate locales of a resource bundle file for a given locale (for example
+	 * {@code fr_CA -> fr -> root}).
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 * @param locale Locale.
+	 * @return Candidate locales (from the most specific one to the root one).
+	 */
+	static final List<Locale> getCandidateLocales(final @NonNull String filename, final @NonNull Locale locale)
+	{
+		return CANDIDATES.getCandidateLocales(filename, locale);
+	}
+
+	/**
+	 * Loads a resource bundle file for a given locale (without caching the resolution).
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 * @param locale Locale.
+	 * @param format Resource bundle format.
+	 * @return Resource bundle.
+	 * @throws MissingResourceException Thrown if the resource bundle file cannot be found.
+	 */
+	static final ResourceBundle load(final @NonNull String filename, final @NonNull Locale locale, final @NonNull BundleFormatType format)
+	{
+		return format == BundleFormatType.BINARY ? loadBinary(filename, locale) : LOADER.load(filename, locale);
+	}
+
+	/**
+	 * Loads the binary resource bundle file for a given locale.
+	 * <p>
+	 * The binary resource bundle files being flattened, the candidate locales (for example {@code fr_CA -> fr}) are
+	 * probed one at a time, the first one found being returned alone (the base binary resource bundle file otherwise).
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 * @param locale Locale.
+	 * @return Resource bundle.
+	 * @throws MissingResourceException Thrown if the resource bundle file cannot be found.
+	 */
+	private static final ResourceBundle loadBinary(final @NonNull String filename, final @NonNull Locale locale)
+	{
+		ResourceBundle bundle = null;
+		for (Locale candidate : getCandidateLocales(filename, locale))
+		{
+			bundle = ResourceBundle.getBundle(filename, candidate, BinaryBundleControl.INSTANCE);
+			if (!Locale.ROOT.equals(bundle.getLocale()))
+			{
+				break;
+			}
+		}
+
+		return bundle;
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
+import com.hemajoo.foundation.common.resource.bundle.visitor.BundleMetadata;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Cache file persisting the result of a class path scan for the classes annotated with the {@link Bundle}
+ * annotation, so that an unchanged deployment does not scan the class path again on the next start.
+ * <p>
+ * The cache is keyed by a fingerprint of the class path entries (path, size and last modification time of each
+ * archive and of each file of a directory) and of the packages the scan is restricted to, a cache having another
+ * fingerprint being ignored (and overwritten). As the cache file may have been written by someone else, each cached
+ * class must still carry the {@link Bundle} annotation (read from its class file) for the cache to be reused.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@Log4j
+final class BundleScanCache
+{
+	/**
+	 * Header line prefix holding the fingerprint of the class path.
+	 */
+	@SuppressWarnings("nls")
+	private static final String FINGERPRINT = "# fingerprint ";
+
+	/**
+	 * Path of the cache file.
+	 */
+	private final Path file;
+
+	/**
+	 * Creates a new scan cache.
+	 * <hr>
+	 * @param file Path of the cache file.
+	 */
+	BundleScanCache(final @NonNull Path file)
+	{
+		this.file = file;
+	}
+
+	/**
+	 * Computes the fingerprint of a class path scan.
+	 * <hr>
+	 * @param classPath Class path (entries separated by the path separator).
+	 * @param packages Packages the scan is restricted to.
+	 * @return Fingerprint.
+	 * @throws IOException Thrown if a directory of the class path cannot be walked.
+	 */
+	@SuppressWarnings("nls")
+	static final String fingerprint(final @NonNull String classPath, final @NonNull List<String> packages) throws IOException
+	{
+		MessageDigest digest;
+		try
+		{
+			digest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IOException(e.getMessage(), e);
+		}
+
+		digest.update((String.join(",", packages) + "\n").getBytes(StandardCharsets.UTF_8));
+
+		for (String entry : classPath.split(File.pathSeparator))
+		{
+			if (entry.isEmpty())
+			{
+				continue;
+			}
+
+			Path path = Paths.get(entry);
+			update(digest, entry, path);
+
+			if (Files.isDirectory(path))
+			{
+				try (Stream<Path> files = Files.walk(path))
+				{
+					for (Path child : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList()))
+					{
+						update(digest, path.relativize(child).toString(), child);
+					}
+				}
+			}
+		}
+
+		StringBuilder builder = new StringBuilder();
+		for (byte b : digest.digest())
+		{
+			builder.append(String.format("%02x", Byte.valueOf(b)));
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Updates a digest with the name, size and last modification time of a file.
+	 * <hr>
+	 * @param digest Digest.
+	 * @param name Name of the file.
+	 * @param path Path of the file.
+	 * @throws IOException Thrown if the attributes of the file cannot be read.
+	 */
+	@SuppressWarnings("nls")
+	private static final void update(final MessageDigest digest, final String name, final Path path) throws IOException
+	{
+		String line;
+		if (Files.exists(path))
+		{
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			line = String.format("%s\t%d\t%d\n", name, Long.valueOf(attributes.isDirectory() ? 0 : attributes.size()), Long.valueOf(attributes.isDirectory() ? 0 : attributes.lastModifiedTime().toMillis()));
+		}
+		else
+		{
+			line = name + "\t-\n";
+		}
+
+		digest.update(line.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Reads the annotated class names from the cache file.
+	 * <hr>
+	 * @param fingerprint Fingerprint of the current class path.
+	 * @param loader Class loader used to check the cached classes.
+	 * @return Class names by priority or {@code null} if the cache file does not exist, is invalid, has been
+	 * written for another class path or holds a class not annotated with the {@link Bundle} annotation (with the
+	 * cached priority).
+	 */
+	@SuppressWarnings("nls")
+	final Map<Integer, List<String>> read(final @NonNull String fingerprint, final @NonNull ClassLoader loader)
+	{
+		if (!Files.isRegularFile(file))
+		{
+			return null;
+		}
+
+		Map<Integer, List<String>> classes = new TreeMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+		{
+			if (!(FINGERPRINT + fingerprint).equals(reader.readLine()))
+			{
+				log.info(String.format("Resource bundle scan cache: '%s' is stale", file));
+				return null;
+			}
+
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				String[] fields = line.split("\t", -1);
+				if (fields.length != 2)
+				{
+					log.warn(String.format("Invalid resource bundle scan cache entry: '%s' in: '%s'", line, file));
+					return null;
+				}
+
+				Integer priority = Integer.valueOf(fields[0]);
+				BundleMetadata metadata = BundleMetadata.read(loader, fields[1]);
+				if (metadata == null || metadata.getPriority() != priority.intValue())
+				{
+					log.warn(String.format("Invalid resource bundle scan cache entry: '%s' (not annotated) in: '%s'", fields[1], file));
+					return null;
+				}
+
+				classes.computeIfAbsent(priority, k -> new ArrayList<>()).add(fields[1]);
+			}
+		}
+		catch (IOException | NumberFormatException e)
+		{
+			log.warn(String.format("Cannot read resource bundle scan cache: '%s' due to: %s", file, e.getMessage()));
+			return null;
+		}
+
+		return classes;
+	}
+
+	/**
+	 * Writes the annotated class names to the cache file.
+	 * <p>
+	 * The cache file is replaced atomically (when supported by the file system) so that a concurrent start never
+	 * reads a partially written cache. A cache file that cannot be written is only reported.
+	 * <hr>
+	 * @param fingerprint Fingerprint of the current class path.
+	 * @param classes Class names by priority.
+	 */
+	@SuppressWarnings("nls")
+	final void write(final @NonNull String fingerprint, final @NonNull Map<Integer, List<String>> classes)
+	{
+		Path temporary = null;
+		try
+		{
+			Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+			try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8))
+			{
+				writer.write(FINGERPRINT + fingerprint);
+				writer.newLine();
+				for (Map.Entry<Integer, List<String>> tier : classes.entrySet())
+				{
+					for (String className : tier.getValue())
+					{
+						writer.write(tier.getKey() + "\t" + className);
+						writer.newLine();
+					}
+				}
+			}
+
+			try
+			{
+				Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException e)
+		{
+			log.warn(String.format("Cannot write resource bundle scan cache: '%s' due to: %s", file, e.getMessage()));
+
+			try
+			{
+				if (temporary != null)
+				{
+					Files.deleteIfExists(temporary);
+				}
+			}
+			catch (IOException ignored)
+			{
+				// Nothing more to do.
+			}
+		}
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+/**
+ * Enumeration of the storage type of the resource bundle entries of a catalog.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public enum BundleStorageType
+{
+	/**
+	 * Heap storage: the entries are kept as strings in a hash map, values are read without any decoding.
+	 * @see com.hemajoo.foundation.common.resource.bundle.store.HeapBundleStore
+	 */
+	HEAP,
+
+	/**
+	 * Slab storage: the entries are packed as UTF-8 bytes into a slab, values are decoded on each read but an entry
+	 * costs several times less memory.
+	 * @see com.hemajoo.foundation.common.resource.bundle.store.SlabBundleStore
+	 */
+	SLAB;
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.util.Locale;
+
+import com.hemajoo.foundation.common.resource.bundle.store.IBundleStore;
+
+import lombok.NonNull;
+
+/**
+ * Resolved entries of an annotated enumeration class implementing the {@link IBundle} interface, indexed by the
+ * ordinal of the enumerated values.
+ * <p>
+ * The values are read from the store of the catalog, the table only holding their entry numbers. The message
+ * templates are compiled on first use and cached next to their entry.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+final class BundleTable
+{
+	/**
+	 * Locale of the values.
+	 */
+	private final Locale locale;
+
+	/**
+	 * Store holding the values.
+	 */
+	private final IBundleStore store;
+
+	/**
+	 * Entry numbers indexed by ordinal ({@code -1} when the key does not exist in the resource bundle).
+	 */
+	private final int[] entries;
+
+	/**
+	 * Compiled message templates indexed by ordinal (lazily filled).
+	 */
+	private final MessageTemplate[] templates;
+
+	/**
+	 * Creates a new bundle table.
+	 * <hr>
+	 * @param store Store holding the values.
+	 * @param entries Entry numbers indexed by ordinal.
+	 * @param locale Locale of the values.
+	 */
+	BundleTable(final @NonNull IBundleStore store, final @NonNull int[] entries, final @NonNull Locale locale)
+	{
+		this.store = store;
+		this.entries = entries;
+		this.locale = locale;
+		this.templates = new MessageTemplate[entries.length];
+	}
+
+	/**
+	 * Returns the value of an enumerated value.
+	 * <hr>
+	 * @param ordinal Ordinal of the enumerated value.
+	 * @return Value or {@code null} if the key does not exist.
+	 */
+	final String getValue(final int ordinal)
+	{
+		return entries[ordinal] < 0 ? null : store.get(entries[ordinal]);
+	}
+
+	/**
+	 * Returns the compiled message template of an enumerated value.
+	 * <hr>
+	 * @param ordinal Ordinal of the enumerated value.
+	 * @return Message template or {@code null} if the key does not exist.
+	 */
+	final MessageTemplate getTemplate(final int ordinal)
+	{
+		// Racing threads may compile the same template, templates being immutable, any of them can be kept.
+		MessageTemplate template = templates[ordinal];
+		if (template == null && entries[ordinal] >= 0)
+		{
+			template = MessageTemplate.compile(store.get(entries[ordinal]), locale);
+			templates[ordinal] = template;
+		}
+
+		return template;
+	}
+}
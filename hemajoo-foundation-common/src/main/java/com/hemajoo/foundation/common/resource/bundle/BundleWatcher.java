@@ -0,0 +1,427 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Watches an external directory of resource bundle files (laid out as on the class path, for example
+ * {@code bundle/color/color_fr.properties}) and reloads the modified files into the catalogs of the
+ * {@link ResourceBundleManager}, without restarting nor changing the locale.
+ * <p>
+ * The changes are debounced: a burst of file events (an editor saving a file in several steps for example) results
+ * in a single reload of each modified file, once no event has been received for the debounce delay. Each modified
+ * file is parsed on its own and only the keys whose value differs from the live catalogs are counted as a delta,
+ * only the entries of the resource bundle file being patched in the catalogs holding it. A file that cannot be
+ * reloaded (a malformed one for example) is reported and skipped, the watcher carrying on.
+ * <p>
+ * A deleted file is unloaded (the catalogs getting back the values of the class path), as are all the files
+ * reloaded by the watcher once it is closed.
+ * <p>
+ * A watcher is created by {@link ResourceBundleManager#watch(Path)} and runs on a daemon thread until closed.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@Log4j
+public final class BundleWatcher implements Closeable
+{
+	/**
+	 * Extension of the watched resource bundle files.
+	 */
+	@SuppressWarnings("nls")
+	private static final String EXTENSION = ".properties";
+
+	/**
+	 * Watched directory.
+	 */
+	private final Path directory;
+
+	/**
+	 * Debounce delay (in milliseconds).
+	 */
+	private final long debounce;
+
+	/**
+	 * Watch service.
+	 */
+	private final WatchService service;
+
+	/**
+	 * Watched directories by watch key.
+	 */
+	private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+	/**
+	 * Resource bundle files reloaded (to unload when deleted or when the watcher is closed).
+	 */
+	private final Set<Path> reloaded = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Thread processing the file events.
+	 */
+	private final Thread thread;
+
+	/**
+	 * Number of reloads.
+	 */
+	private final AtomicLong reloads = new AtomicLong();
+
+	/**
+	 * Number of keys added by the reloads.
+	 */
+	private final AtomicLong added = new AtomicLong();
+
+	/**
+	 * Number of keys changed by the reloads.
+	 */
+	private final AtomicLong changed = new AtomicLong();
+
+	/**
+	 * Number of keys removed by the reloads.
+	 */
+	private final AtomicLong removed = new AtomicLong();
+
+	/**
+	 * Last reload ({@code null} if none).
+	 */
+	private volatile BundleReload last = null;
+
+	/**
+	 * Creates a new watcher, reloading the resource bundle files already in the directory before watching it.
+	 * <hr>
+	 * @param directory Directory to watch.
+	 * @param debounce Debounce delay (in milliseconds).
+	 * @throws IOException Thrown if the directory cannot be watched.
+	 */
+	@SuppressWarnings("nls")
+	BundleWatcher(final @NonNull Path directory, final long debounce) throws IOException
+	{
+		this.directory = directory.toAbsolutePath().normalize();
+		this.debounce = debounce;
+		this.service = FileSystems.getDefault().newWatchService();
+
+		try
+		{
+			register(this.directory);
+
+			try (Stream<Path> files = Files.walk(this.directory))
+			{
+				files.filter(e -> e.toString().endsWith(EXTENSION) && Files.isRegularFile(e)).forEach(this::reload);
+			}
+		}
+		catch (IOException e)
+		{
+			service.close();
+			reloaded.forEach(this::unload);
+			throw e;
+		}
+
+		thread = new Thread(this::run, "hemajoo-bundle-watcher");
+		thread.setDaemon(true);
+		thread.start();
+
+		log.info(String.format("Watching resource bundle directory: '%s'", this.directory));
+	}
+
+	/**
+	 * Returns the watched directory.
+	 * <hr>
+	 * @return Directory.
+	 */
+	public final Path getDirectory()
+	{
+		return directory;
+	}
+
+	/**
+	 * Returns the number of reloads.
+	 * <hr>
+	 * @return Number of reloads.
+	 */
+	public final long getReloadCount()
+	{
+		return reloads.get();
+	}
+
+	/**
+	 * Returns the number of keys added by the reloads.
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	public final long getAddedCount()
+	{
+		return added.get();
+	}
+
+	/**
+	 * Returns the number of keys changed by the reloads.
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	public final long getChangedCount()
+	{
+		return changed.get();
+	}
+
+	/**
+	 * Returns the number of keys removed by the reloads.
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	public final long getRemovedCount()
+	{
+		return removed.get();
+	}
+
+	/**
+	 * Returns the last reload.
+	 * <hr>
+	 * @return Reload or {@code null} if none.
+	 */
+	public final BundleReload getLastReload()
+	{
+		return last;
+	}
+
+	/**
+	 * Returns if the watcher is running.
+	 * <hr>
+	 * @return {@code True} if the watcher is running, {@code false} if it has been closed.
+	 */
+	public final boolean isRunning()
+	{
+		return thread.isAlive();
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void close() throws IOException
+	{
+		service.close();
+		thread.interrupt();
+
+		// Waits for a reload in progress, so its values are unloaded too.
+		if (Thread.currentThread() != thread)
+		{
+			try
+			{
+				thread.join();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		reloaded.forEach(this::unload);
+
+		log.info(String.format("Stopped watching resource bundle directory: '%s'", directory));
+	}
+
+	/**
+	 * Processes the file events until the watcher is closed.
+	 */
+	private final void run()
+	{
+		try
+		{
+			while (!Thread.currentThread().isInterrupted())
+			{
+				Set<Path> modified = new TreeSet<>();
+				collect(service.take(), modified);
+
+				// Debounce: waits for the burst of events to end.
+				WatchKey key;
+				while ((key = service.poll(debounce, TimeUnit.MILLISECONDS)) != null)
+				{
+					collect(key, modified);
+				}
+
+				for (Path file : modified)
+				{
+					if (Files.isRegularFile(file))
+					{
+						reload(file);
+					}
+					else if (Files.notExists(file))
+					{
+						unload(file);
+					}
+				}
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch (ClosedWatchServiceException e)
+		{
+			// Closed.
+		}
+	}
+
+	/**
+	 * Collects the resource bundle files modified (or deleted) according to the events of a watch key.
+	 * <hr>
+	 * @param key Watch key.
+	 * @param modified Modified (or deleted) files.
+	 */
+	@SuppressWarnings("nls")
+	private final void collect(final @NonNull WatchKey key, final @NonNull Set<Path> modified)
+	{
+		Path parent = directories.get(key);
+		for (WatchEvent<?> event : key.pollEvents())
+		{
+			if (parent == null || event.kind() == StandardWatchEventKinds.OVERFLOW)
+			{
+				continue;
+			}
+
+			Path path = parent.resolve((Path) event.context());
+			if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path))
+			{
+				try
+				{
+					// Files created before the directory is registered do not raise any event.
+					register(path);
+					try (Stream<Path> files = Files.walk(path))
+					{
+						files.filter(e -> e.toString().endsWith(EXTENSION)).forEach(modified::add);
+					}
+				}
+				catch (IOException e)
+				{
+					log.error(String.format("Cannot watch resource bundle directory: '%s'", path), e);
+				}
+			}
+			else if (path.toString().endsWith(EXTENSION))
+			{
+				modified.add(path);
+			}
+			else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE)
+			{
+				// A deleted directory: the files reloaded from it.
+				reloaded.stream().filter(e -> e.startsWith(path)).forEach(modified::add);
+			}
+		}
+
+		if (!key.reset())
+		{
+			directories.remove(key);
+		}
+	}
+
+	/**
+	 * Registers a directory and its sub-directories to the watch service.
+	 * <hr>
+	 * @param root Directory.
+	 * @throws IOException Thrown if a directory cannot be registered.
+	 */
+	private final void register(final @NonNull Path root) throws IOException
+	{
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>()
+		{
+			@Override
+			public final FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attributes) throws IOException
+			{
+				directories.put(dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), dir);
+
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * Reloads a resource bundle file.
+	 * <hr>
+	 * @param file Resource bundle file.
+	 */
+	@SuppressWarnings("nls")
+	private final void reload(final @NonNull Path file)
+	{
+		try
+		{
+			BundleReload reload = ResourceBundleManager.reload(directory.relativize(file), file);
+			if (reload != null)
+			{
+				reloaded.add(file);
+				record(reload);
+			}
+		}
+		catch (IOException | RuntimeException e)
+		{
+			log.error(String.format("Cannot reload resource bundle file: '%s'", file), e);
+		}
+	}
+
+	/**
+	 * Unloads a resource bundle file.
+	 * <hr>
+	 * @param file Resource bundle file.
+	 */
+	@SuppressWarnings("nls")
+	private final void unload(final @NonNull Path file)
+	{
+		try
+		{
+			reloaded.remove(file);
+			BundleReload reload = ResourceBundleManager.unload(directory.relativize(file));
+			if (reload != null)
+			{
+				record(reload);
+			}
+		}
+		catch (RuntimeException e)
+		{
+			log.error(String.format("Cannot unload resource bundle file: '%s'", file), e);
+		}
+	}
+
+	/**
+	 * Records a reload.
+	 * <hr>
+	 * @param reload Reload.
+	 */
+	private final void record(final @NonNull BundleReload reload)
+	{
+		reloads.incrementAndGet();
+		added.addAndGet(reload.getAdded());
+		changed.addAndGet(reload.getChanged());
+		removed.addAndGet(reload.getRemoved());
+		last = reload;
+
+		log.info(reload.toString());
+	}
+}
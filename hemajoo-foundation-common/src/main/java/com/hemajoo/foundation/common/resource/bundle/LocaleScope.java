@@ -0,0 +1,111 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.util.Locale;
+
+import lombok.NonNull;
+
+/**
+ * A locale scope overrides, for the current thread only, the locale used by the {@link ResourceBundleManager} to
+ * resolve the messages.
+ * <p>
+ * Scopes are opened through {@link ResourceBundleManager#openScope(Locale)} and can be nested, closing a scope
+ * restores the locale of the enclosing scope (if any). Neither the manager locale nor the JVM default locale are
+ * modified, so threads serving different languages can use the manager at the same time.
+ * <p>
+ * <b>Code sample:</b><p>
+ * <code>
+ * try (LocaleScope scope = ResourceBundleManager.openScope(Locale.GERMAN))<br>
+ * {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;message = ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY);<br>
+ * }
+ * </code>
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class LocaleScope implements AutoCloseable
+{
+	/**
+	 * Locale of the current thread ({@code null} when no scope is opened).
+	 */
+	private static final ThreadLocal<Locale> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Locale of the scope.
+	 */
+	private final Locale locale;
+
+	/**
+	 * Locale of the enclosing scope ({@code null} if none).
+	 */
+	private final Locale previous;
+
+	/**
+	 * Thread owning the scope.
+	 */
+	private final Thread owner;
+
+	/**
+	 * Opens a new locale scope for the current thread.
+	 * <hr>
+	 * @param locale Locale of the scope.
+	 */
+	LocaleScope(final @NonNull Locale locale)
+	{
+		this.locale = locale;
+		this.previous = CURRENT.get();
+		this.owner = Thread.currentThread();
+
+		CURRENT.set(locale);
+	}
+
+	/**
+	 * Returns the locale of the current thread scope.
+	 * <hr>
+	 * @return Locale or {@code null} if no scope is opened for the current thread.
+	 */
+	static final Locale current()
+	{
+		return CURRENT.get();
+	}
+
+	/**
+	 * Returns the locale of the scope.
+	 * <hr>
+	 * @return Locale.
+	 */
+	public final Locale getLocale()
+	{
+		return locale;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void close()
+	{
+		if (Thread.currentThread() != owner)
+		{
+			throw new IllegalStateException("A locale scope must be closed by the thread having opened it!");
+		}
+
+		if (previous == null)
+		{
+			CURRENT.remove();
+		}
+		else
+		{
+			CURRENT.set(previous);
+		}
+	}
+}
@@ -0,0 +1,552 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle;
+
+import java.text.ChoiceFormat;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+/**
+ * A message template is a pre-compiled {@link MessageFormat} pattern.
+ * <p>
+ * The pattern is parsed once into literal and argument segments so that formatting a message neither re-parses the
+ * pattern nor creates a new {@link MessageFormat} instance. Messages are rendered into a per-thread reused
+ * {@link StringBuilder}.
+ * <p>
+ * The output is the same as the one produced by {@link MessageFormat} for the same pattern and locale. Patterns
+ * containing a {@code choice} sub-format are delegated to a {@link MessageFormat} instance.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class MessageTemplate
+{
+	/**
+	 * Maximum number of templates cached per locale by the {@link #of(String, Locale)} service.
+	 */
+	private static final int CACHE_LIMIT = 4096;
+
+	/**
+	 * Maximum capacity of a per-thread buffer to be kept for reuse.
+	 */
+	private static final int BUFFER_LIMIT = 8192;
+
+	/**
+	 * Thread-safe collection of the cached templates (by locale and pattern).
+	 */
+	private static final Map<Locale, Map<String, MessageTemplate>> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Per-thread reusable rendering buffer.
+	 */
+	private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+	/**
+	 * Source pattern.
+	 */
+	private final String pattern;
+
+	/**
+	 * Locale used to format the arguments.
+	 */
+	private final Locale locale;
+
+	/**
+	 * Literal segments. The literal at index {@code i} precedes the argument at index {@code i}, the last one
+	 * being the trailing literal.
+	 */
+	private final String[] literals;
+
+	/**
+	 * Argument indexes of the argument segments.
+	 */
+	private final int[] arguments;
+
+	/**
+	 * Explicit sub-formats of the argument segments ({@code null} when the argument has no format type).
+	 */
+	private final Format[] formats;
+
+	/**
+	 * Message rendered without any argument.
+	 */
+	private final String plain;
+
+	/**
+	 * Message format the rendering is delegated to for patterns that cannot be compiled.
+	 */
+	private final MessageFormat fallback;
+
+	/**
+	 * Default number format (lazily created).
+	 */
+	private volatile NumberFormat numberFormat;
+
+	/**
+	 * Default date format (lazily created).
+	 */
+	private volatile DateFormat dateFormat;
+
+	/**
+	 * Creates a new message template.
+	 * <hr>
+	 * @param pattern Message pattern.
+	 * @param locale Locale used to format the arguments.
+	 * @throws IllegalArgumentException Thrown if the pattern is invalid.
+	 */
+	private MessageTemplate(final @NonNull String pattern, final @NonNull Locale locale)
+	{
+		this.pattern = pattern;
+		this.locale = locale;
+
+		// Let the message format validate the pattern and build the sub-formats (in order of occurrence).
+		MessageFormat format = new MessageFormat(pattern, locale);
+		Format[] occurrences = format.getFormats();
+
+		List<String> texts = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		boolean delegate = parse(pattern, texts, indexes) != occurrences.length;
+		for (Format occurrence : occurrences)
+		{
+			delegate |= occurrence instanceof ChoiceFormat;
+		}
+
+		if (delegate)
+		{
+			this.fallback = format;
+			this.literals = null;
+			this.arguments = null;
+			this.formats = null;
+			this.plain = format.format(null, new StringBuffer(), null).toString();
+		}
+		else
+		{
+			this.fallback = null;
+			this.literals = texts.toArray(new String[texts.size()]);
+			this.arguments = new int[indexes.size()];
+			for (int i = 0; i < arguments.length; i++)
+			{
+				arguments[i] = indexes.get(i).intValue();
+			}
+			this.formats = occurrences;
+
+			StringBuilder builder = new StringBuilder(pattern.length());
+			render(builder, null);
+			this.plain = builder.toString();
+		}
+	}
+
+	/**
+	 * Compiles a message pattern using the default formatting locale.
+	 * <hr>
+	 * @param pattern Message pattern.
+	 * @return Message template.
+	 * @throws IllegalArgumentException Thrown if the pattern is invalid.
+	 */
+	public static final MessageTemplate compile(final @NonNull String pattern)
+	{
+		return compile(pattern, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * Compiles a message pattern.
+	 * <hr>
+	 * @param pattern Message pattern.
+	 * @param locale Locale used to format the arguments.
+	 * @return Message template.
+	 * @throws IllegalArgumentException Thrown if the pattern is invalid.
+	 */
+	public static final MessageTemplate compile(final @NonNull String pattern, final @NonNull Locale locale)
+	{
+		return new MessageTemplate(pattern, locale);
+	}
+
+	/**
+	 * Returns a cached message template for the given pattern using the default formatting locale.
+	 * <hr>
+	 * @param pattern Message pattern.
+	 * @return Message template.
+	 * @throws IllegalArgumentException Thrown if the pattern is invalid.
+	 */
+	public static final MessageTemplate of(final @NonNull String pattern)
+	{
+		return of(pattern, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * Returns a cached message template for the given pattern and locale.
+	 * <hr>
+	 * @param pattern Message pattern.
+	 * @param locale Locale used to format the arguments.
+	 * @return Message template.
+	 * @throws IllegalArgumentException Thrown if the pattern is invalid.
+	 */
+	public static final MessageTemplate of(final @NonNull String pattern, final @NonNull Locale locale)
+	{
+		Map<String, MessageTemplate> templates = CACHE.computeIfAbsent(locale, e -> new ConcurrentHashMap<>());
+
+		MessageTemplate template = templates.get(pattern);
+		if (template == null)
+		{
+			template = compile(pattern, locale);
+			if (templates.size() < CACHE_LIMIT)
+			{
+				templates.putIfAbsent(pattern, template);
+			}
+		}
+
+		return template;
+	}
+
+	/**
+	 * Returns the source pattern.
+	 * <hr>
+	 * @return Pattern.
+	 */
+	public final String getPattern()
+	{
+		return pattern;
+	}
+
+	/**
+	 * Returns the locale used to format the arguments.
+	 * <hr>
+	 * @return Locale.
+	 */
+	public final Locale getLocale()
+	{
+		return locale;
+	}
+
+	/**
+	 * Formats a message.
+	 * <hr>
+	 * @param parameters Parameters to inject in the message.
+	 * @return Formatted message.
+	 */
+	public final String format(final Object... parameters)
+	{
+		if (parameters == null || parameters.length == 0)
+		{
+			return plain;
+		}
+
+		Buffer buffer = BUFFER.get();
+		StringBuilder builder = buffer.acquire();
+		try
+		{
+			formatTo(builder, parameters);
+			return builder.toString();
+		}
+		finally
+		{
+			buffer.release(builder);
+		}
+	}
+
+	/**
+	 * Formats a message and appends it to the given builder.
+	 * <hr>
+	 * @param builder Builder to append the message to.
+	 * @param parameters Parameters to inject in the message.
+	 * @return The given builder.
+	 */
+	public final StringBuilder formatTo(final @NonNull StringBuilder builder, final Object... parameters)
+	{
+		if (parameters == null || parameters.length == 0)
+		{
+			return builder.append(plain);
+		}
+
+		if (fallback != null)
+		{
+			synchronized (fallback)
+			{
+				return builder.append(fallback.format(parameters, new StringBuffer(), null));
+			}
+		}
+
+		render(builder, parameters);
+
+		return builder;
+	}
+
+	/**
+	 * Renders the compiled segments.
+	 * <hr>
+	 * @param builder Builder to render the message into.
+	 * @param parameters Parameters to inject in the message.
+	 */
+	@SuppressWarnings("nls")
+	private final void render(final StringBuilder builder, final Object[] parameters)
+	{
+		int index;
+		Object value;
+		String text;
+
+		for (int i = 0; i < arguments.length; i++)
+		{
+			builder.append(literals[i]);
+
+			index = arguments[i];
+			if (parameters == null || index >= parameters.length)
+			{
+				builder.append('{').append(index).append('}');
+				continue;
+			}
+
+			value = parameters[index];
+			if (value == null)
+			{
+				builder.append("null");
+			}
+			else if (formats[i] != null)
+			{
+				append(builder, formats[i], value);
+			}
+			else if (value instanceof Number)
+			{
+				append(builder, getNumberFormat(), value);
+			}
+			else if (value instanceof Date)
+			{
+				append(builder, getDateFormat(), value);
+			}
+			else if (value instanceof String)
+			{
+				builder.append((String) value);
+			}
+			else
+			{
+				text = value.toString();
+				builder.append(text == null ? "null" : text);
+			}
+		}
+
+		builder.append(literals[arguments.length]);
+	}
+
+	/**
+	 * Appends a value formatted with the given format (formats are not thread-safe).
+	 * <hr>
+	 * @param builder Builder.
+	 * @param format Format.
+	 * @param value Value to format.
+	 */
+	private static final void append(final StringBuilder builder, final Format format, final Object value)
+	{
+		synchronized (format)
+		{
+			builder.append(format.format(value));
+		}
+	}
+
+	/**
+	 * Returns the default number format.
+	 * <hr>
+	 * @return Number format.
+	 */
+	private final NumberFormat getNumberFormat()
+	{
+		NumberFormat format = numberFormat;
+		if (format == null)
+		{
+			format = NumberFormat.getInstance(locale);
+			numberFormat = format;
+		}
+
+		return format;
+	}
+
+	/**
+	 * Returns the default date format.
+	 * <hr>
+	 * @return Date format.
+	 */
+	private final DateFormat getDateFormat()
+	{
+		DateFormat format = dateFormat;
+		if (format == null)
+		{
+			format = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+			dateFormat = format;
+		}
+
+		return format;
+	}
+
+	/**
+	 * Parses a (valid) pattern into literal and argument segments following the {@link MessageFormat} quoting rules.
+	 * <hr>
+	 * @param pattern Message pattern.
+	 * @param texts List receiving the literal segments.
+	 * @param indexes List receiving the argument indexes.
+	 * @return Number of argument segments.
+	 */
+	private static final int parse(final String pattern, final List<String> texts, final List<Integer> indexes)
+	{
+		StringBuilder literal = new StringBuilder(pattern.length());
+		boolean quoted = false;
+		int end;
+		int comma;
+		String body;
+		char ch;
+
+		for (int i = 0; i < pattern.length(); i++)
+		{
+			ch = pattern.charAt(i);
+			if (ch == '\'')
+			{
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'')
+				{
+					literal.append('\'');
+					i++;
+				}
+				else
+				{
+					quoted = !quoted;
+				}
+			}
+			else if (ch == '{' && !quoted)
+			{
+				end = findArgumentEnd(pattern, i + 1);
+				body = pattern.substring(i + 1, end);
+				comma = body.indexOf(',');
+
+				texts.add(literal.toString());
+				literal.setLength(0);
+				indexes.add(Integer.valueOf(comma < 0 ? body : body.substring(0, comma)));
+				i = end;
+			}
+			else
+			{
+				literal.append(ch);
+			}
+		}
+
+		texts.add(literal.toString());
+
+		return indexes.size();
+	}
+
+	/**
+	 * Finds the position of the closing brace of an argument.
+	 * <hr>
+	 * @param pattern Message pattern.
+	 * @param start Position of the first character following the opening brace.
+	 * @return Position of the closing brace.
+	 */
+	@SuppressWarnings("nls")
+	private static final int findArgumentEnd(final String pattern, final int start)
+	{
+		int depth = 0;
+		boolean quoted = false;
+		char ch;
+
+		for (int i = start; i < pattern.length(); i++)
+		{
+			ch = pattern.charAt(i);
+			if (quoted)
+			{
+				quoted = ch != '\'';
+			}
+			else if (ch == '\'')
+			{
+				quoted = true;
+			}
+			else if (ch == '{')
+			{
+				depth++;
+			}
+			else if (ch == '}')
+			{
+				if (depth == 0)
+				{
+					return i;
+				}
+				depth--;
+			}
+		}
+
+		throw new IllegalArgumentException("Unmatched braces in the pattern.");
+	}
+
+	@Override
+	public final String toString()
+	{
+		return pattern;
+	}
+
+	/**
+	 * Per-thread rendering buffer.
+	 */
+	private static final class Buffer
+	{
+		/**
+		 * Reusable builder.
+		 */
+		private StringBuilder builder = new StringBuilder(256);
+
+		/**
+		 * Is the builder currently in use (re-entrant formatting)?
+		 */
+		private boolean busy;
+
+		/**
+		 * Acquires a builder.
+		 * <hr>
+		 * @return The reusable builder or a new one if the reusable one is already in use.
+		 */
+		private final StringBuilder acquire()
+		{
+			if (busy)
+			{
+				return new StringBuilder(256);
+			}
+
+			busy = true;
+
+			return builder;
+		}
+
+		/**
+		 * Releases a builder.
+		 * <hr>
+		 * @param used Builder to release.
+		 */
+		private final void release(final StringBuilder used)
+		{
+			if (used == builder)
+			{
+				if (builder.capacity() > BUFFER_LIMIT)
+				{
+					builder = new StringBuilder(256);
+				}
+				else
+				{
+					builder.setLength(0);
+				}
+				busy = false;
+			}
+		}
+	}
+}
@@ -11,26 +11,48 @@
  */
 package com.hemajoo.foundation.common.resource.bundle;
 
-import java.lang.reflect.Method;
-import java.text.MessageFormat;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import com.hemajoo.foundation.common.annotation.AnnotationScanner;
 import com.hemajoo.foundation.common.exception.InvalidArgumentException;
 import com.hemajoo.foundation.common.exception.ResourceBundleException;
 import com.hemajoo.foundation.common.resource.ResourceException;
 import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
 import com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod;
+import com.hemajoo.foundation.common.resource.bundle.binary.BinaryBundle;
+import com.hemajoo.foundation.common.resource.bundle.binary.BinaryResourceBundle;
+import com.hemajoo.foundation.common.resource.bundle.loader.PropertiesBundleLoader;
+import com.hemajoo.foundation.common.resource.bundle.visitor.BundleMetadata;
 import com.hemajoo.foundation.common.resource.bundle.visitor.BundleVisitor;
 
-import eu.infomas.annotation.AnnotationDetector;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j;
@@ -59,14 +81,19 @@ public final class ResourceBundleManager
 	private static BundleLoadStrategyType strategy = BundleLoadStrategyType.LENIENT;
 
 	/**
-	 * Thread-safe collection of all resource bundle entries (flat mode).
+	 * Resource bundle load mode (set to eager by default).
+	 */
+	private static volatile BundleLoadModeType mode = BundleLoadModeType.EAGER;
+
+	/**
+	 * Resource bundle format (set to properties by default).
 	 */
-	private static final Map<String, String> ENTRIES = new ConcurrentHashMap<>(1000);
+	private static volatile BundleFormatType format = BundleFormatType.PROPERTIES;
 
 	/**
-	 * Thread-safe collection of resource bundles registered through annotated class.
+	 * Storage type of the catalog entries (set to heap by default).
 	 */
-	private static final Map<Class<?>, List<ResourceBundle>> CLASSES = new ConcurrentHashMap<>();
+	private static volatile BundleStorageType storage = BundleStorageType.HEAP;
 
 	/**
 	 * Thread-safe collection used to store resource bundle files directly registered (by opposition to resource bundle files
@@ -74,25 +101,140 @@ public final class ResourceBundleManager
 	 */
 	private static final Map<String, String> OTHER = new ConcurrentHashMap<>();
 
+	/**
+	 * Thread-safe collection of the values of the external resource bundle files reloaded by a {@link BundleWatcher}
+	 * (by resource bundle file and locale), overriding the values of the resource bundle files of the class path.
+	 */
+	private static final Map<String, Map<String, String>> OVERRIDES = new ConcurrentHashMap<>();
+
+	/**
+	 * Default debounce delay of a {@link BundleWatcher} (in milliseconds).
+	 */
+	private static final long DEFAULT_DEBOUNCE = 200;
+
+	/**
+	 * Lock serializing the writers (registrations and refreshes), readers only acquire it to load a catalog or a pending
+	 * resource bundle on first use.
+	 */
+	private static final Object LOCK = new Object();
+
 	/**
 	 * Default fall-back locale.
 	 */
 	public static Locale defaultLocale = Locale.ENGLISH;
 
 	/**
-	 * Locale of manager (set to english by default).
+	 * Catalog in use holding the entries for the locale of the manager (set to english by default).
+	 * <p>
+	 * Catalogs are built aside and published with a single reference swap, readers only pay a volatile read.
+	 */
+	private static final AtomicReference<BundleCatalog> CATALOG = new AtomicReference<>(new BundleCatalog(ResourceBundleManager.defaultLocale));
+
+	/**
+	 * Thread-safe collection of the catalogs loaded so far (by locale).
+	 * <p>
+	 * Catalogs are loaded once per locale and kept resident side by side so that switching the language (globally or
+	 * through a {@link LocaleScope}) only costs a map lookup.
+	 */
+	private static final Map<Locale, BundleCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+	/**
+	 * Names of the classes annotated with the {@link Bundle} annotation (by priority tier) discovered while
+	 * initializing the manager or registered afterwards. Guarded by {@link #LOCK}.
+	 */
+	private static final Map<Integer, List<String>> ANNOTATED = new TreeMap<>();
+
+	/**
+	 * Path of the cache file of the class path scan ({@code null} when disabled).
+	 */
+	private static volatile Path scanCache = getDefaultScanCache();
+
+	/**
+	 * Default loading priority of an annotated class (see {@link Bundle#priority()}).
+	 */
+	private static final int DEFAULT_PRIORITY = 100;
+
+	/**
+	 * Number of threads resolving the resource bundles of a priority tier (set to the number of processors by default).
+	 */
+	private static volatile int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Threads loading the catalogs by locale (a catalog being loaded by a single thread at a time). Guarded by
+	 * {@link #LOCK}.
+	 */
+	private static final Map<Locale, Thread> LOADING = new HashMap<>();
+
+	/**
+	 * Generation of the registrations, increased by each registration (and reload) of a resource bundle, so that a
+	 * catalog loaded without the lock knows whether it missed some of them. Guarded by {@link #LOCK}.
+	 */
+	private static long generation = 0;
+
+	/**
+	 * Names of the annotated classes whose pending resource bundle is being loaded. Guarded by {@link #LOCK}.
+	 */
+	private static final Set<String> LOADING_CLASSES = new HashSet<>();
+
+	/**
+	 * Element values of the {@link Bundle} annotation of the known annotated classes (by class name), read from their
+	 * class files so that the classes are only loaded on first use in {@link BundleLoadModeType#LAZY} mode.
+	 */
+	private static final Map<String, BundleMetadata> METADATA = new ConcurrentHashMap<>();
+
+	/**
+	 * Index of the annotated classes generated at compile time ({@code null} until the manager is initialized).
+	 */
+	private static volatile BundleIndex index = null;
+
+	/**
+	 * Resolved annotated methods of the enumeration classes annotated with the {@link Bundle} annotation.
+	 */
+	@SuppressWarnings("nls")
+	private static final ClassValue<BundleMethods> METHODS = new ClassValue<BundleMethods>()
+	{
+		@Override
+		protected BundleMethods computeValue(final Class<?> type)
+		{
+			Bundle annotation = type.getAnnotation(Bundle.class);
+			if (annotation == null)
+			{
+				String message = String.format("The class: '%s' must be annotated with the @Bundle annotation!", type.getName());
+				log.error(message);
+				throw new ResourceException(message);
+			}
+
+			BundleIndex current = index;
+
+			return new BundleMethods(annotation, type, current != null ? current.getMethodKeys(type.getName()) : Collections.emptyMap());
+		}
+	};
+
+	/**
+	 * Stack walker used to infer the calling method of the {@code getBundleValue} services.
+	 */
+	private static final StackWalker WALKER = StackWalker.getInstance();
+
+	/**
+	 * Is the manager initialized? Once set, this single volatile read is the only cost of the initialization check.
+	 */
+	private static volatile boolean isInitialized = false;
+
+	/**
+	 * Initialization of the manager ({@code null} if not yet started or failed). The thread setting it runs the
+	 * initialization, the other ones wait for it.
 	 */
-	private static Locale locale = ResourceBundleManager.defaultLocale;
+	private static final AtomicReference<CompletableFuture<Void>> INITIALIZATION = new AtomicReference<>();
 
 	/**
-	 * Is the manager initialized?
+	 * Number of initializations run (one unless an initialization has failed).
 	 */
-	private static boolean isInitialized = false;
+	private static final AtomicInteger INITIALIZATIONS = new AtomicInteger();
 
 	/**
-	 * Is the manager initializing?
+	 * Thread running the initialization of the manager ({@code null} if none).
 	 */
-	private static boolean isInitializing = false;
+	private static volatile Thread initializer = null;
 
 	static
 	{
@@ -110,7 +252,24 @@ public final class ResourceBundleManager
 	{
 		initialize();
 
-		return retrieve(key);
+		return retrieve(current(), key);
+	}
+
+	/**
+	 * Returns a resource bundle value given its key for the given locale.
+	 * <p>
+	 * The manager locale is left unchanged, the catalog of the given locale being loaded on first use.
+	 * <p>
+	 * @param key Resource bundle key.
+	 * @param locale Locale of the value.
+	 * @return Resource bundle value.
+	 */
+	@SuppressWarnings("hiding")
+	public static final String getMessage(final @NonNull String key, final @NonNull Locale locale)
+	{
+		initialize();
+
+		return retrieve(catalogOf(locale), key);
 	}
 
 	/**
@@ -147,215 +306,1688 @@ public final class ResourceBundleManager
 			throw new InvalidArgumentException(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_INVALIDKEY);
 		}
 
-		return retrieve(key, parameters);
+		return retrieve(current(), key, parameters);
 	}
 
 	/**
-	 * Do a default initialization of the resource bundle manager.
+	 * Returns a message from a resource bundle file handled by the resource
+	 * bundle manager based on a given enumerated value representing the
+	 * resource key of the message to retrieve and a given locale.
 	 * <p>
-	 * The default {@code Locale} used is {@code en_US}.
-	 * @return {@code True} if the initialization is successful, {@code false} otherwise.
-	 * @throws ResourceBundleException Thrown if the initialization of the
-	 * resource bundle manager has failed.
+	 * The manager locale is left unchanged, the catalog of the given locale being loaded on first use.
+	 * <p>
+	 * @param key Enumerated resource key.
+	 * @param locale Locale of the message.
+	 * @param parameters Parameters to inject in the message during message
+	 * formatting.
+	 * @return Message associated to the resource key.
 	 */
-	private static final boolean initialize()
+	@SuppressWarnings("hiding")
+	public static final String getMessage(final Enum<? extends IBundle> key, final @NonNull Locale locale, final Object... parameters)
 	{
-		if (!isInitialized && !isInitializing)
+		initialize();
+
+		if (key == null)
 		{
-			isInitializing = true;
+			throw new InvalidArgumentException(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_INVALIDKEY);
+		}
 
-			// Auto register classes annotated with @BundleEnumRegister annotation.
-			autoRegisterAnnotated();
+		return retrieve(catalogOf(locale), key, parameters);
+	}
+
+	/**
+	 * Returns a resource bundle value given its key or a default value if the key does not exist.
+	 * <p>
+	 * Unlike {@link #getMessage(String)}, a missing key does not raise any exception, its misses being logged at most
+	 * once per minute.
+	 * <hr>
+	 * @param key Resource bundle key.
+	 * @param defaultValue Default value.
+	 * @return Resource bundle value or the default value if the key does not exist.
+	 */
+	public static final String getMessageOrDefault(final @NonNull String key, final String defaultValue)
+	{
+		initialize();
+
+		BundleCatalog catalog = current();
+		String value = catalog.getValue(key);
+		if (value == null && (value = loadPending(catalog, key)) == null)
+		{
+			reportMiss(catalog, key, false);
 
-			isInitializing = false;
-			isInitialized = true;
+			return defaultValue;
 		}
 
-		return true;
+		return value;
 	}
 
 	/**
-	 * Auto register resource bundle enumeration classes annotated with {@link Bundle}
-	 * annotation.
+	 * Returns a message using an enumerated value or a default value if the key does not exist.
+	 * <p>
+	 * Unlike {@link #getMessage(Enum, Object...)}, a missing key does not raise any exception, its misses being
+	 * logged at most once per minute.
+	 * <hr>
+	 * @param key Enumerated resource key.
+	 * @param defaultValue Default value (not formatted).
+	 * @param parameters Parameters to inject in the message during message formatting.
+	 * @return Message or the default value if the key does not exist.
 	 */
-	private static final void autoRegisterAnnotated()
+	public static final String getMessageOrDefault(final @NonNull Enum<? extends IBundle> key, final String defaultValue, final Object... parameters)
 	{
-		try
+		initialize();
+
+		BundleCatalog catalog = current();
+		MessageTemplate template = findTemplate(catalog, key);
+		if (template == null)
 		{
-			BundleVisitor visitor = new BundleVisitor();
-			final AnnotationDetector detector = new AnnotationDetector(visitor);
-			detector.detect();
+			reportMiss(catalog, key, false);
 
-			visitor.delegateRegistration();
+			return defaultValue;
 		}
-		catch (Exception e)
+
+		return template.format(parameters);
+	}
+
+	/**
+	 * Finds a resource bundle value given its key.
+	 * <hr>
+	 * @param key Resource bundle key.
+	 * @return Optional resource bundle value, empty if the key does not exist.
+	 * @see #getMessageOrDefault(String, String)
+	 */
+	public static final Optional<String> findMessage(final @NonNull String key)
+	{
+		return Optional.ofNullable(getMessageOrDefault(key, null));
+	}
+
+	/**
+	 * Finds a message using an enumerated value.
+	 * <hr>
+	 * @param key Enumerated resource key.
+	 * @param parameters Parameters to inject in the message during message formatting.
+	 * @return Optional message, empty if the key does not exist.
+	 * @see #getMessageOrDefault(Enum, String, Object...)
+	 */
+	public static final Optional<String> findMessage(final @NonNull Enum<? extends IBundle> key, final Object... parameters)
+	{
+		return Optional.ofNullable(getMessageOrDefault(key, null, parameters));
+	}
+
+	/**
+	 * Opens a locale scope for the current thread.
+	 * <p>
+	 * Until the scope is closed, the messages retrieved by the current thread without an explicit locale are
+	 * resolved using the locale of the scope. The manager locale and the JVM default locale are left unchanged.
+	 * <hr>
+	 * @param locale Locale of the scope.
+	 * @return Locale scope to close once done.
+	 * @see LocaleScope
+	 */
+	@SuppressWarnings("hiding")
+	public static final LocaleScope openScope(final @NonNull Locale locale)
+	{
+		return new LocaleScope(locale);
+	}
+
+	/**
+	 * Returns the catalog to use for the current thread, being the one of the thread locale scope if one is opened,
+	 * the manager one otherwise.
+	 * <hr>
+	 * @return Catalog.
+	 */
+	private static final BundleCatalog current()
+	{
+		Locale scoped = LocaleScope.current();
+
+		return scoped == null ? CATALOG.get() : catalogOf(scoped);
+	}
+
+	/**
+	 * Returns the catalog of the given locale, loading it if not yet resident.
+	 * <hr>
+	 * @param locale Locale.
+	 * @return Catalog.
+	 */
+	@SuppressWarnings("hiding")
+	private static final BundleCatalog catalogOf(final @NonNull Locale locale)
+	{
+		BundleCatalog catalog = CATALOGS.get(locale);
+		if (catalog == null)
 		{
-			setInitialized(false);
-			throw new ResourceBundleException(e.getMessage(), e);
+			synchronized (LOCK)
+			{
+				catalog = CATALOGS.get(locale);
+				if (catalog == null)
+				{
+					Thread loading = LOADING.get(locale);
+					if (loading == Thread.currentThread())
+					{
+						// Re-entrant call while loading (error messages for example), use the catalog in use.
+						return CATALOG.get();
+					}
+
+					// A catalog being preloaded by another thread is loaded here as well, the first one published winning.
+					LOADING.put(locale, Thread.currentThread());
+					try
+					{
+						catalog = load(locale);
+						CATALOGS.put(locale, catalog);
+					}
+					finally
+					{
+						if (loading != null)
+						{
+							LOADING.put(locale, loading);
+						}
+						else
+						{
+							LOADING.remove(locale);
+						}
+					}
+				}
+			}
 		}
+
+		return catalog;
 	}
 
 	/**
-	 * Sets if the resource bundle manager is initialized.
+	 * Loads a new catalog for the given locale with all the resource bundles known by the manager (annotated or
+	 * registered directly), without scanning the classpath again.
 	 * <p>
-	 * @param value {@code True} to set the resource bundle manager as being
-	 * initialized, {@code false} otherwise.
+	 * The new catalog is derived from the catalog in use: the resource bundles resolving to the same resource bundle
+	 * file for both locales (for example a default file without translation for any of them) reuse the entries of the
+	 * catalog in use instead of being merged again, only the other ones being loaded (concurrently, tier by tier).
+	 * <hr>
+	 * @param locale Locale.
+	 * @return Catalog.
 	 */
-	private static final void setInitialized(final boolean value)
+	@SuppressWarnings({ "hiding", "nls" })
+	private static final BundleCatalog load(final @NonNull Locale locale)
 	{
-		isInitialized = value;
+		log.info(String.format("Loading resource bundle files for language: '%s'...", locale));
+
+		BundleCatalog catalog = new BundleCatalog(locale, storage, CATALOG.get());
+
+		// Auto registration of all annotated classes.
+		registerAnnotated(catalog);
+
+		// Register all bundles registered directly (without annotated class).
+		autoRegisterNotAnnotated(catalog);
+
+		log.info(String.format("Finished loading resource bundle files for language: '%s'", locale));
+
+		return catalog;
 	}
 
 	/**
-	 * Registers a resource bundle through a class annotated with the {@link Bundle} annotation.
+	 * Preloads the catalogs of a set of locales (for example the languages served by an application) so that the
+	 * services given one of these locales only hit memory.
 	 * <p>
-	 * @param annotatedClass Class annotated with the {@link Bundle} annotation.
+	 * The catalogs not yet resident are loaded concurrently (up to the {@link #getParallelism() parallelism}) without
+	 * holding the lock of the manager, each one being derived from the catalog in use, then published together (a
+	 * catalog published meanwhile by another thread being kept, a catalog having missed a registration or a reload made
+	 * meanwhile being loaded again). A catalog already being loaded by another thread is not loaded twice. In {@link BundleLoadModeType#LAZY} mode, the pending resource bundles of the catalogs are
+	 * loaded as well.
+	 * <p>
+	 * Catalogs are resident by locale: a catalog preloaded for {@code fr} does not serve {@code fr_CA}.
+	 * <hr>
+	 * @param locales Locales.
+	 * @return Preload results by locale (in the iteration order of the given locales).
 	 */
-	public static final void register(final @NonNull Class<?> annotatedClass)
+	@SuppressWarnings("hiding")
+	public static final Map<Locale, BundlePreload> preload(final @NonNull Set<Locale> locales)
 	{
 		initialize();
 
-		ResourceBundle bundle = null;
+		Map<Locale, BundleCatalog> loaded = new ConcurrentHashMap<>();
+		Map<Locale, Long> generations = new ConcurrentHashMap<>();
+		Map<Locale, Long> durations = new ConcurrentHashMap<>();
+		Map<Locale, BundlePreload> results = new LinkedHashMap<>();
 
-		// Extract the resource bundle file name.
-		Bundle annotation = annotatedClass.getAnnotation(Bundle.class);
-		String filename = annotation.file();
+		List<Locale> missing = new ArrayList<>();
+		synchronized (LOCK)
+		{
+			locales.stream().filter(e -> !CATALOGS.containsKey(e) && !LOADING.containsKey(e)).forEach(missing::add);
+		}
 
-		try
+		int threads = Math.min(parallelism, missing.size());
+		if (threads > 0)
 		{
-			bundle = ResourceBundle.getBundle(filename, locale);
+			// The workers resolve the annotated classes as the caller does.
+			ClassLoader loader = getClassLoader();
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			try
+			{
+				List<ForkJoinTask<?>> tasks = new ArrayList<>(missing.size());
+				for (Locale locale : missing)
+				{
+					tasks.add(pool.submit(() -> preload(locale, loader, loaded, generations, durations)));
+				}
 
-			// Ensure the loaded bundle is for the required language.
-			if (bundle.getLocale().getISO3Language().equals(locale.getISO3Language()))
+				// Barrier: all the catalogs are loaded before being published.
+				tasks.forEach(ForkJoinTask::join);
+			}
+			finally
 			{
-				register(annotatedClass, bundle);
+				pool.shutdown();
 			}
-			else
+
+			synchronized (LOCK)
 			{
-				// Are we in LENIENT mode?
-				if (strategy == BundleLoadStrategyType.LENIENT)
-				{
-					// Then try to load the default resource bundle.
-					bundle = ResourceBundle.getBundle(filename, defaultLocale);
-					register(annotatedClass, bundle);
-				}
-				else
+				for (Locale locale : new ArrayList<>(loaded.keySet()))
 				{
-					throw new ResourceBundleException(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_ERROR, filename, locale);
+					if (CATALOGS.containsKey(locale))
+					{
+						loaded.remove(locale);
+						continue;
+					}
+
+					if (generations.get(locale).longValue() != generation)
+					{
+						// Registered (or reloaded) meanwhile: the catalog misses some resource bundles, it is loaded again.
+						long start = System.nanoTime();
+						LOADING.put(locale, Thread.currentThread());
+						try
+						{
+							loaded.put(locale, loadPreloaded(locale));
+						}
+						finally
+						{
+							LOADING.remove(locale);
+						}
+						durations.merge(locale, Long.valueOf(System.nanoTime() - start), (a, b) -> Long.valueOf(a.longValue() + b.longValue()));
+					}
+
+					CATALOGS.put(locale, loaded.get(locale));
 				}
 			}
 		}
-		catch (MissingResourceException e)
+
+		for (Locale locale : locales)
 		{
-			// The resource string file does not exist in the given language ... is it an error?
-			log.error(e.getMessage(), e);
+			// A catalog still being loaded by another thread (not published yet) is loaded here.
+			BundleCatalog catalog = catalogOf(locale);
+			boolean resident = !loaded.containsKey(locale);
+			long start = System.nanoTime();
+			if (resident)
+			{
+				catalog.getPending().forEach(e -> loadPendingClass(catalog, e));
+			}
+
+			long duration = resident ? System.nanoTime() - start : durations.get(locale).longValue();
+			BundlePreload result = new BundlePreload(locale, resident, catalog.getLiveEntryCount(), catalog.getKeyCount(), catalog.getFootprint(), duration);
+			log.info(result.toString());
+			results.put(locale, result);
 		}
+
+		return Collections.unmodifiableMap(results);
 	}
 
 	/**
-	 * Registers a new resource bundle file.
+	 * Preloads the catalog of a locale (on a worker thread of the preload).
 	 * <p>
-	 * @param filename Resource bundle file to register.
-	 * @throws ResourceBundleException Thrown if the resource bundle file cannot be found.
+	 * The catalog is loaded without holding the lock of the manager: the locale being marked as loaded by the worker
+	 * thread, the re-entrant calls of the worker thread (error messages for example) use the catalog in use. The
+	 * generation of the registrations is recorded beforehand, a catalog having missed a registration being loaded
+	 * again when published.
+	 * <hr>
+	 * @param locale Locale.
+	 * @param loader Class loader of the caller of the preload.
+	 * @param loaded Catalogs loaded by locale.
+	 * @param generations Generations of the registrations the catalogs are loaded from by locale.
+	 * @param durations Durations of the loads (in nanoseconds) by locale.
 	 */
-	@SuppressWarnings("nls")
-	public static final void register(final String filename)
+	@SuppressWarnings("hiding")
+	private static final void preload(final @NonNull Locale locale, final @NonNull ClassLoader loader, final @NonNull Map<Locale, BundleCatalog> loaded, final @NonNull Map<Locale, Long> generations, final @NonNull Map<Locale, Long> durations)
 	{
-		initialize();
+		Thread thread = Thread.currentThread();
+		long generation;
+		synchronized (LOCK)
+		{
+			if (CATALOGS.containsKey(locale) || LOADING.putIfAbsent(locale, thread) != null)
+			{
+				return;
+			}
+			generation = ResourceBundleManager.generation;
+		}
 
-		register(filename, "", locale);
+		ClassLoader context = thread.getContextClassLoader();
+		thread.setContextClassLoader(loader);
+		try
+		{
+			long start = System.nanoTime();
+			BundleCatalog catalog = loadPreloaded(locale);
+
+			durations.put(locale, Long.valueOf(System.nanoTime() - start));
+			generations.put(locale, Long.valueOf(generation));
+			loaded.put(locale, catalog);
+		}
+		finally
+		{
+			thread.setContextClassLoader(context);
+			synchronized (LOCK)
+			{
+				LOADING.remove(locale, thread);
+			}
+		}
 	}
 
 	/**
-	 * Registers directly a new resource bundle file with a root path to ease key access.
-	 * <p>
-	 * @param filename Resource bundle file to register.
-	 * @param root Root path to access the keys.
-	 * @throws ResourceBundleException Thrown if the resource bundle file cannot be found.
+	 * Loads a new catalog for the given locale to be preloaded, with the pending resource bundles (lazy mode) loaded
+	 * as well.
+	 * <hr>
+	 * @param locale Locale.
+	 * @return Catalog.
 	 */
-	public static final void register(final @NonNull String filename, final @NonNull String root)
+	private static final BundleCatalog loadPreloaded(final @NonNull Locale locale)
 	{
-		initialize();
+		BundleCatalog catalog = load(locale);
 
-		register(filename, root, locale);
+		// Not published yet: the pending resource bundles are loaded directly.
+		for (String className : catalog.getPending())
+		{
+			load(catalog, loadClass(className));
+			catalog.removePending(className);
+		}
+
+		return catalog;
 	}
 
 	/**
-	 * Registers directly a new resource bundle file with a given locale.
+	 * Starts the initialization of the resource bundle manager in the background (on a daemon thread).
 	 * <p>
-	 * @param filename Resource bundle file to register.
-	 * @param locale Locale to use to register the resource bundle.
-	 * @throws ResourceBundleException Thrown if the resource bundle file cannot be found.
+	 * Callers of the other services arriving before the end of the initialization wait for it, the class path being
+	 * scanned only once whatever the number of callers.
+	 * <hr>
+	 * @return Future completed once the manager is initialized (the same future for all the callers).
 	 */
-	@SuppressWarnings({ "nls", "hiding" })
-	public static final void register(final @NonNull String filename, final @NonNull Locale locale)
+	public static final CompletableFuture<Void> initializeAsync()
 	{
-		initialize();
-
-		register(filename, "", locale);
+		return initializeAsync(e -> {
+			Thread thread = new Thread(e, "hemajoo-bundle-initializer"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			thread.start();
+		});
 	}
 
 	/**
-	 * Sets the resource bundle load strategy.
+	 * Starts the initialization of the resource bundle manager in the background.
+	 * <p>
+	 * Callers of the other services arriving before the end of the initialization wait for it, the class path being
+	 * scanned only once whatever the number of callers.
 	 * <hr>
-	 * @param strategy Load strategy type.
-	 * @see BundleLoadStrategyType
+	 * @param executor Executor running the initialization (ignored if the initialization is already started).
+	 * @return Future completed once the manager is initialized (the same future for all the callers).
 	 */
-	@SuppressWarnings("nls")
-	public static final void setStrategy(final @NonNull BundleLoadStrategyType strategy)
+	public static final CompletableFuture<Void> initializeAsync(final @NonNull Executor executor)
 	{
-		// This service does not auto initialize the manager!
-		ResourceBundleManager.strategy = strategy;
+		while (true)
+		{
+			CompletableFuture<Void> current = INITIALIZATION.get();
+			if (current != null)
+			{
+				return current;
+			}
+
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			if (INITIALIZATION.compareAndSet(null, future))
+			{
+				executor.execute(() -> runInitialization(future));
+
+				return future;
+			}
+		}
+	}
+
+	/**
+	 * Runs the initialization of the resource bundle manager and completes its future.
+	 * <p>
+	 * On failure, the initialization can be started again.
+	 * <hr>
+	 * @param future Future of the initialization.
+	 */
+	private static final void runInitialization(final @NonNull CompletableFuture<Void> future)
+	{
+		initializer = Thread.currentThread();
+		try
+		{
+			doInitialize();
+			future.complete(null);
+		}
+		catch (RuntimeException | Error e)
+		{
+			INITIALIZATION.compareAndSet(future, null);
+			future.completeExceptionally(e);
+		}
+		finally
+		{
+			initializer = null;
+		}
+	}
+
+	/**
+	 * Do a default initialization of the resource bundle manager.
+	 * <p>
+	 * The default {@code Locale} used is {@code en_US}. The initialization runs in the calling thread unless already
+	 * started (see {@link #initializeAsync()}), in which case the calling thread waits for its end.
+	 * @return {@code True} if the initialization is successful, {@code false} otherwise.
+	 * @throws ResourceBundleException Thrown if the initialization of the
+	 * resource bundle manager has failed.
+	 */
+	private static final boolean initialize()
+	{
+		if (isInitialized || initializer == Thread.currentThread())
+		{
+			return true;
+		}
+
+		try
+		{
+			initializeAsync(Runnable::run).join();
+		}
+		catch (CompletionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Initializes the resource bundle manager (scanning the annotated classes and loading the catalog of the
+	 * current locale).
+	 */
+	private static final void doInitialize()
+	{
+		INITIALIZATIONS.incrementAndGet();
+
+		// Auto register classes annotated with @BundleEnumRegister annotation.
+		synchronized (LOCK)
+		{
+			autoRegisterAnnotated();
+
+			BundleCatalog catalog = new BundleCatalog(getLocale(), storage, null);
+			registerAnnotated(catalog);
+			CATALOGS.put(catalog.getLocale(), catalog);
+			CATALOG.set(catalog);
+		}
+
+		// Published last: a thread reading it set sees the catalog.
+		isInitialized = true;
+	}
+
+	/**
+	 * Auto register resource bundle enumeration classes annotated with {@link Bundle}
+	 * annotation.
+	 * <p>
+	 * The classes are read from the indexes generated at compile time by the
+	 * {@link com.hemajoo.foundation.common.resource.bundle.processor.BundleIndexProcessor}, the classpath entries not
+	 * having contributed an index (or the whole classpath when no index is available) being scanned. The discovered
+	 * classes are kept to load the catalogs of other locales.
+	 */
+	@SuppressWarnings("nls")
+	private static final void autoRegisterAnnotated()
+	{
+		try
+		{
+			Map<Integer, List<String>> names;
+
+			index = BundleIndex.load(getClassLoader());
+			if (index.isEmpty())
+			{
+				names = scan(null);
+			}
+			else
+			{
+				names = new TreeMap<>();
+				index.getClassNamesByPriority().forEach((priority, tier) -> names.computeIfAbsent(priority, k -> new ArrayList<>()).addAll(tier));
+
+				List<File> roots = index.getUnindexedRoots(System.getProperty("java.class.path", ""));
+				if (!roots.isEmpty())
+				{
+					scan(roots).forEach((priority, tier) -> names.computeIfAbsent(priority, k -> new ArrayList<>()).addAll(tier));
+				}
+			}
+
+			names.forEach((priority, tier) -> tier.forEach(e -> addAnnotated(priority, e)));
+		}
+		catch (Exception e)
+		{
+			throw new ResourceBundleException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Scans the class path (or some of its entries) for the classes annotated with the {@link Bundle} annotation.
+	 * <p>
+	 * The result of the scan is persisted in the scan cache file (if enabled) and reused as long as the scanned
+	 * entries have not changed.
+	 * <hr>
+	 * @param roots Class path entries to scan or {@code null} to scan the whole class path.
+	 * @return Class names by priority.
+	 * @throws IOException Thrown if the class path cannot be scanned.
+	 */
+	@SuppressWarnings("nls")
+	private static final Map<Integer, List<String>> scan(final List<File> roots) throws IOException
+	{
+		Path file = scanCache;
+		BundleScanCache cache = file != null ? new BundleScanCache(file) : null;
+		String fingerprint = null;
+
+		if (cache != null)
+		{
+			String classPath = roots == null
+					? System.getProperty("java.class.path", "")
+					: roots.stream().map(File::getPath).collect(Collectors.joining(File.pathSeparator));
+			fingerprint = BundleScanCache.fingerprint(classPath, AnnotationScanner.getPackages());
+			Map<Integer, List<String>> names = cache.read(fingerprint, getClassLoader());
+			if (names != null)
+			{
+				log.info(String.format("Reused the classpath scan cache: '%s'", file));
+				return names;
+			}
+		}
+
+		// The whole classpath scan is shared with the other annotation visitors registered as services.
+		BundleVisitor visitor = roots == null
+				? AnnotationScanner.getVisitor(BundleVisitor.class)
+				: AnnotationScanner.getVisitor(BundleVisitor.class, roots);
+		if (visitor == null)
+		{
+			log.warn(String.format("No annotation visitor: '%s' registered as a service", BundleVisitor.class.getName()));
+			return Collections.emptyMap();
+		}
+
+		log.info(String.format("Scanned the classpath [entries=%s, classes=%d]", roots == null ? "*" : Integer.toString(roots.size()), Integer.valueOf(visitor.getClassNames().size())));
+
+		// The annotations read by the scan are kept for the lazy registrations.
+		visitor.getClassNames().forEach(e -> METADATA.put(e, visitor.getMetadata(e)));
+
+		if (cache != null)
+		{
+			cache.write(fingerprint, visitor.getClassNamesByPriority());
+		}
+
+		return visitor.getClassNamesByPriority();
+	}
+
+	/**
+	 * Returns the default path of the cache file of the class path scan.
+	 * <p>
+	 * The cache is disabled unless its path is set through the {@code hemajoo.bundle.scanCache} system property (an
+	 * empty value disabling it), a shared location such as the temporary directory being writable by other users.
+	 * <hr>
+	 * @return Path of the cache file or {@code null} if the cache is disabled.
+	 */
+	@SuppressWarnings("nls")
+	private static final Path getDefaultScanCache()
+	{
+		String path = System.getProperty("hemajoo.bundle.scanCache", "");
+
+		return path.isEmpty() ? null : Paths.get(path);
+	}
+
+	/**
+	 * Returns the class loader used to discover and load the annotated classes.
+	 * <hr>
+	 * @return Class loader.
+	 */
+	private static final ClassLoader getClassLoader()
+	{
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+		return loader != null ? loader : ResourceBundleManager.class.getClassLoader();
+	}
+
+	/**
+	 * Adds the name of an annotated class to its priority tier (unless already known).
+	 * <hr>
+	 * @param priority Priority of the annotated class.
+	 * @param className Name of the annotated class.
+	 */
+	private static final void addAnnotated(final @NonNull Integer priority, final @NonNull String className)
+	{
+		for (List<String> tier : ANNOTATED.values())
+		{
+			if (tier.contains(className))
+			{
+				return;
+			}
+		}
+
+		ANNOTATED.computeIfAbsent(priority, k -> new ArrayList<>()).add(className);
+	}
+
+	/**
+	 * Returns the loading priority of an annotated class.
+	 * <hr>
+	 * @param annotatedClass Class annotated with the {@link Bundle} annotation.
+	 * @return Priority (the default one if the class is not annotated).
+	 */
+	private static final Integer getPriority(final @NonNull Class<?> annotatedClass)
+	{
+		Bundle annotation = annotatedClass.getAnnotation(Bundle.class);
+
+		return Integer.valueOf(annotation != null ? annotation.priority() : DEFAULT_PRIORITY);
+	}
+
+	/**
+	 * Registers the known annotated classes into a catalog, tier by tier.
+	 * <p>
+	 * In {@link BundleLoadModeType#LAZY} mode, the annotated classes whose annotation can be read from their class file
+	 * are only recorded as pending, without being loaded.
+	 * <hr>
+	 * @param catalog Catalog to register the resource bundles into.
+	 */
+	private static final void registerAnnotated(final @NonNull BundleCatalog catalog)
+	{
+		// Snapshot of the tiers, the catalogs being also loaded without the lock (see preload).
+		List<List<String>> tiers = new ArrayList<>();
+		synchronized (LOCK)
+		{
+			ANNOTATED.values().forEach(e -> tiers.add(new ArrayList<>(e)));
+		}
+
+		for (List<String> tier : tiers)
+		{
+			List<Class<?>> classes = new ArrayList<>(tier.size());
+			for (String className : tier)
+			{
+				BundleMetadata metadata = mode == BundleLoadModeType.LAZY ? getMetadata(className) : null;
+				if (metadata != null)
+				{
+					addPending(catalog, metadata);
+				}
+				else
+				{
+					// Only the annotation is needed, the class is initialized when its constants are first used.
+					classes.add(loadClass(className));
+				}
+			}
+
+			register(catalog, classes);
+		}
+	}
+
+	/**
+	 * Returns the element values of the {@link Bundle} annotation of an annotated class, read from its class file.
+	 * <hr>
+	 * @param className Name of the annotated class.
+	 * @return Bundle metadata or {@code null} if the class file cannot be read (the class having to be loaded).
+	 */
+	@SuppressWarnings("nls")
+	private static final BundleMetadata getMetadata(final @NonNull String className)
+	{
+		BundleMetadata metadata = METADATA.get(className);
+		if (metadata == null)
+		{
+			try
+			{
+				metadata = BundleMetadata.read(getClassLoader(), className);
+				if (metadata != null)
+				{
+					METADATA.put(className, metadata);
+				}
+			}
+			catch (IOException e)
+			{
+				log.warn(String.format("Cannot read the @Bundle annotation of class: '%s' due to: %s", className, e.getMessage()));
+			}
+		}
+
+		return metadata;
+	}
+
+	/**
+	 * Loads (without initializing) an annotated class.
+	 * <hr>
+	 * @param className Name of the annotated class.
+	 * @return Annotated class.
+	 * @throws ResourceBundleException Thrown if the class cannot be found.
+	 */
+	private static final Class<?> loadClass(final @NonNull String className)
+	{
+		try
+		{
+			return Class.forName(className, false, getClassLoader());
+		}
+		catch (ClassNotFoundException e)
+		{
+			throw new ResourceBundleException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Registers the annotated classes of a priority tier into a catalog.
+	 * <p>
+	 * The resource bundles of the tier are first resolved (read and parsed) concurrently, then registered one at a
+	 * time in the order of the tier, so that the first registered resource bundle still wins on duplicate resource
+	 * bundles and colliding keys. The tier is completely registered when this service returns.
+	 * <hr>
+	 * @param catalog Catalog to register the resource bundles into.
+	 * @param annotatedClasses Annotated classes of the tier (in registration order).
+	 */
+	private static final void register(final @NonNull BundleCatalog catalog, final @NonNull List<Class<?>> annotatedClasses)
+	{
+		int threads = Math.min(parallelism, annotatedClasses.size());
+		if (mode == BundleLoadModeType.EAGER && threads > 1)
+		{
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			try
+			{
+				List<ForkJoinTask<?>> tasks = new ArrayList<>(annotatedClasses.size());
+				for (Class<?> annotatedClass : annotatedClasses)
+				{
+					tasks.add(pool.submit(() -> prefetch(catalog, annotatedClass)));
+				}
+
+				// Barrier: the whole tier is resolved before being registered.
+				tasks.forEach(ForkJoinTask::join);
+			}
+			finally
+			{
+				pool.shutdown();
+			}
+		}
+
+		annotatedClasses.forEach(e -> register(catalog, e));
+	}
+
+	/**
+	 * Resolves the resource bundle of an annotated class ahead of its registration.
+	 * <p>
+	 * Errors are ignored, they are reported when registering the annotated class.
+	 * <hr>
+	 * @param catalog Catalog to resolve the resource bundle for.
+	 * @param annotatedClass Annotated class.
+	 */
+	private static final void prefetch(final @NonNull BundleCatalog catalog, final @NonNull Class<?> annotatedClass)
+	{
+		try
+		{
+			if (annotatedClass.isAnnotationPresent(Bundle.class))
+			{
+				resolve(catalog, annotatedClass);
+			}
+		}
+		catch (RuntimeException e)
+		{
+			// Reported when registering.
+		}
+	}
+
+	/**
+	 * Resolves the resource bundle of an annotated class for a catalog.
+	 * <p>
+	 * In LENIENT mode, a resource bundle not for the required language falls back to the default one.
+	 * <hr>
+	 * @param catalog Catalog to resolve the resource bundle for.
+	 * @param annotatedClass Annotated class.
+	 * @return Resolution.
+	 * @throws MissingResourceException Thrown if the resource bundle file cannot be found.
+	 */
+	private static final BundleResolver.Resolution resolve(final @NonNull BundleCatalog catalog, final @NonNull Class<?> annotatedClass)
+	{
+		Locale fallback = strategy == BundleLoadStrategyType.LENIENT ? defaultLocale : null;
+
+		return catalog.getResolver().resolve(annotatedClass.getAnnotation(Bundle.class).file(), catalog.getLocale(), fallback, format);
+	}
+
+	/**
+	 * Returns the catalogs to update when registering a new resource bundle: the catalog in use first, then the
+	 * other resident ones.
+	 * <hr>
+	 * @return Catalogs.
+	 */
+	private static final List<BundleCatalog> getTargetCatalogs()
+	{
+		BundleCatalog current = CATALOG.get();
+		List<BundleCatalog> catalogs = new ArrayList<>(CATALOGS.size() + 1);
+		catalogs.add(current);
+		CATALOGS.values().stream().filter(e -> e != current).forEach(catalogs::add);
+
+		return Collections.unmodifiableList(catalogs);
+	}
+
+	/**
+	 * Registers a resource bundle through a class annotated with the {@link Bundle} annotation.
+	 * <p>
+	 * @param annotatedClass Class annotated with the {@link Bundle} annotation.
+	 */
+	public static final void register(final @NonNull Class<?> annotatedClass)
+	{
+		initialize();
+
+		synchronized (LOCK)
+		{
+			generation++;
+			addAnnotated(getPriority(annotatedClass), annotatedClass.getName());
+
+			getTargetCatalogs().forEach(e -> register(e, annotatedClass));
+		}
+	}
+
+	/**
+	 * Registers resource bundles through classes annotated with the {@link Bundle} annotation belonging to a same
+	 * priority tier.
+	 * <p>
+	 * The resource bundles are resolved concurrently (see {@link #setParallelism(int)}) and registered in the given
+	 * order.
+	 * <hr>
+	 * @param annotatedClasses Classes annotated with the {@link Bundle} annotation (in registration order).
+	 */
+	public static final void register(final @NonNull List<Class<?>> annotatedClasses)
+	{
+		initialize();
+
+		synchronized (LOCK)
+		{
+			generation++;
+			for (Class<?> annotatedClass : annotatedClasses)
+			{
+				addAnnotated(getPriority(annotatedClass), annotatedClass.getName());
+			}
+
+			getTargetCatalogs().forEach(e -> register(e, annotatedClasses));
+		}
+	}
+
+	/**
+	 * Sets the number of threads resolving concurrently the resource bundles of a priority tier.
+	 * <hr>
+	 * @param parallelism Number of threads ({@code 1} to resolve the resource bundles sequentially).
+	 * @throws InvalidArgumentException Thrown if the number of threads is lower than {@code 1}.
+	 */
+	@SuppressWarnings({ "nls", "hiding" })
+	public static final void setParallelism(final int parallelism)
+	{
+		if (parallelism < 1)
+		{
+			throw new InvalidArgumentException(String.format("Invalid resource bundle manager parallelism: %d", Integer.valueOf(parallelism)));
+		}
+
+		// This service does not auto initialize the manager!
+		ResourceBundleManager.parallelism = parallelism;
+
+		log.info(String.format("Resource bundle manager parallelism set to: %d", Integer.valueOf(parallelism)));
+	}
+
+	/**
+	 * Returns the number of threads resolving concurrently the resource bundles of a priority tier.
+	 * <hr>
+	 * @return Number of threads.
+	 */
+	public static final int getParallelism()
+	{
+		return parallelism;
+	}
+
+	/**
+	 * Registers a resource bundle through a class annotated with the {@link Bundle} annotation into a catalog.
+	 * <p>
+	 * In {@link BundleLoadModeType#LAZY} mode, the resource bundle is only recorded as pending, its entries being loaded
+	 * the first time one of its keys is requested.
+	 * <hr>
+	 * @param catalog Catalog to register the resource bundle into.
+	 * @param annotatedClass Class annotated with the {@link Bundle} annotation.
+	 */
+	@SuppressWarnings("nls")
+	private static final void register(final @NonNull BundleCatalog catalog, final @NonNull Class<?> annotatedClass)
+	{
+		BundleMetadata metadata = mode == BundleLoadModeType.LAZY ? BundleMetadata.of(annotatedClass) : null;
+		if (metadata != null && !checkAlreadyRegistered(catalog, annotatedClass))
+		{
+			addPending(catalog, metadata);
+			return;
+		}
+
+		load(catalog, annotatedClass);
+	}
+
+	/**
+	 * Records an annotated class whose resource bundle will be loaded on first use (lazy mode), unless already
+	 * registered.
+	 * <hr>
+	 * @param catalog Catalog to record the annotated class into.
+	 * @param metadata Element values of the {@link Bundle} annotation of the annotated class.
+	 */
+	@SuppressWarnings("nls")
+	private static final void addPending(final @NonNull BundleCatalog catalog, final @NonNull BundleMetadata metadata)
+	{
+		String className = metadata.getClassName();
+		if (catalog.getClasses().keySet().stream().anyMatch(e -> e.getName().equals(className)))
+		{
+			return;
+		}
+
+		if (catalog.addPending(metadata) && log.isDebugEnabled())
+		{
+			log.debug(String.format("Resource bundle: '%s' pending for language: '%s'", metadata.getFile(), catalog.getLocale()));
+		}
+	}
+
+	/**
+	 * Loads the resource bundle of a class annotated with the {@link Bundle} annotation into a catalog.
+	 * <hr>
+	 * @param catalog Catalog to load the resource bundle into.
+	 * @param annotatedClass Class annotated with the {@link Bundle} annotation.
+	 */
+	private static final void load(final @NonNull BundleCatalog catalog, final @NonNull Class<?> annotatedClass)
+	{
+		Locale locale = catalog.getLocale();
+
+		// Extract the resource bundle file name.
+		Bundle annotation = annotatedClass.getAnnotation(Bundle.class);
+		String filename = annotation.file();
+
+		try
+		{
+			BundleResolver.Resolution resolution = resolve(catalog, annotatedClass);
+			if (resolution.isFallback() && strategy != BundleLoadStrategyType.LENIENT)
+			{
+				throw new ResourceBundleException(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_ERROR, filename, locale);
+			}
+
+			register(catalog, annotatedClass, resolution.getBundle());
+		}
+		catch (MissingResourceException e)
+		{
+			// The resource string file does not exist in the given language ... is it an error?
+			log.error(e.getMessage(), e);
+		}
+		finally
+		{
+			catalog.getResolver().release(filename);
+		}
+	}
+
+	/**
+	 * Registers a new resource bundle file.
+	 * <p>
+	 * @param filename Resource bundle file to register.
+	 * @throws ResourceBundleException Thrown if the resource bundle file cannot be found.
+	 */
+	@SuppressWarnings("nls")
+	public static final void register(final String filename)
+	{
+		initialize();
+
+		register(filename, "", getLocale());
+	}
+
+	/**
+	 * Registers directly a new resource bundle file with a root path to ease key access.
+	 * <p>
+	 * @param filename Resource bundle file to register.
+	 * @param root Root path to access the keys.
+	 * @throws ResourceBundleException Thrown if the resource bundle file cannot be found.
+	 */
+	public static final void register(final @NonNull String filename, final @NonNull String root)
+	{
+		initialize();
+
+		register(filename, root, getLocale());
+	}
+
+	/**
+	 * Registers directly a new resource bundle file with a given locale.
+	 * <p>
+	 * @param filename Resource bundle file to register.
+	 * @param locale Locale to use to register the resource bundle.
+	 * @throws ResourceBundleException Thrown if the resource bundle file cannot be found.
+	 */
+	@SuppressWarnings({ "nls", "hiding" })
+	public static final void register(final @NonNull String filename, final @NonNull Locale locale)
+	{
+		initialize();
+
+		register(filename, "", locale);
+	}
+
+	/**
+	 * Sets the resource bundle load strategy.
+	 * <hr>
+	 * @param strategy Load strategy type.
+	 * @see BundleLoadStrategyType
+	 */
+	@SuppressWarnings("nls")
+	public static final void setStrategy(final @NonNull BundleLoadStrategyType strategy)
+	{
+		// This service does not auto initialize the manager!
+		ResourceBundleManager.strategy = strategy;
+
+		log.info(String.format("Resource bundle manager load strategy set to: '%s'", strategy));
+	}
+
+	/**
+	 * Sets the resource bundle load mode.
+	 * <p>
+	 * The mode applies to the resource bundles registered afterwards (including the ones of the catalogs loaded for
+	 * new locales), the pending resource bundles being loaded on first use whatever the mode.
+	 * <hr>
+	 * @param mode Load mode type.
+	 * @see BundleLoadModeType
+	 */
+	@SuppressWarnings({ "nls", "hiding" })
+	public static final void setLoadMode(final @NonNull BundleLoadModeType mode)
+	{
+		// This service does not auto initialize the manager!
+		ResourceBundleManager.mode = mode;
+
+		log.info(String.format("Resource bundle manager load mode set to: '%s'", mode));
+	}
+
+	/**
+	 * Returns the resource bundle load mode.
+	 * <hr>
+	 * @return Load mode type.
+	 */
+	public static final BundleLoadModeType getLoadMode()
+	{
+		return mode;
+	}
+
+	/**
+	 * Sets the resource bundle format.
+	 * <p>
+	 * The format applies to the resource bundles loaded afterwards.
+	 * <hr>
+	 * @param format Format type.
+	 * @see BundleFormatType
+	 */
+	@SuppressWarnings({ "nls", "hiding" })
+	public static final void setFormat(final @NonNull BundleFormatType format)
+	{
+		// This service does not auto initialize the manager!
+		ResourceBundleManager.format = format;
+
+		log.info(String.format("Resource bundle manager format set to: '%s'", format));
+	}
+
+	/**
+	 * Returns the resource bundle format.
+	 * <hr>
+	 * @return Format type.
+	 */
+	public static final BundleFormatType getFormat()
+	{
+		return format;
+	}
+
+	/**
+	 * Sets the storage type of the catalog entries.
+	 * <p>
+	 * The storage type applies to the catalogs loaded afterwards (for a new locale or on a refresh).
+	 * <hr>
+	 * @param storage Storage type.
+	 * @see BundleStorageType
+	 */
+	@SuppressWarnings({ "nls", "hiding" })
+	public static final void setStorage(final @NonNull BundleStorageType storage)
+	{
+		// This service does not auto initialize the manager!
+		ResourceBundleManager.storage = storage;
+
+		log.info(String.format("Resource bundle manager storage set to: '%s'", storage));
+	}
+
+	/**
+	 * Returns the storage type of the catalog entries.
+	 * <hr>
+	 * @return Storage type.
+	 */
+	public static final BundleStorageType getStorage()
+	{
+		return storage;
+	}
+
+	/**
+	 * Sets the path of the cache file persisting the result of the class path scan.
+	 * <p>
+	 * The cache file is only used for the class path entries not covered by a resource bundle index generated at
+	 * compile time and is invalidated as soon as one of these entries changes. The cache is disabled by default, its
+	 * file should be located in a directory only writable by the current user.
+	 * <hr>
+	 * @param file Path of the cache file or {@code null} to disable the cache.
+	 */
+	@SuppressWarnings("nls")
+	public static final void setScanCache(final Path file)
+	{
+		// This service does not auto initialize the manager!
+		scanCache = file;
+
+		log.info(String.format("Resource bundle manager scan cache set to: '%s'", file));
+	}
+
+	/**
+	 * Returns the path of the cache file persisting the result of the class path scan.
+	 * <hr>
+	 * @return Path of the cache file or {@code null} if the cache is disabled.
+	 */
+	public static final Path getScanCache()
+	{
+		return scanCache;
+	}
+
+	/**
+	 * Watches an external directory of resource bundle files, the modified files being reloaded into the resident
+	 * catalogs (with the default debounce delay).
+	 * <hr>
+	 * @param directory Directory containing the resource bundle files (laid out as on the class path).
+	 * @return Watcher (to close to stop watching).
+	 * @throws IOException Thrown if the directory cannot be watched.
+	 * @see #watch(Path, long)
+	 */
+	public static final BundleWatcher watch(final @NonNull Path directory) throws IOException
+	{
+		return watch(directory, DEFAULT_DEBOUNCE);
+	}
+
+	/**
+	 * Watches an external directory of resource bundle files, the modified files being reloaded into the resident
+	 * catalogs.
+	 * <p>
+	 * The resource bundle files already in the directory are reloaded before this service returns. A reloaded file
+	 * overrides, key by key, the values of the same resource bundle file of the class path for its locale and the
+	 * locales falling back on it (the most specific reloaded file winning), including in the catalogs loaded
+	 * afterwards. A key removed from a reloaded file gets back its class path value (or is removed if none), as do
+	 * the keys of a deleted file and, once the watcher is closed, the keys of all the files it has reloaded.
+	 * <hr>
+	 * @param directory Directory containing the resource bundle files (laid out as on the class path).
+	 * @param debounce Debounce delay (in milliseconds).
+	 * @return Watcher (to close to stop watching).
+	 * @throws IOException Thrown if the directory cannot be watched.
+	 * @throws InvalidArgumentException Thrown if the debounce delay is negative.
+	 */
+	@SuppressWarnings("nls")
+	public static final BundleWatcher watch(final @NonNull Path directory, final long debounce) throws IOException
+	{
+		if (debounce < 0)
+		{
+			throw new InvalidArgumentException(String.format("Invalid resource bundle watcher debounce delay: %d", Long.valueOf(debounce)));
+		}
+
+		initialize();
+
+		return new BundleWatcher(directory, debounce);
+	}
+
+	/**
+	 * Reloads an external resource bundle file into the resident catalogs holding the same resource bundle file for
+	 * a locale whose fall-back chain contains the locale of the reloaded file (a reloaded {@code fruit.properties}
+	 * reaching the {@code fruit_fr} and {@code fruit_en} entries for example).
+	 * <p>
+	 * Only the entries of the affected resource bundle file are patched (see
+	 * {@link #patch(BundleCatalog, BundleRange)}), the rest of the catalogs being left untouched.
+	 * <hr>
+	 * @param relative Path of the resource bundle file relative to the watched directory.
+	 * @param file Resource bundle file.
+	 * @return Reload or {@code null} if the file does not match any registered resource bundle file.
+	 * @throws IOException Thrown if the file cannot be read or is malformed.
+	 */
+	static final BundleReload reload(final @NonNull Path relative, final @NonNull Path file) throws IOException
+	{
+		long start = System.nanoTime();
+
+		return update(relative, PropertiesBundleLoader.read(file), start);
+	}
+
+	/**
+	 * Unloads an external resource bundle file (deleted or no longer watched), the resident catalogs getting back the
+	 * values of the class path (and of the other reloaded files of the fall-back chain).
+	 * <hr>
+	 * @param relative Path of the resource bundle file relative to the watched directory.
+	 * @return Reload or {@code null} if the file was not reloaded.
+	 */
+	static final BundleReload unload(final @NonNull Path relative)
+	{
+		return update(relative, null, System.nanoTime());
+	}
+
+	/**
+	 * Sets (or clears) the values of an external resource bundle file and patches the resident catalogs accordingly.
+	 * <hr>
+	 * @param relative Path of the resource bundle file relative to the watched directory.
+	 * @param values Values of the file or {@code null} to clear them.
+	 * @param start Start time of the reload (in nanoseconds).
+	 * @return Reload or {@code null} if the file does not match any registered resource bundle file (or was not
+	 * reloaded when clearing its values).
+	 */
+	@SuppressWarnings("nls")
+	private static final BundleReload update(final @NonNull Path relative, final Map<String, String> values, final long start)
+	{
+		String name = relative.toString().replace(File.separatorChar, '/');
+		name = name.substring(0, name.lastIndexOf('.'));
+
+		synchronized (LOCK)
+		{
+			// The longest registered resource bundle file prefixing the name wins.
+			String filename = null;
+			Locale locale = null;
+			for (String candidate : getFilenames())
+			{
+				String resource = candidate.replace('.', '/');
+				if ((name.equals(resource) || name.startsWith(resource + '_')) && (filename == null || candidate.length() > filename.length()))
+				{
+					filename = candidate;
+					locale = name.equals(resource) ? Locale.ROOT : toLocale(name.substring(resource.length() + 1));
+				}
+			}
+
+			if (filename == null)
+			{
+				if (values != null)
+				{
+					log.warn(String.format("External resource bundle file: '%s' ignored because it does not match any registered resource bundle", relative));
+				}
+
+				return null;
+			}
+
+			if (values != null)
+			{
+				OVERRIDES.put(getOverrideKey(filename, locale), Collections.unmodifiableMap(values));
+			}
+			else if (OVERRIDES.remove(getOverrideKey(filename, locale)) == null)
+			{
+				return null;
+			}
+			generation++;
+
+			int added = 0;
+			int changed = 0;
+			int removed = 0;
+			int catalogs = 0;
+			Set<String> addedKeys = new TreeSet<>();
+			Set<String> changedKeys = new TreeSet<>();
+			Set<String> removedKeys = new TreeSet<>();
+			for (BundleCatalog catalog : getTargetCatalogs())
+			{
+				boolean updated = false;
+				for (BundleRange range : getRanges(catalog, filename))
+				{
+					if (!BundleResolver.getCandidateLocales(filename, range.getLocale()).contains(locale))
+					{
+						continue;
+					}
+
+					int[] delta = patch(catalog, range, addedKeys, changedKeys, removedKeys);
+					if (delta != null)
+					{
+						added += delta[0];
+						changed += delta[1];
+						removed += delta[2];
+						updated = true;
+					}
+				}
+
+				if (updated)
+				{
+					catalogs++;
+					if (catalog.isCompactable())
+					{
+						compact(catalog);
+					}
+				}
+			}
+
+			return new BundleReload(filename, locale, added, changed, removed, addedKeys, changedKeys, removedKeys, catalogs, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Patches the entries of a resource bundle file in a catalog with the values of the reloaded external resource
+	 * bundle files of its fall-back chain.
+	 * <p>
+	 * The entries of the resource bundle file are appended again as a new range, each of its keys (and aliases) being
+	 * bound to its new entry in turn: a reader observes either the previous or the new value of a key, never a
+	 * partially written one. A key no longer held by the resource bundle file nor by the reloaded files is removed.
+	 * The previous range is left unused until the catalog is compacted (see {@link #compact(BundleCatalog)}).
+	 * <hr>
+	 * @param catalog Catalog.
+	 * @param range Range of the entries of the resource bundle file.
+	 * @param addedKeys Keys added (collected).
+	 * @param changedKeys Keys whose value has changed (collected).
+	 * @param removedKeys Keys removed (collected).
+	 * @return Number of keys added, changed and removed or {@code null} if the entries are unchanged.
+	 */
+	@SuppressWarnings("nls")
+	private static final int[] patch(final @NonNull BundleCatalog catalog, final @NonNull BundleRange range, final @NonNull Set<String> addedKeys, final @NonNull Set<String> changedKeys, final @NonNull Set<String> removedKeys)
+	{
+		Map<String, String> current = new LinkedHashMap<>();
+		for (int entry = range.getFirst(); entry < range.getEnd(); entry++)
+		{
+			current.put(catalog.getEntryKey(entry), catalog.getEntryValue(entry));
+		}
+
+		Map<String, String> values = getSourceValues(range, current);
+		Map<String, String> override = getOverride(range.getFilename(), range.getLocale());
+		if (override != null)
+		{
+			values.putAll(override);
+		}
+
+		// Key level delta against the live entries of the resource bundle file.
+		int added = 0;
+		int changed = 0;
+		for (Map.Entry<String, String> entry : values.entrySet())
+		{
+			String value = current.get(entry.getKey());
+			if (value == null)
+			{
+				added++;
+				addedKeys.add(entry.getKey());
+			}
+			else if (!value.equals(entry.getValue()))
+			{
+				changed++;
+				changedKeys.add(entry.getKey());
+			}
+		}
+
+		List<String> removed = current.keySet().stream().filter(e -> !values.containsKey(e)).collect(Collectors.toList());
+		if (added + changed + removed.size() == 0)
+		{
+			return null;
+		}
+		removedKeys.addAll(removed);
+
+		int first = catalog.getEntryCount();
+		int collisions = 0;
+		for (Map.Entry<String, String> entry : values.entrySet())
+		{
+			if (catalog.replaceEntry(entry.getKey(), entry.getValue(), range.getRoot(), range) != null)
+			{
+				collisions++;
+			}
+		}
+		removed.forEach(e -> catalog.removeEntry(e, range.getRoot(), range));
+
+		if (collisions > 0)
+		{
+			log.warn(String.format("Resource bundle: '%s' has %d key(s) colliding with other entries for language: '%s', full keys and first registered keys win", range.getFilename(), Integer.valueOf(collisions), catalog.getLocale()));
+		}
+
+		// The annotated classes and the resource bundle file registered directly may share the same range.
+		BundleRange patched = new BundleRange(range.getFilename(), range.getRoot(), range.getLocale(), first, catalog.getEntryCount());
+		catalog.release(range);
+		catalog.getFiles().replace(range.getFilename(), range, patched);
+		for (Class<?> annotatedClass : new ArrayList<>(catalog.getClasses().keySet()))
+		{
+			if (catalog.getClasses().replace(annotatedClass, range, patched))
+			{
+				resolveTable(catalog, annotatedClass, patched);
+			}
+		}
+		catalog.clearMethodValues();
+
+		return new int[] { added, changed, removed.size() };
+	}
+
+	/**
+	 * Compacts a catalog whose entries are mostly left unused by the patched resource bundle files: a new catalog is
+	 * loaded for its locale (the reloaded external resource bundle files being merged again) and replaces it, the
+	 * readers of the previous catalog being unaffected.
+	 * <hr>
+	 * @param catalog Catalog to compact.
+	 */
+	@SuppressWarnings("nls")
+	private static final void compact(final @NonNull BundleCatalog catalog)
+	{
+		BundleCatalog compacted = new BundleCatalog(catalog.getLocale(), catalog.getStorage(), null);
+		registerAnnotated(compacted);
+		autoRegisterNotAnnotated(compacted);
+
+		CATALOGS.replace(catalog.getLocale(), catalog, compacted);
+		CATALOG.compareAndSet(catalog, compacted);
+
+		log.info(String.format("Resource bundle catalog compacted for language: '%s' from %d to %d entries", catalog.getLocale(), Integer.valueOf(catalog.getEntryCount()), Integer.valueOf(compacted.getEntryCount())));
+	}
+
+	/**
+	 * Returns the values of a resource bundle file read again from the class path for the locale of its range.
+	 * <hr>
+	 * @param range Range of the entries of the resource bundle file.
+	 * @param current Live entries of the resource bundle file (kept if the resource bundle file cannot be read again).
+	 * @return Values (in the order of the resource bundle file).
+	 */
+	private static final Map<String, String> getSourceValues(final @NonNull BundleRange range, final @NonNull Map<String, String> current)
+	{
+		ResourceBundle bundle;
+		try
+		{
+			bundle = BundleResolver.load(range.getFilename(), range.getLocale(), format);
+		}
+		catch (MissingResourceException e)
+		{
+			bundle = null;
+		}
+
+		Map<String, String> values = new LinkedHashMap<>();
+		if (bundle == null || !bundle.getLocale().equals(range.getLocale()))
+		{
+			values.putAll(current);
+		}
+		else if (bundle instanceof BinaryResourceBundle)
+		{
+			BinaryBundle binary = ((BinaryResourceBundle) bundle).getBinaryBundle();
+			for (int i = 0; i < binary.size(); i++)
+			{
+				values.put(binary.getKeyAt(i), binary.getValueAt(i));
+			}
+		}
+		else
+		{
+			for (String key : Collections.list(bundle.getKeys()))
+			{
+				values.put(key, bundle.getString(key));
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Returns the resource bundle files registered in the resident catalogs.
+	 * <hr>
+	 * @return Resource bundle files.
+	 */
+	private static final Set<String> getFilenames()
+	{
+		Set<String> filenames = new HashSet<>(OTHER.keySet());
+		for (BundleCatalog catalog : getTargetCatalogs())
+		{
+			catalog.getClasses().values().forEach(e -> filenames.add(e.getFilename()));
+			filenames.addAll(catalog.getFiles().keySet());
+		}
+
+		return filenames;
+	}
+
+	/**
+	 * Returns the range of the entries of a resource bundle file in a catalog.
+	 * <hr>
+	 * @param catalog Catalog.
+	 * @param filename Resource bundle file.
+	 * @return Range or {@code null} if the resource bundle file is not registered in the catalog.
+	 */
+	private static final BundleRange getRange(final @NonNull BundleCatalog catalog, final @NonNull String filename)
+	{
+		BundleRange range = catalog.getFiles().get(filename);
+
+		return range != null ? range : catalog.getClasses().values().stream().filter(e -> e.getFilename().equals(filename)).findFirst().orElse(null);
+	}
+
+	/**
+	 * Returns the distinct ranges of the entries of a resource bundle file in a catalog.
+	 * <hr>
+	 * @param catalog Catalog.
+	 * @param filename Resource bundle file.
+	 * @return Ranges (empty if the resource bundle file is not registered in the catalog).
+	 */
+	private static final Set<BundleRange> getRanges(final @NonNull BundleCatalog catalog, final @NonNull String filename)
+	{
+		Set<BundleRange> ranges = new HashSet<>();
+		BundleRange file = catalog.getFiles().get(filename);
+		if (file != null)
+		{
+			ranges.add(file);
+		}
+		catalog.getClasses().values().stream().filter(e -> e.getFilename().equals(filename)).forEach(ranges::add);
+
+		return ranges;
+	}
+
+	/**
+	 * Returns the values of the reloaded external resource bundle files of the fall-back chain of a resource bundle
+	 * file, the most specific file winning.
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 * @param locale Locale of the resource bundle file.
+	 * @return Values or {@code null} if no file of the fall-back chain has been reloaded.
+	 */
+	private static final Map<String, String> getOverride(final @NonNull String filename, final @NonNull Locale locale)
+	{
+		if (OVERRIDES.isEmpty())
+		{
+			return null;
+		}
+
+		Map<String, String> override = null;
+		List<Locale> candidates = BundleResolver.getCandidateLocales(filename, locale);
+		for (int i = candidates.size() - 1; i >= 0; i--)
+		{
+			Map<String, String> values = OVERRIDES.get(getOverrideKey(filename, candidates.get(i)));
+			if (values != null)
+			{
+				if (override == null)
+				{
+					override = new HashMap<>();
+				}
+				override.putAll(values);
+			}
+		}
+
+		return override;
+	}
+
+	/**
+	 * Returns the key of the values of a reloaded external resource bundle file.
+	 * <hr>
+	 * @param filename Resource bundle file.
+	 * @param locale Locale of the resource bundle file.
+	 * @return Key.
+	 */
+	private static final String getOverrideKey(final @NonNull String filename, final @NonNull Locale locale)
+	{
+		return filename + '|' + locale;
+	}
+
+	/**
+	 * Converts the locale suffix of a resource bundle file name (for example {@code fr_CA}) into a locale.
+	 * <hr>
+	 * @param suffix Locale suffix.
+	 * @return Locale.
+	 */
+	private static final Locale toLocale(final @NonNull String suffix)
+	{
+		String[] parts = suffix.split("_", 3); //$NON-NLS-1$
+
+		return parts.length == 1 ? new Locale(parts[0]) : parts.length == 2 ? new Locale(parts[0], parts[1]) : new Locale(parts[0], parts[1], parts[2]);
+	}
+
+	/**
+	 * Registers directly a new resource bundle file with a root path to ease key access and a given locale.
+	 * <p>
+	 * @param filename Resource bundle file to register.
+	 * @param root Root path to access the keys.
+	 * @param locale Locale to use to register the resource bundle.
+	 * @throws ResourceBundleException Thrown if the resource bundle file cannot be found.
+	 */
+	@SuppressWarnings({ "nls", "hiding" })
+	public static final void register(final @NonNull String filename, final @NonNull String root, final @NonNull Locale locale)
+	{
+		initialize();
+
+		synchronized (LOCK)
+		{
+			generation++;
+			List<BundleCatalog> catalogs = getTargetCatalogs();
+
+			// The given locale is checked against the catalog in use, the other resident catalogs use their own.
+			register(catalogs.get(0), filename, root, locale);
+			OTHER.put(filename, root);
 
-		log.info(String.format("Resource bundle manager load strategy set to: '%s'", strategy));
+			for (BundleCatalog catalog : catalogs.subList(1, catalogs.size()))
+			{
+				try
+				{
+					register(catalog, filename, root, catalog.getLocale());
+				}
+				catch (ResourceBundleException e)
+				{
+					log.warn(String.format("Resource bundle: '%s' not registered for language: '%s'", filename, catalog.getLocale()));
+				}
+			}
+		}
 	}
 
 	/**
-	 * Registers directly a new resource bundle file with a root path to ease key access and a given locale.
+	 * Registers directly a new resource bundle file with a root path to ease key access and a given locale into a catalog.
 	 * <p>
+	 * @param catalog Catalog to register the resource bundle into.
 	 * @param filename Resource bundle file to register.
 	 * @param root Root path to access the keys.
 	 * @param locale Locale to use to register the resource bundle.
 	 * @throws ResourceBundleException Thrown if the resource bundle file cannot be found.
 	 */
 	@SuppressWarnings({ "nls", "hiding" })
-	public static final void register(final @NonNull String filename, final @NonNull String root, final @NonNull Locale locale)
+	private static final void register(final @NonNull BundleCatalog catalog, final @NonNull String filename, final @NonNull String root, final @NonNull Locale locale)
 	{
 		String message;
 
-		initialize();
-
 		try
 		{
-			ResourceBundle bundle = ResourceBundle.getBundle(filename, locale);
+			// In LENIENT mode, a resource bundle not for the required language is resolved again with the catalog locale.
+			boolean lenient = ResourceBundleManager.strategy == BundleLoadStrategyType.LENIENT;
+			BundleResolver.Resolution resolution = catalog.getResolver().resolve(filename, locale, lenient ? catalog.getLocale() : null, format);
+			ResourceBundle bundle = resolution.getBundle();
 
 			// Ensure the registered resource bundle is for the required language.
-			if (!bundle.getLocale().getISO3Language().equals(ResourceBundleManager.locale.getISO3Language()))
+			if (resolution.isFallback())
 			{
-				if (ResourceBundleManager.strategy == BundleLoadStrategyType.LENIENT)
+				if (lenient)
 				{
-					// As load strategy is set to lenient, let's try to load one with correct locale.
-					bundle = ResourceBundle.getBundle(filename, ResourceBundleManager.locale);
-					if (!bundle.getLocale().getISO3Language().equals(ResourceBundleManager.locale.getISO3Language()))
+					if (!resolution.isMatching())
 					{
-						message = String.format("Resource bundle: '%s' cannot be found for language: '%s'",filename, ResourceBundleManager.locale);
+						message = String.format("Resource bundle: '%s' cannot be found for language: '%s'",filename, catalog.getLocale());
 						log.warn(message);
 					}
 
-					mergeEntries(filename, root);
-					log.info(String.format("Resource bundle: '%s' registered for language: '%s' due to LENIENT mode", filename, bundle.getLocale().getLanguage().length() == 0 ? ResourceBundleManager.defaultLocale : bundle.getLocale()));
+					if (mergeFile(catalog, filename, root, bundle))
+					{
+						log.info(String.format("Resource bundle: '%s' registered for language: '%s' due to LENIENT mode", filename, bundle.getLocale().getLanguage().length() == 0 ? ResourceBundleManager.defaultLocale : bundle.getLocale()));
+					}
 				}
 				else
 				{
-					message = String.format("Resource bundle: '%s' with language: '%s' ignored because it does not match resource bundle manager language set to: '%s'", filename, locale, ResourceBundleManager.locale);
+					message = String.format("Resource bundle: '%s' with language: '%s' ignored because it does not match resource bundle manager language set to: '%s'", filename, locale, catalog.getLocale());
 					log.error(message);
 					throw new ResourceBundleException(message);
 				}
 			}
 			else
 			{
-				mergeEntries(filename, root);
-				log.info(String.format("Resource bundle: '%s' registered for language: '%s'", filename, bundle.getLocale()));
+				if (mergeFile(catalog, filename, root, bundle))
+				{
+					log.info(String.format("Resource bundle: '%s' registered for language: '%s'", filename, bundle.getLocale()));
+				}
 			}
 		}
 		catch (MissingResourceException e)
@@ -364,41 +1996,200 @@ public final class ResourceBundleManager
 			log.error(e.getMessage(), e);
 			throw new ResourceBundleException(e.getMessage(), e);
 		}
+		finally
+		{
+			catalog.getResolver().release(filename);
+		}
+	}
+
+	/**
+	 * Merges the entries of a resource bundle file registered directly into a catalog, unless the resource bundle file
+	 * is already registered in the catalog (its full keys being already bound).
+	 * <hr>
+	 * @param catalog Catalog to merge the entries into.
+	 * @param filename Resource bundle file.
+	 * @param root Root path to access the keys.
+	 * @param bundle Resolved resource bundle.
+	 * @return {@code True} if the entries have been merged, {@code false} if the resource bundle file was already
+	 * registered.
+	 */
+	@SuppressWarnings("nls")
+	private static final boolean mergeFile(final @NonNull BundleCatalog catalog, final @NonNull String filename, final @NonNull String root, final @NonNull ResourceBundle bundle)
+	{
+		if (getRange(catalog, filename) != null)
+		{
+			log.info(String.format("Resource bundle: '%s' ignored because already registered for language: '%s'", filename, catalog.getLocale()));
+			return false;
+		}
+
+		catalog.getFiles().put(filename, mergeEntries(catalog, filename, root, bundle, getBaseRange(catalog, filename)));
+
+		return true;
+	}
+
+	/**
+	 * Merge the resource bundle entries with the catalog entries.
+	 * <p>
+	 * When the base catalog (the one the catalog is derived from) holds the same resource bundle file (same resolved
+	 * locale), its entries are copied rather than read again from the resource bundle.
+	 * <hr>
+	 * @param catalog Catalog to merge the entries into.
+	 * @param filename Resource bundle file to register.
+	 * @param root Root path to access the keys.
+	 * @param bundle Resolved resource bundle (with its fall-back chain).
+	 * @param base Range of the entries of the resource bundle file in the catalog the catalog is derived from
+	 * ({@code null} if none).
+	 * @return Range of the merged entries.
+	 */
+	@SuppressWarnings("nls")
+	private static final BundleRange mergeEntries(final @NonNull BundleCatalog catalog, final @NonNull String filename, final @NonNull String root, final @NonNull ResourceBundle bundle, final BundleRange base)
+	{
+		if (base != null && base.getLocale().equals(bundle.getLocale()))
+		{
+			BundleCatalog source = catalog.getBase();
+			BundleRange range = mergeEntries(catalog, filename, root, bundle.getLocale(), base.getEnd() - base.getFirst(), i -> source.getEntryKey(base.getFirst() + i), i -> source.getEntryValue(base.getFirst() + i));
+			if (log.isDebugEnabled())
+			{
+				log.debug(String.format("Resource bundle: '%s' reused from language: '%s' for language: '%s'", filename, source.getLocale(), catalog.getLocale()));
+			}
+
+			return range;
+		}
+
+		if (bundle instanceof BinaryResourceBundle)
+		{
+			// A binary bundle is compiled with its fall-back chain flattened, its entries are decoded in key table order.
+			BinaryBundle binary = ((BinaryResourceBundle) bundle).getBinaryBundle();
+
+			return mergeEntries(catalog, filename, root, bundle.getLocale(), binary.size(), binary::getKeyAt, binary::getValueAt);
+		}
+
+		List<String> keys = Collections.list(bundle.getKeys());
+
+		return mergeEntries(catalog, filename, root, bundle.getLocale(), keys.size(), keys::get, i -> bundle.getString(keys.get(i)));
 	}
 
 	/**
-	 * Merge the resource bundle entries with the resource manager entries.
+	 * Merge entries with the catalog entries.
+	 * <p>
+	 * Each entry is indexed by its full key and by its key relative to the root, collisions being reported here
+	 * rather than when retrieving the entries. The entries are appended to the store of the catalog as a range of
+	 * consecutive entries.
 	 * <hr>
+	 * @param catalog Catalog to merge the entries into.
 	 * @param filename Resource bundle file to register.
 	 * @param root Root path to access the keys.
+	 * @param locale Locale of the resolved resource bundle.
+	 * @param count Number of entries.
+	 * @param keys Full keys of the entries (by index).
+	 * @param values Values of the entries (by index).
+	 * @return Range of the merged entries.
 	 */
-	private static final void mergeEntries(final @NonNull String filename, final @NonNull String root)
+	@SuppressWarnings("nls")
+	private static final BundleRange mergeEntries(final @NonNull BundleCatalog catalog, final @NonNull String filename, final @NonNull String root, final @NonNull Locale locale, final int count, final @NonNull IntFunction<String> keys, final @NonNull IntFunction<String> values)
 	{
-		ResourceBundle bundle = ResourceBundle.getBundle(filename, ResourceBundleManager.locale);
+		String prefix = root.endsWith(CHARACTER_DOT) ? root : root + CHARACTER_DOT;
+		int first = catalog.getEntryCount();
 
-		OTHER.put(filename, root);
+		// Values of the external resource bundle files reloaded for the fall-back chain of this file (if any) win.
+		Map<String, String> override = getOverride(filename, locale);
+		Set<String> merged = override != null ? new HashSet<>() : null;
 
 		String key;
-		Enumeration<String> enumeration = bundle.getKeys();
-		while (enumeration.hasMoreElements())
+		int collisions = 0;
+		for (int i = 0; i < count; i++)
+		{
+			key = keys.apply(i);
+			if (override != null)
+			{
+				merged.add(key);
+			}
+
+			collisions += putEntry(catalog, key, override != null && override.containsKey(key) ? override.get(key) : values.apply(i), prefix);
+		}
+
+		if (override != null)
+		{
+			for (Map.Entry<String, String> entry : override.entrySet())
+			{
+				if (!merged.contains(entry.getKey()))
+				{
+					collisions += putEntry(catalog, entry.getKey(), entry.getValue(), prefix);
+				}
+			}
+		}
+
+		if (collisions > 0)
+		{
+			log.warn(String.format("Resource bundle: '%s' has %d key(s) colliding with other entries for language: '%s', full keys and first registered keys win", filename, Integer.valueOf(collisions), catalog.getLocale()));
+		}
+
+		return new BundleRange(filename, prefix, locale, first, catalog.getEntryCount());
+	}
+
+	/**
+	 * Puts an entry into a catalog.
+	 * <hr>
+	 * @param catalog Catalog.
+	 * @param key Full key.
+	 * @param value Value.
+	 * @param prefix Root of the keys (ending with a dot).
+	 * @return {@code 1} if the key collides with another entry, {@code 0} otherwise.
+	 */
+	@SuppressWarnings("nls")
+	private static final int putEntry(final @NonNull BundleCatalog catalog, final @NonNull String key, final @NonNull String value, final @NonNull String prefix)
+	{
+		String collision = catalog.putEntry(key, value, prefix);
+		if (collision == null)
+		{
+			return 0;
+		}
+
+		if (log.isDebugEnabled())
 		{
-			key = enumeration.nextElement();
-			ENTRIES.put(key, bundle.getString(key));
+			log.debug(String.format("Resource bundle key: '%s' collides with key: '%s'", key, collision));
 		}
+
+		return 1;
+	}
+
+	/**
+	 * Returns the range of the entries of an annotated class in the catalog a catalog is derived from.
+	 * <hr>
+	 * @param catalog Catalog.
+	 * @param annotatedClass Annotated class.
+	 * @return Range or {@code null} if none.
+	 */
+	private static final BundleRange getBaseRange(final @NonNull BundleCatalog catalog, final @NonNull Class<?> annotatedClass)
+	{
+		return catalog.getBase() != null ? catalog.getBase().getClasses().get(annotatedClass) : null;
+	}
+
+	/**
+	 * Returns the range of the entries of a resource bundle file registered directly in the catalog a catalog is
+	 * derived from.
+	 * <hr>
+	 * @param catalog Catalog.
+	 * @param filename Resource bundle file.
+	 * @return Range or {@code null} if none.
+	 */
+	private static final BundleRange getBaseRange(final @NonNull BundleCatalog catalog, final @NonNull String filename)
+	{
+		return catalog.getBase() != null ? catalog.getBase().getFiles().get(filename) : null;
 	}
 
 	/**
 	 * Registers a resource bundle and its associated annotated class with the {@link Bundle} annotation.
 	 * <p>
+	 * @param catalog Catalog to register the resource bundle into.
 	 * @param annotatedClass Annotated class to register.
 	 * @param bundle Resource bundle to register.
 	 * @throws ResourceBundleException Thrown if an error occurred while trying
 	 * to register a resource bundle.
 	 */
 	@SuppressWarnings("nls")
-	private static final void register(final @NonNull Class<?> annotatedClass, final @NonNull ResourceBundle bundle)
+	private static final void register(final @NonNull BundleCatalog catalog, final @NonNull Class<?> annotatedClass, final @NonNull ResourceBundle bundle)
 	{
-		List<ResourceBundle> bundles = new ArrayList<>();
 		Bundle annotation = null;
 
 		// Extract the Bundle annotation.
@@ -408,7 +2199,7 @@ public final class ResourceBundleManager
 			throw new ResourceBundleException(String.format("Cannot find @Bundle annotation for class %s", annotatedClass.getName()));
 		}
 
-		if (checkAlreadyRegistered(annotatedClass))
+		if (checkAlreadyRegistered(catalog, annotatedClass))
 		{
 			// Ensure we do not register the same annotated class twice.
 			log.warn(String.format("Annotated class: '%s' already registered with bundle: '%s'", annotatedClass.getName(), annotation.file()));
@@ -417,7 +2208,7 @@ public final class ResourceBundleManager
 		}
 
 		// Ensure we do not register the same resource bundle twice.
-		Optional<Class<?>> optionalClass = checkAlreadyRegistered(annotation);
+		Optional<Class<?>> optionalClass = checkAlreadyRegistered(catalog, annotation);
 		if (optionalClass.isPresent())
 		{
 			log.warn(String.format("Resource bundle: '%s' ignored because already registered", annotation.file()));
@@ -425,12 +2216,23 @@ public final class ResourceBundleManager
 			return;
 		}
 
-		// No similar annotated class already registered, so let's register it.
-		bundles.add(bundle);
-		CLASSES.putIfAbsent(annotatedClass, bundles);
+		// The resource bundle file already registered directly with the same root is shared (its full keys being already bound).
+		BundleRange range = catalog.getFiles().get(annotation.file());
+		if (range != null && range.getRoot().equals(annotation.root().endsWith(CHARACTER_DOT) ? annotation.root() : annotation.root() + CHARACTER_DOT))
+		{
+			catalog.getClasses().putIfAbsent(annotatedClass, range);
+			resolveTable(catalog, annotatedClass, range);
+			log.info(String.format("Resource bundle: '%s' already registered, shared with annotated class: '%s'", annotation.file(), annotatedClass.getName()));
+
+			return;
+		}
+
+		// No similar annotated class already registered, so let's register it (the catalog only keeps its range of entries).
+		range = mergeEntries(catalog, annotation.file(), annotation.root(), bundle, getBaseRange(catalog, annotatedClass));
+		catalog.getClasses().putIfAbsent(annotatedClass, range);
+		resolveTable(catalog, annotatedClass, range);
 
-		mergeEntries(annotation.file(), annotation.root());
-		if (!bundle.getLocale().getISO3Language().equals(ResourceBundleManager.locale.getISO3Language()))
+		if (!bundle.getLocale().getLanguage().equals(catalog.getLocale().getLanguage()))
 		{
 			log.info(String.format("Resource bundle: '%s' registered for language: '%s' due to LENIENT mode", annotation.file(), bundle.getLocale()));
 		}
@@ -440,102 +2242,255 @@ public final class ResourceBundleManager
 		}
 	}
 
+	/**
+	 * Resolves the entries of an annotated enumeration class implementing the {@link IBundle} interface into a table
+	 * indexed by the ordinal of the enumerated values.
+	 * <p>
+	 * Annotated classes not being an enumeration implementing the {@link IBundle} interface are ignored.
+	 * <hr>
+	 * @param catalog Catalog to register the table into.
+	 * @param annotatedClass Annotated class.
+	 * @param range Range of the entries of the resource bundle of the annotated class.
+	 */
+	private static final void resolveTable(final @NonNull BundleCatalog catalog, final @NonNull Class<?> annotatedClass, final @NonNull BundleRange range)
+	{
+		if (!annotatedClass.isEnum() || !IBundle.class.isAssignableFrom(annotatedClass))
+		{
+			return;
+		}
+
+		// The full keys of the resource bundle file may have been bound first when registered directly.
+		BundleRange file = catalog.getFiles().get(range.getFilename());
+
+		Object[] constants = annotatedClass.getEnumConstants();
+		int[] table = new int[constants.length];
+		int entry;
+		for (int i = 0; i < constants.length; i++)
+		{
+			// A key bound outside of the range does not belong to the resource bundle of the annotated class.
+			entry = catalog.getEntry(((IBundle) constants[i]).getKey());
+			table[i] = range.contains(entry) || (file != null && file.contains(entry)) ? entry : -1;
+		}
+
+		catalog.putTable(annotatedClass, table);
+	}
+
 	/**
 	 * Checks if the given resource bundle file contained in the given annotation is already registered
 	 * through another annotated class.
 	 * <hr>
+	 * @param catalog Catalog to check.
 	 * @param annotatedClass Class annotated with the {@link Bundle} annotation.
 	 * @return {@code True} if the given annotated class is already registered, {@code false} otherwise.
 	 */
-	private static final boolean checkAlreadyRegistered(final @NonNull Class<?> annotatedClass)
+	private static final boolean checkAlreadyRegistered(final @NonNull BundleCatalog catalog, final @NonNull Class<?> annotatedClass)
 	{
-		return (CLASSES.keySet()
-				.stream()
-				.filter(e -> e == annotatedClass)
-				.findFirst()).isPresent() ? true : false;
+		return catalog.getClasses().containsKey(annotatedClass);
 	}
 
 	/**
 	 * Checks if the given resource bundle file contained in the given annotation is already registered
 	 * through another annotated class.
 	 * <hr>
+	 * @param catalog Catalog to check.
 	 * @param annotation {@link Bundle} annotation containing the resource bundle file to check.
 	 * @return {@link Optional} containing the other annotated class in case the resource bundle file is already registered.
 	 */
-	private static final Optional<Class<?>> checkAlreadyRegistered(final @NonNull Bundle annotation)
+	private static final Optional<Class<?>> checkAlreadyRegistered(final @NonNull BundleCatalog catalog, final @NonNull Bundle annotation)
 	{
 		String name = annotation.file();
 
-		return CLASSES.keySet().stream()
+		return catalog.getClasses().keySet().stream()
 				.filter(e -> e.getAnnotation(Bundle.class).file().equals(name))
 				.findAny();
 	}
 
 	/**
-	 * Retrieves a resource bundle value given its key.
+	 * Loads the pending resource bundle of an annotated class into a catalog (lazy mode).
 	 * <p>
-	 * @param key Resource bundle key.
-	 * @return Resource bundle value.
+	 * Concurrent first requests trigger a single load, the other requesters waiting for it to complete. A re-entrant
+	 * request (while loading the same resource bundle) does not load anything.
+	 * <hr>
+	 * @param catalog Catalog to load the resource bundle into.
+	 * @param className Name of the annotated class (loaded on first use).
+	 * @return {@code True} if the resource bundle is (now) loaded, {@code false} if it was not pending or is being
+	 * loaded by the current thread.
 	 */
-	@SuppressWarnings("nls")
-	private static final String retrieve(final @NonNull String key)
+	private static final boolean loadPendingClass(final @NonNull BundleCatalog catalog, final @NonNull String className)
 	{
-		for (String filename : OTHER.keySet())
+		if (!catalog.isPending(className))
+		{
+			return false;
+		}
+
+		synchronized (LOCK)
 		{
-			// Try first without the root.
-			if (ENTRIES.containsKey(key))
+			if (catalog.isPending(className))
 			{
-				return ENTRIES.get(key);
+				if (!LOADING_CLASSES.add(className))
+				{
+					return false;
+				}
+
+				try
+				{
+					load(catalog, loadClass(className));
+				}
+				finally
+				{
+					// The class is no longer pending once its entries are visible.
+					catalog.removePending(className);
+					LOADING_CLASSES.remove(className);
+				}
 			}
+		}
 
-			// Try using with the root path.
-			if (ENTRIES.containsKey(OTHER.get(filename) + ResourceBundleManager.CHARACTER_DOT + key))
+		return true;
+	}
+
+	/**
+	 * Loads the pending resource bundles (lazy mode) which may contain a key into a catalog until the key is found.
+	 * <p>
+	 * Only the resource bundles whose root prefixes the key are loaded, unless the key has the root of no resource
+	 * bundle: all of them are then loaded as the key may be a root-relative key.
+	 * <hr>
+	 * @param catalog Catalog to load the resource bundles into.
+	 * @param key Resource bundle key.
+	 * @return Resource bundle value or {@code null} if the key does not exist.
+	 */
+	private static final String loadPending(final @NonNull BundleCatalog catalog, final @NonNull String key)
+	{
+		String value = null;
+		boolean loaded = true;
+
+		List<String> classes = catalog.getPending(key);
+		while (value == null && loaded && !classes.isEmpty())
+		{
+			loaded = false;
+			for (String className : classes)
 			{
-				return ENTRIES.get(OTHER.get(filename) + ResourceBundleManager.CHARACTER_DOT + key);
+				loaded |= loadPendingClass(catalog, className);
 			}
+
+			value = catalog.getValue(key);
+			classes = catalog.getPending(key);
+		}
+
+		// Probed again as a concurrent load may have completed since the first probe.
+		return value != null ? value : catalog.getValue(key);
+	}
+
+	/**
+	 * Retrieves a resource bundle value given its full key or its key relative to the root of its resource bundle.
+	 * <p>
+	 * @param catalog Catalog to retrieve the value from.
+	 * @param key Resource bundle key.
+	 * @return Resource bundle value.
+	 */
+	@SuppressWarnings("nls")
+	private static final String retrieve(final @NonNull BundleCatalog catalog, final @NonNull String key)
+	{
+		String value = catalog.getValue(key);
+		if (value == null && (value = loadPending(catalog, key)) == null)
+		{
+			throw new ResourceBundleException(reportMiss(catalog, key, true).getMessage());
 		}
 
-		String message = String.format("Cannot find key: %s", key);
-		log.error(message);
-		throw new ResourceBundleException(message);
+		return value;
 	}
 
 	/**
 	 * Retrieves a message from a resource bundle from its key.
 	 * <p>
+	 * @param catalog Catalog to retrieve the message from.
 	 * @param key Resource key to retrieve.
 	 * @param parameters Parameters to inject while formatting the message.
 	 * @return The formatted message.
 	 */
 	@SuppressWarnings("nls")
-	private static final String retrieve(final Enum<? extends IBundle> key, final Object... parameters)
+	private static final String retrieve(final @NonNull BundleCatalog catalog, final Enum<? extends IBundle> key, final Object... parameters)
 	{
-		final Class<? extends IBundle> bundleClass = key.getDeclaringClass();
-		String theKey = ((IBundle) key).getKey();
-
-		if (!isInitialized)
+		final MessageTemplate template = findTemplate(catalog, key);
+		if (template == null)
 		{
-			initialize();
+			throw new ResourceBundleException(reportMiss(catalog, key, true).getMessage());
 		}
 
-		Optional<Class<?>> optionalClass = CLASSES.keySet()
-				.stream().filter(e -> bundleClass == e).findFirst();
+		return template.format(parameters);
+	}
 
-		if (optionalClass.isPresent())
+	/**
+	 * Finds the message template of a resource bundle key using an enumerated value.
+	 * <hr>
+	 * @param catalog Catalog to retrieve the template from.
+	 * @param key Enumerated value.
+	 * @return Message template or {@code null} if the key does not exist.
+	 */
+	private static final MessageTemplate findTemplate(final @NonNull BundleCatalog catalog, final @NonNull Enum<? extends IBundle> key)
+	{
+		initialize();
+
+		BundleTable table = catalog.getTable(key.getDeclaringClass());
+		if (table == null)
 		{
-			Optional<ResourceBundle> optionalBundle = CLASSES.get(optionalClass.get())
-					.stream().filter(e -> e.containsKey(theKey)).findFirst();
+			// Probed again as the resource bundle may be pending or being loaded concurrently.
+			loadPendingClass(catalog, key.getDeclaringClass().getName());
+			table = catalog.getTable(key.getDeclaringClass());
+		}
+
+		return table != null ? table.getTemplate(key.ordinal()) : null;
+	}
+
+	/**
+	 * Reports the miss of a key in a catalog.
+	 * <p>
+	 * The misses of a given key are logged at most once per minute with the number of misses since the previous
+	 * report.
+	 * <hr>
+	 * @param catalog Catalog the key has been missed in.
+	 * @param key Missed key (string key or enumerated value).
+	 * @param isError Is the miss an error (or a warning)?
+	 * @return Miss.
+	 */
+	@SuppressWarnings("nls")
+	private static final BundleMisses.Miss reportMiss(final @NonNull BundleCatalog catalog, final @NonNull Object key, final boolean isError)
+	{
+		BundleMisses.Miss miss = catalog.getMisses().record(key, ResourceBundleManager::describeMiss);
 
-			if (optionalBundle.isPresent())
+		long count = miss.hit();
+		if (count > 0)
+		{
+			String message = count == 1 ? miss.getMessage() : String.format("%s (missed %d times since the last report)", miss.getMessage(), Long.valueOf(count));
+			if (isError)
 			{
-				return MessageFormat.format(optionalBundle.get().getString(theKey), parameters);
+				log.error(message);
+			}
+			else
+			{
+				log.warn(message);
 			}
 		}
 
-		String message = String.format("Cannot find resource bundle key: '%s' in annotated class: '%s'", theKey, bundleClass.getName());
-		log.error(message);
+		return miss;
+	}
+
+	/**
+	 * Describes the miss of a key.
+	 * <hr>
+	 * @param key Missed key (string key or enumerated value).
+	 * @return Error message.
+	 */
+	@SuppressWarnings({ "nls", "unchecked" })
+	private static final String describeMiss(final @NonNull Object key)
+	{
+		if (key instanceof IBundle)
+		{
+			Enum<? extends IBundle> enumerated = (Enum<? extends IBundle>) key;
+
+			return String.format("Cannot find resource bundle key: '%s' in annotated class: '%s'", ((IBundle) key).getKey(), enumerated.getDeclaringClass().getName());
+		}
 
-		throw new ResourceBundleException(message);
+		return String.format("Cannot find key: %s", key);
 	}
 
 	/**
@@ -552,23 +2507,23 @@ public final class ResourceBundleManager
 	 * Sets the language used by the {@link ResourceBundleManager} and also sets the
 	 * JVM default language.
 	 * <p>
-	 * <b>Note:</b> Calling this service forces the
-	 * {@link ResourceBundleManager} to reload all the resource bundle files
-	 * according to the new locale.
+	 * <b>Note:</b> Calling this service switches the
+	 * {@link ResourceBundleManager} to the catalog of the new locale, loading
+	 * the resource bundle files for this locale if not yet resident (the ones
+	 * resolving to the same file as for the current locale being reused). To serve
+	 * several languages at the same time, use {@link #openScope(Locale)} or the
+	 * services taking a {@link Locale} instead.
 	 * <p>
 	 * @param locale {@link Locale} corresponding to the new language to set.
 	 */
 	@SuppressWarnings("nls")
 	public static final void setLocale(final @NonNull Locale locale)
 	{
-		if (!isInitialized && !isInitializing)
-		{
-			initialize();
-		}
+		initialize();
 
-		if (!locale.getLanguage().equals(ResourceBundleManager.locale.getLanguage()))
+		if (!locale.getLanguage().equals(getLocale().getLanguage()))
 		{
-			log.info(String.format("Resource bundle manager language set to: '%s', previous was: '%s'", locale, ResourceBundleManager.locale));
+			log.info(String.format("Resource bundle manager language set to: '%s', previous was: '%s'", locale, getLocale()));
 
 			refresh(locale);
 		}
@@ -578,35 +2533,31 @@ public final class ResourceBundleManager
 	 * Refresh all the resource bundles already handled by the
 	 * {@link ResourceBundleManager} for the given {@link Locale}.
 	 * <p>
+	 * The catalog of the new locale is loaded aside (unless already resident) and published once complete, the
+	 * catalog in use remains available to the readers until then.
+	 * <p>
 	 * @param locale {@link Locale} corresponding to the new language to use.
 	 */
-	@SuppressWarnings({ "hiding", "nls" })
+	@SuppressWarnings("hiding")
 	private static final void refresh(final @NonNull Locale locale)
 	{
-		Locale.setDefault(locale);
-		ResourceBundleManager.locale = locale;
-
-		log.info(String.format("Refreshing resource bundle files for language: '%s'...", ResourceBundleManager.locale));
-
-		// We need to reload everything as the language has changed.
-		ENTRIES.clear();
-		CLASSES.clear();
-
-		// Re-launch the auto registration of all annotated classes.
-		autoRegisterAnnotated();
-
-		// Register back all bundles registered directly (without annotated class).
-		autoRegisterNotAnnotated();
+		synchronized (LOCK)
+		{
+			BundleCatalog catalog = catalogOf(locale);
 
-		log.info("Finished refreshing resource bundle files");
+			Locale.setDefault(locale);
+			CATALOG.set(catalog);
+		}
 	}
 
 	/**
 	 * Automatically register all resource bundles not declared through an annotated class.
+	 * <hr>
+	 * @param catalog Catalog to register the resource bundles into.
 	 */
-	private static final void autoRegisterNotAnnotated()
+	private static final void autoRegisterNotAnnotated(final @NonNull BundleCatalog catalog)
 	{
-		OTHER.keySet().stream().forEach(e -> ResourceBundleManager.register(e, OTHER.get(e)));
+		OTHER.keySet().stream().forEach(e -> register(catalog, e, OTHER.get(e), catalog.getLocale()));
 	}
 
 	/**
@@ -617,11 +2568,15 @@ public final class ResourceBundleManager
 	public static final Locale getLocale()
 	{
 		// This service does not auto initialize the manager.
-		return locale;
+		return CATALOG.get().getLocale();
 	}
 
 	/**
 	 * Returns the resource bundle value matching the given service called using an enumerated value.
+	 * <p>
+	 * The service is inferred from the caller which must be a method of the enumeration class annotated with the
+	 * {@link BundleMethod} annotation. Prefer {@link #getBundleValue(Class, String, Enum)} which does not need to
+	 * inspect the call stack.
 	 * <hr>
 	 * @param annotatedClass Enumeration class.
 	 * @param enumerated Enumerated value.
@@ -631,94 +2586,125 @@ public final class ResourceBundleManager
 	{
 		initialize();
 
-		return getBundleValue(annotatedClass, enumerated, ResourceBundleManager.locale);
+		BundleMethods methods = getBundleMethods(annotatedClass);
+		BundleCatalog catalog = current();
+		loadPendingClass(catalog, annotatedClass.getName());
+
+		return catalog.getMethodValue(annotatedClass, getPrefixForCaller(annotatedClass, methods, findDeclaringMethod(annotatedClass)), enumerated);
 	}
 
 	/**
 	 * Returns the resource bundle value matching the given service called using an enumerated value.
+	 * <p>
+	 * The service is inferred from the caller which must be a method of the enumeration class annotated with the
+	 * {@link BundleMethod} annotation. Prefer {@link #getBundleValue(Class, String, Enum, Locale)} which does not need
+	 * to inspect the call stack.
 	 * <hr>
 	 * @param annotatedClass Enumeration class.
 	 * @param enumerated Enumerated value.
 	 * @param locale Locale to use.
 	 * @return Resource bundle value.
 	 */
-	@SuppressWarnings({ "nls", "hiding" })
 	public static final String getBundleValue(final @NonNull Class<? extends Enum<?>> annotatedClass, final @NonNull Enum<?> enumerated, final @NonNull Locale locale)
 	{
 		initialize();
 
-		String message = null;
+		BundleMethods methods = getBundleMethods(annotatedClass);
+		BundleCatalog catalog = catalogOf(locale);
+		loadPendingClass(catalog, annotatedClass.getName());
 
-		Bundle annotationClass = annotatedClass.getAnnotation(Bundle.class);
-		if (annotationClass == null)
-		{
-			message = String.format("The class: '%s' must be annotated with the @Bundle annotation!", annotatedClass.getName());
-			log.error(message);
-			throw new ResourceException(message);
-		}
+		return catalog.getMethodValue(annotatedClass, getPrefixForCaller(annotatedClass, methods, findDeclaringMethod(annotatedClass)), enumerated);
+	}
 
-		Optional<String> methodName = findDeclaringMethod(annotatedClass);
-		if (methodName.isPresent())
-		{
-			for (Method method : annotatedClass.getMethods())
-			{
-				BundleMethod annotationMethod = method.getAnnotation(BundleMethod.class);
-				if (annotationMethod != null && method.getName().equals(methodName.get()))
-				{
-					String key = composeKeyForMethod(annotationClass, annotationMethod, enumerated);
-					return ENTRIES.get(key);
-				}
-			}
-		}
+	/**
+	 * Returns the resource bundle value of an enumerated value for a given method key.
+	 * <hr>
+	 * @param annotatedClass Enumeration class.
+	 * @param key Method key (as declared by the {@link BundleMethod} annotation).
+	 * @param enumerated Enumerated value.
+	 * @return Resource bundle value.
+	 */
+	public static final String getBundleValue(final @NonNull Class<? extends Enum<?>> annotatedClass, final @NonNull String key, final @NonNull Enum<?> enumerated)
+	{
+		initialize();
 
-		message = String.format("Cannot find a suitable method annotated with the @BundleMethod annotation in class: %s", annotatedClass.getName());
-		log.error(message);
-		throw new ResourceBundleException(message);
+		BundleCatalog catalog = current();
+		loadPendingClass(catalog, annotatedClass.getName());
+
+		return catalog.getMethodValue(annotatedClass, getBundleMethods(annotatedClass).getPrefixForKey(key), enumerated);
 	}
 
 	/**
-	 * Find the method name of a given class being the caller.
+	 * Returns the resource bundle value of an enumerated value for a given method key.
 	 * <hr>
-	 * @param annotatedClass Class to lookup for the method.
-	 * @return Method name being the caller if found, otherwise {@code null}.
+	 * @param annotatedClass Enumeration class.
+	 * @param key Method key (as declared by the {@link BundleMethod} annotation).
+	 * @param enumerated Enumerated value.
+	 * @param locale Locale to use.
+	 * @return Resource bundle value.
 	 */
-	private static final Optional<String> findDeclaringMethod(final @NonNull Class<? extends Enum<?>> annotatedClass)
+	public static final String getBundleValue(final @NonNull Class<? extends Enum<?>> annotatedClass, final @NonNull String key, final @NonNull Enum<?> enumerated, final @NonNull Locale locale)
+	{
+		initialize();
+
+		BundleCatalog catalog = catalogOf(locale);
+		loadPendingClass(catalog, annotatedClass.getName());
+
+		return catalog.getMethodValue(annotatedClass, getBundleMethods(annotatedClass).getPrefixForKey(key), enumerated);
+	}
+
+	/**
+	 * Returns the resolved annotated methods of an enumeration class.
+	 * <hr>
+	 * @param annotatedClass Enumeration class.
+	 * @return Annotated methods.
+	 * @throws ResourceException Thrown if the class is not annotated with the {@link Bundle} annotation.
+	 */
+	private static final BundleMethods getBundleMethods(final @NonNull Class<? extends Enum<?>> annotatedClass)
 	{
-		int index = 1;
-		String className;
-		Optional<String> methodName = null;
-		boolean found = false;
+		return METHODS.get(annotatedClass);
+	}
 
-		while (!found)
+	/**
+	 * Returns the key prefix of the calling method.
+	 * <hr>
+	 * @param annotatedClass Enumeration class.
+	 * @param methods Annotated methods of the enumeration class.
+	 * @param methodName Name of the calling method (if found).
+	 * @return Key prefix.
+	 * @throws ResourceBundleException Thrown if the calling method is not annotated with the {@link BundleMethod}
+	 * annotation.
+	 */
+	@SuppressWarnings("nls")
+	private static final String getPrefixForCaller(final @NonNull Class<? extends Enum<?>> annotatedClass, final @NonNull BundleMethods methods, final @NonNull Optional<String> methodName)
+	{
+		String prefix = methodName.isPresent() ? methods.getPrefixForMethod(methodName.get()) : null;
+		if (prefix == null)
 		{
-			className = Thread.currentThread().getStackTrace()[index].getClassName();
-			if (className.equals(annotatedClass.getName()))
-			{
-				methodName = Optional.of(Thread.currentThread().getStackTrace()[index].getMethodName());
-				found = true;
-			}
-			else
-			{
-				index++;
-			}
+			String message = String.format("Cannot find a suitable method annotated with the @BundleMethod annotation in class: %s", annotatedClass.getName());
+			log.error(message);
+			throw new ResourceBundleException(message);
 		}
 
-		return methodName;
+		return prefix;
 	}
 
 	/**
-	 * Compose the full key of a resource bundle entry based on properties stored in annotations of the class and the method.
+	 * Find the method name of a given class being the caller.
+	 * <p>
+	 * Only the frame of the caller of the {@code getBundleValue} service is inspected.
 	 * <hr>
-	 * @param annotationClass Class annotated with the {@link Bundle} annotation.
-	 * @param annotationMethod Method annotated with the {@link BundleMethod} annotation.
-	 * @param enumerated Enumerated value.
-	 * @return The resource bundle entry full key.
+	 * @param annotatedClass Class to lookup for the method.
+	 * @return Method name being the caller if found, otherwise an empty optional.
 	 */
-	private static final String composeKeyForMethod(final @NonNull Bundle annotationClass, final @NonNull BundleMethod annotationMethod, final @NonNull Enum<?> enumerated)
+	private static final Optional<String> findDeclaringMethod(final @NonNull Class<? extends Enum<?>> annotatedClass)
 	{
-		String first = annotationClass.root().endsWith(CHARACTER_DOT) ? annotationClass.root() : annotationClass.root() + CHARACTER_DOT;
-		String second = annotationMethod.key().endsWith(CHARACTER_DOT) ? annotationMethod.key() : annotationMethod.key() + CHARACTER_DOT;
-
-		return second.startsWith(first) == false ? first + second + enumerated.name() : second + enumerated.name();
+		// Frames: this method, the getBundleValue service, then its caller.
+		return WALKER.walk(frames -> frames
+				.skip(2)
+				.limit(1)
+				.filter(frame -> frame.getClassName().equals(annotatedClass.getName()))
+				.map(StackWalker.StackFrame::getMethodName)
+				.findFirst());
 	}
 }
@@ -0,0 +1,433 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.hemajoo.foundation.common.exception.ResourceBundleException;
+
+import lombok.NonNull;
+
+/**
+ * Compiled binary form of a resource bundle file.
+ * <p>
+ * A binary bundle is made of a header, a key table sorted by key hash and a blob area holding the UTF-8 encoded keys
+ * and values:
+ * <pre>
+ * header    : magic (int), version (int), count (int), blob area offset (int)
+ * key table : count x [hash (int), key offset (int), key length (int), value offset (int), value length (int)]
+ * blob area : UTF-8 encoded keys and values (offsets are relative to the blob area)
+ * </pre>
+ * Keys and values are read straight from the underlying buffer (usually a memory-mapped file) and decoded on demand,
+ * nothing being parsed when opening the binary bundle (the key table is only validated). The resource bundle manager
+ * copies the entries of a binary bundle into its catalog in key table order, a binary bundle being compiled with its
+ * fall-back chain already flattened; the lookups by key serve the other users of the binary bundle.
+ * <p>
+ * Binary bundles are immutable and can be shared between threads.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BinaryBundle
+{
+	/**
+	 * Magic number of a binary bundle ({@code HBC1}).
+	 */
+	public static final int MAGIC = 0x48424331;
+
+	/**
+	 * Version of the binary bundle format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * File extension of the binary bundles.
+	 */
+	@SuppressWarnings("nls")
+	public static final String EXTENSION = "hbc";
+
+	/**
+	 * Size of the header (in bytes).
+	 */
+	private static final int HEADER_SIZE = 16;
+
+	/**
+	 * Size of an entry of the key table (in bytes).
+	 */
+	private static final int ENTRY_SIZE = 20;
+
+	/**
+	 * Underlying buffer (never modified, duplicated to read the blobs).
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Number of entries.
+	 */
+	private final int count;
+
+	/**
+	 * Offset of the blob area.
+	 */
+	private final int blobs;
+
+	/**
+	 * Creates a new binary bundle over a buffer.
+	 * <hr>
+	 * @param buffer Buffer containing the binary bundle.
+	 * @throws ResourceBundleException Thrown if the buffer does not contain a valid binary bundle.
+	 */
+	@SuppressWarnings("nls")
+	private BinaryBundle(final @NonNull ByteBuffer buffer)
+	{
+		this.buffer = buffer;
+
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+		{
+			throw new ResourceBundleException("Invalid binary resource bundle: bad magic number");
+		}
+
+		if (buffer.getInt(4) != VERSION)
+		{
+			throw new ResourceBundleException(String.format("Invalid binary resource bundle: unsupported version: %d", Integer.valueOf(buffer.getInt(4))));
+		}
+
+		this.count = buffer.getInt(8);
+		this.blobs = buffer.getInt(12);
+
+		if (count < 0 || count > (buffer.limit() - HEADER_SIZE) / ENTRY_SIZE || blobs != HEADER_SIZE + count * ENTRY_SIZE)
+		{
+			throw new ResourceBundleException("Invalid binary resource bundle: corrupted key table");
+		}
+
+		validate();
+	}
+
+	/**
+	 * Validates the entries of the key table: the keys and values must lie within the blob area and the entries must be
+	 * sorted by hash (as expected by the lookups).
+	 * <hr>
+	 * @throws ResourceBundleException Thrown if an entry is invalid.
+	 */
+	@SuppressWarnings("nls")
+	private final void validate()
+	{
+		long size = (long) buffer.limit() - blobs;
+		for (int i = 0; i < count; i++)
+		{
+			int entry = HEADER_SIZE + i * ENTRY_SIZE;
+			if (!isWithin(buffer.getInt(entry + 4), buffer.getInt(entry + 8), size) || !isWithin(buffer.getInt(entry + 12), buffer.getInt(entry + 16), size))
+			{
+				throw new ResourceBundleException(String.format("Invalid binary resource bundle: entry: %d out of the blob area", Integer.valueOf(i)));
+			}
+
+			if (i > 0 && getHash(i - 1) > getHash(i))
+			{
+				throw new ResourceBundleException(String.format("Invalid binary resource bundle: entry: %d not sorted by hash", Integer.valueOf(i)));
+			}
+		}
+	}
+
+	/**
+	 * Checks if a blob lies within the blob area.
+	 * <hr>
+	 * @param offset Offset of the blob (relative to the blob area).
+	 * @param length Length of the blob.
+	 * @param size Size of the blob area.
+	 * @return {@code True} if the blob lies within the blob area, {@code false} otherwise.
+	 */
+	private static final boolean isWithin(final int offset, final int length, final long size)
+	{
+		return offset >= 0 && length >= 0 && (long) offset + length <= size;
+	}
+
+	/**
+	 * Opens a binary bundle file by mapping it in memory.
+	 * <hr>
+	 * @param path Path of the binary bundle file.
+	 * @return Binary bundle.
+	 * @throws IOException Thrown if the file cannot be mapped.
+	 * @throws ResourceBundleException Thrown if the file is not a valid binary bundle.
+	 */
+	public static final BinaryBundle open(final @NonNull Path path) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			// The mapping remains valid once the channel is closed.
+			return new BinaryBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Wraps a buffer containing a binary bundle.
+	 * <hr>
+	 * @param buffer Buffer containing the binary bundle.
+	 * @return Binary bundle.
+	 * @throws ResourceBundleException Thrown if the buffer does not contain a valid binary bundle.
+	 */
+	public static final BinaryBundle wrap(final @NonNull ByteBuffer buffer)
+	{
+		return new BinaryBundle(buffer.asReadOnlyBuffer());
+	}
+
+	/**
+	 * Returns the number of entries.
+	 * <hr>
+	 * @return Number of entries.
+	 */
+	public final int size()
+	{
+		return count;
+	}
+
+	/**
+	 * Returns the value of a key.
+	 * <hr>
+	 * @param key Key.
+	 * @return Value or {@code null} if the key does not exist.
+	 */
+	public final String getValue(final @NonNull String key)
+	{
+		int hash = key.hashCode();
+
+		// Lower bound of the entries having the hash of the key.
+		int low = 0;
+		int high = count;
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (getHash(middle) < hash)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+
+		byte[] encoded = null;
+		for (int i = low; i < count && getHash(i) == hash; i++)
+		{
+			if (encoded == null)
+			{
+				encoded = key.getBytes(StandardCharsets.UTF_8);
+			}
+
+			if (matches(i, encoded))
+			{
+				int entry = HEADER_SIZE + i * ENTRY_SIZE;
+
+				return decode(buffer.getInt(entry + 12), buffer.getInt(entry + 16));
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the key of an entry.
+	 * <hr>
+	 * @param index Index of the entry (in key table order).
+	 * @return Key.
+	 * @throws IndexOutOfBoundsException Thrown if the index is out of range.
+	 */
+	public final String getKeyAt(final int index)
+	{
+		int entry = HEADER_SIZE + checkIndex(index) * ENTRY_SIZE;
+
+		return decode(buffer.getInt(entry + 4), buffer.getInt(entry + 8));
+	}
+
+	/**
+	 * Returns the value of an entry.
+	 * <hr>
+	 * @param index Index of the entry (in key table order).
+	 * @return Value.
+	 * @throws IndexOutOfBoundsException Thrown if the index is out of range.
+	 */
+	public final String getValueAt(final int index)
+	{
+		int entry = HEADER_SIZE + checkIndex(index) * ENTRY_SIZE;
+
+		return decode(buffer.getInt(entry + 12), buffer.getInt(entry + 16));
+	}
+
+	/**
+	 * Checks the index of an entry.
+	 * <hr>
+	 * @param index Index of the entry.
+	 * @return Index.
+	 * @throws IndexOutOfBoundsException Thrown if the index is out of range.
+	 */
+	@SuppressWarnings("nls")
+	private final int checkIndex(final int index)
+	{
+		if (index < 0 || index >= count)
+		{
+			throw new IndexOutOfBoundsException(String.format("Index: %d, size: %d", Integer.valueOf(index), Integer.valueOf(count)));
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the keys (in key table order).
+	 * <hr>
+	 * @return Keys.
+	 */
+	public final List<String> getKeys()
+	{
+		List<String> keys = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+		{
+			keys.add(getKeyAt(i));
+		}
+
+		return Collections.unmodifiableList(keys);
+	}
+
+	/**
+	 * Returns the hash of an entry.
+	 * <hr>
+	 * @param index Index of the entry.
+	 * @return Hash.
+	 */
+	private final int getHash(final int index)
+	{
+		return buffer.getInt(HEADER_SIZE + index * ENTRY_SIZE);
+	}
+
+	/**
+	 * Checks if the key of an entry matches an encoded key.
+	 * <hr>
+	 * @param index Index of the entry.
+	 * @param encoded UTF-8 encoded key.
+	 * @return {@code True} if the keys match, {@code false} otherwise.
+	 */
+	private final boolean matches(final int index, final byte[] encoded)
+	{
+		int entry = HEADER_SIZE + index * ENTRY_SIZE;
+		if (buffer.getInt(entry + 8) != encoded.length)
+		{
+			return false;
+		}
+
+		int offset = blobs + buffer.getInt(entry + 4);
+		for (int i = 0; i < encoded.length; i++)
+		{
+			if (buffer.get(offset + i) != encoded[i])
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Decodes a blob.
+	 * <hr>
+	 * @param offset Offset of the blob (relative to the blob area).
+	 * @param length Length of the blob.
+	 * @return Decoded string.
+	 */
+	private final String decode(final int offset, final int length)
+	{
+		byte[] bytes = new byte[length];
+
+		// The buffer is duplicated so that concurrent readers do not share its position.
+		ByteBuffer blob = buffer.duplicate();
+		blob.position(blobs + offset);
+		blob.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Writes the binary form of resource bundle entries.
+	 * <hr>
+	 * @param entries Resource bundle entries.
+	 * @param output Output stream to write to (not closed).
+	 * @throws IOException Thrown if an error occurred while writing.
+	 */
+	public static final void write(final @NonNull Map<String, String> entries, final @NonNull OutputStream output) throws IOException
+	{
+		// Sorted by hash (then by key to make the output reproducible).
+		List<String> keys = new ArrayList<>(new TreeMap<>(entries).keySet());
+		keys.sort(Comparator.comparingInt(String::hashCode));
+
+		int[] table = new int[keys.size() * 5];
+		List<byte[]> blobs = new ArrayList<>(keys.size() * 2);
+		int offset = 0;
+		for (int i = 0; i < keys.size(); i++)
+		{
+			byte[] key = keys.get(i).getBytes(StandardCharsets.UTF_8);
+			byte[] value = entries.get(keys.get(i)).getBytes(StandardCharsets.UTF_8);
+
+			table[i * 5] = keys.get(i).hashCode();
+			table[i * 5 + 1] = offset;
+			table[i * 5 + 2] = key.length;
+			table[i * 5 + 3] = offset + key.length;
+			table[i * 5 + 4] = value.length;
+
+			offset += key.length + value.length;
+			blobs.add(key);
+			blobs.add(value);
+		}
+
+		DataOutputStream data = new DataOutputStream(output);
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeInt(keys.size());
+		data.writeInt(HEADER_SIZE + keys.size() * ENTRY_SIZE);
+		for (int value : table)
+		{
+			data.writeInt(value);
+		}
+		for (byte[] blob : blobs)
+		{
+			data.write(blob);
+		}
+		data.flush();
+	}
+
+	/**
+	 * Writes the binary form of resource bundle entries into a file.
+	 * <hr>
+	 * @param entries Resource bundle entries.
+	 * @param path Path of the binary bundle file to write.
+	 * @throws IOException Thrown if an error occurred while writing.
+	 */
+	public static final void write(final @NonNull Map<String, String> entries, final @NonNull Path path) throws IOException
+	{
+		try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(path)))
+		{
+			write(entries, output);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import lombok.NonNull;
+
+/**
+ * Resource bundle control loading the compiled binary form ({@code .hbc}) of a resource bundle file.
+ * <p>
+ * A binary bundle being compiled with its fall-back chain flattened, only the binary bundle of the requested locale is
+ * looked up, the base binary bundle ({@link Locale#ROOT}) guarding against a missing one; no parent chain is resolved
+ * and no fall-back locale is used.
+ * <p>
+ * Binary bundles found on the file system are memory-mapped, the ones packaged in an archive are read in memory.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BinaryBundleControl extends ResourceBundle.Control
+{
+	/**
+	 * Binary bundle format.
+	 */
+	@SuppressWarnings("nls")
+	public static final String FORMAT_BINARY = "hemajoo.binary";
+
+	/**
+	 * Shared instance.
+	 */
+	public static final BinaryBundleControl INSTANCE = new BinaryBundleControl();
+
+	/**
+	 * Supported formats.
+	 */
+	private static final List<String> FORMATS = Collections.singletonList(FORMAT_BINARY);
+
+	/**
+	 * Candidate locales of the base binary bundle.
+	 */
+	private static final List<Locale> ROOT = Collections.singletonList(Locale.ROOT);
+
+	/**
+	 * Creates a new binary bundle control.
+	 */
+	private BinaryBundleControl()
+	{
+		// Empty.
+	}
+
+	@Override
+	public final List<String> getFormats(final @NonNull String baseName)
+	{
+		return FORMATS;
+	}
+
+	@Override
+	public final List<Locale> getCandidateLocales(final @NonNull String baseName, final @NonNull Locale locale)
+	{
+		return Locale.ROOT.equals(locale) ? ROOT : Arrays.asList(locale, Locale.ROOT);
+	}
+
+	@Override
+	public final Locale getFallbackLocale(final @NonNull String baseName, final @NonNull Locale locale)
+	{
+		return null;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final ResourceBundle newBundle(final String baseName, final Locale locale, final String format, final ClassLoader loader, final boolean reload) throws IllegalAccessException, InstantiationException, IOException
+	{
+		if (!FORMAT_BINARY.equals(format))
+		{
+			throw new IllegalArgumentException(String.format("Unknown format: %s", format));
+		}
+
+		URL url = loader.getResource(toResourceName(toBundleName(baseName, locale), BinaryBundle.EXTENSION));
+		if (url == null)
+		{
+			return null;
+		}
+
+		if ("file".equals(url.getProtocol()))
+		{
+			try
+			{
+				return new BinaryResourceBundle(BinaryBundle.open(Paths.get(url.toURI())));
+			}
+			catch (URISyntaxException e)
+			{
+				throw new IOException(e.getMessage(), e);
+			}
+		}
+
+		try (InputStream input = url.openStream())
+		{
+			return new BinaryResourceBundle(BinaryBundle.wrap(ByteBuffer.wrap(input.readAllBytes())));
+		}
+	}
+}
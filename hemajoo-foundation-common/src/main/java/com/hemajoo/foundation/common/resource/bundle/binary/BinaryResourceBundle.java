@@ -0,0 +1,78 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.binary;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import lombok.NonNull;
+
+/**
+ * Resource bundle backed by a {@link BinaryBundle}, its values being read from the binary bundle on lookup.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BinaryResourceBundle extends ResourceBundle
+{
+	/**
+	 * Binary bundle.
+	 */
+	private final BinaryBundle bundle;
+
+	/**
+	 * Creates a new resource bundle backed by a binary bundle.
+	 * <hr>
+	 * @param bundle Binary bundle.
+	 */
+	public BinaryResourceBundle(final @NonNull BinaryBundle bundle)
+	{
+		this.bundle = bundle;
+	}
+
+	/**
+	 * Returns the binary bundle backing this resource bundle.
+	 * <hr>
+	 * @return Binary bundle.
+	 */
+	public final BinaryBundle getBinaryBundle()
+	{
+		return bundle;
+	}
+
+	@Override
+	protected final Object handleGetObject(final @NonNull String key)
+	{
+		return bundle.getValue(key);
+	}
+
+	@Override
+	protected final Set<String> handleKeySet()
+	{
+		return new HashSet<>(bundle.getKeys());
+	}
+
+	@Override
+	public final Enumeration<String> getKeys()
+	{
+		Set<String> keys = handleKeySet();
+		if (parent != null)
+		{
+			keys.addAll(parent.keySet());
+		}
+
+		return Collections.enumeration(keys);
+	}
+}
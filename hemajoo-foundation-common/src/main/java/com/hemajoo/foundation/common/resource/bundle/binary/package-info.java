@@ -0,0 +1,4 @@
+/**
+ * Contains artifacts for the Hemajoo's Foundation Common component dedicated to the compiled binary form of the resource bundles.
+ */
+package com.hemajoo.foundation.common.resource.bundle.binary;
\ No newline at end of file
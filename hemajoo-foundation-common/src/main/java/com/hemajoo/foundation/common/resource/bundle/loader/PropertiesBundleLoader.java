@@ -0,0 +1,319 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.ref.SoftReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+/**
+ * Loads the {@code .properties} resource bundle files of a class loader without going through the
+ * {@link ResourceBundle#getBundle(String, Locale)} services.
+ * <p>
+ * The candidate locales and the fall-back on the default locale are the ones of the standard
+ * {@link ResourceBundle.Control}, but:
+ * <ul>
+ * <li>no class based resource bundle is probed,</li>
+ * <li>the resource bundle files are read through NIO and decoded as UTF-8 (falling back to ISO-8859-1 for the files
+ * not being valid UTF-8),</li>
+ * <li>the loaded resource bundles are not kept in the global cache of the {@link ResourceBundle} services, so
+ * loads never contend with the other users of the {@link ResourceBundle} services,</li>
+ * <li>the resource bundle files found missing are remembered, so they are not probed again.</li>
+ * </ul>
+ * The resource bundle files loaded are softly cached (a parent resource bundle file being shared by the locales
+ * falling back on it), the callers merging their entries into their own structures.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class PropertiesBundleLoader
+{
+	/**
+	 * Properties file extension.
+	 */
+	@SuppressWarnings("nls")
+	public static final String EXTENSION = "properties";
+
+	/**
+	 * Standard resource bundle control (only used for the candidate locales and the resource names).
+	 */
+	private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+	/**
+	 * Class loader the resource bundle files are loaded from.
+	 */
+	private final ClassLoader loader;
+
+	/**
+	 * Names of the resource bundle files found missing.
+	 */
+	private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Resource bundles loaded (linked to their parent) by resource name.
+	 */
+	private final Map<String, SoftReference<ResourceBundle>> bundles = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new properties bundle loader.
+	 * <hr>
+	 * @param loader Class loader the resource bundle files are loaded from.
+	 */
+	public PropertiesBundleLoader(final @NonNull ClassLoader loader)
+	{
+		this.loader = loader;
+	}
+
+	/**
+	 * Loads a resource bundle (linked to its fall-back resource bundles) for a given locale.
+	 * <hr>
+	 * @param baseName Base name of the resource bundle file.
+	 * @param locale Locale.
+	 * @return Resource bundle.
+	 * @throws MissingResourceException Thrown if no resource bundle file can be found for the base name.
+	 */
+	@SuppressWarnings("nls")
+	public final ResourceBundle load(final @NonNull String baseName, final @NonNull Locale locale)
+	{
+		ResourceBundle base = null;
+		for (Locale target = locale; target != null; target = getFallbackLocale(target))
+		{
+			List<Locale> candidates = CONTROL.getCandidateLocales(baseName, target);
+			ResourceBundle bundle = load(baseName, candidates);
+			if (bundle == null)
+			{
+				continue;
+			}
+
+			// Same rule as the resource bundle services: the base resource bundle only ends the search if it has been requested.
+			Locale found = bundle.getLocale();
+			if (!Locale.ROOT.equals(found) || found.equals(locale) || (candidates.size() == 1 && found.equals(candidates.get(0))))
+			{
+				return bundle;
+			}
+
+			if (base == null)
+			{
+				base = bundle;
+			}
+		}
+
+		if (base == null)
+		{
+			throw new MissingResourceException(String.format("Can't find bundle for base name %s, locale %s", baseName, locale), baseName + "_" + locale, "");
+		}
+
+		return base;
+	}
+
+	/**
+	 * Reads the entries of a {@code .properties} resource bundle file of the file system (for example an external
+	 * resource bundle file), decoded as the resource bundle files of the class path.
+	 * <hr>
+	 * @param file Resource bundle file.
+	 * @return Entries.
+	 * @throws IOException Thrown if the resource bundle file cannot be read or is malformed.
+	 */
+	public static final Map<String, String> read(final @NonNull Path file) throws IOException
+	{
+		try
+		{
+			return parse(decode(Files.readAllBytes(file)));
+		}
+		catch (IllegalArgumentException e)
+		{
+			// A malformed unicode escape sequence.
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Forgets the resource bundle files loaded and found missing (for example once new resource bundle files have been
+	 * made available to the class loader).
+	 */
+	public final void clear()
+	{
+		missing.clear();
+		bundles.clear();
+	}
+
+	/**
+	 * Loads the resource bundle files of a list of candidate locales, each one being linked to the next one found.
+	 * <hr>
+	 * @param baseName Base name of the resource bundle file.
+	 * @param candidates Candidate locales (from the most specific one to the root one).
+	 * @return Most specific resource bundle found or {@code null} if none.
+	 */
+	private final ResourceBundle load(final String baseName, final List<Locale> candidates)
+	{
+		ResourceBundle bundle = null;
+		for (int i = candidates.size() - 1; i >= 0; i--)
+		{
+			Locale candidate = candidates.get(i);
+			String name = CONTROL.toResourceName(CONTROL.toBundleName(baseName, candidate), EXTENSION);
+
+			SoftReference<ResourceBundle> reference = bundles.get(name);
+			ResourceBundle cached = reference != null ? reference.get() : null;
+			if (cached != null)
+			{
+				bundle = cached;
+				continue;
+			}
+
+			Map<String, String> entries = read(name);
+			if (entries != null)
+			{
+				bundle = new PropertiesResourceBundle(candidate, entries, bundle);
+				bundles.put(name, new SoftReference<>(bundle));
+			}
+		}
+
+		return bundle;
+	}
+
+	/**
+	 * Reads the entries of a resource bundle file.
+	 * <hr>
+	 * @param name Resource name of the resource bundle file.
+	 * @return Entries or {@code null} if the resource bundle file does not exist.
+	 * @throws MissingResourceException Thrown if the resource bundle file cannot be read.
+	 */
+	@SuppressWarnings("nls")
+	private final Map<String, String> read(final String name)
+	{
+		if (missing.contains(name))
+		{
+			return null;
+		}
+
+		URL url = loader.getResource(name);
+		if (url == null)
+		{
+			missing.add(name);
+			return null;
+		}
+
+		try
+		{
+			return parse(decode(readAllBytes(url)));
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException e)
+		{
+			MissingResourceException exception = new MissingResourceException(String.format("Cannot read resource bundle file: %s, due to: %s", name, e.getMessage()), name, "");
+			exception.initCause(e);
+			throw exception;
+		}
+	}
+
+	/**
+	 * Returns the fall-back locale of a target locale: the default locale, unless the target locale is the default one.
+	 * <hr>
+	 * @param target Target locale.
+	 * @return Fall-back locale or {@code null} if none.
+	 */
+	private static final Locale getFallbackLocale(final Locale target)
+	{
+		Locale locale = Locale.getDefault();
+
+		return target.equals(locale) ? null : locale;
+	}
+
+	/**
+	 * Reads the content of a resource bundle file, directly through NIO if it is on the file system.
+	 * <hr>
+	 * @param url URL of the resource bundle file.
+	 * @return Content.
+	 * @throws IOException Thrown if the resource bundle file cannot be read.
+	 * @throws URISyntaxException Thrown if the URL of the resource bundle file is invalid.
+	 */
+	@SuppressWarnings("nls")
+	private static final byte[] readAllBytes(final URL url) throws IOException, URISyntaxException
+	{
+		if ("file".equals(url.getProtocol()))
+		{
+			return Files.readAllBytes(Paths.get(url.toURI()));
+		}
+
+		try (InputStream input = url.openStream())
+		{
+			return input.readAllBytes();
+		}
+	}
+
+	/**
+	 * Decodes the content of a resource bundle file as UTF-8, or as ISO-8859-1 if it is not valid UTF-8.
+	 * <hr>
+	 * @param content Content.
+	 * @return Text.
+	 */
+	private static final String decode(final byte[] content)
+	{
+		try
+		{
+			return StandardCharsets.UTF_8.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPORT)
+					.onUnmappableCharacter(CodingErrorAction.REPORT)
+					.decode(ByteBuffer.wrap(content))
+					.toString();
+		}
+		catch (CharacterCodingException e)
+		{
+			return new String(content, StandardCharsets.ISO_8859_1);
+		}
+	}
+
+	/**
+	 * Parses the entries of a resource bundle file.
+	 * <hr>
+	 * @param text Text of the resource bundle file.
+	 * @return Entries.
+	 * @throws IOException Thrown if the text cannot be parsed.
+	 */
+	@SuppressWarnings("serial")
+	private static final Map<String, String> parse(final String text) throws IOException
+	{
+		Map<String, String> entries = new HashMap<>();
+
+		// The parsed entries go straight to the map instead of the (synchronized) properties.
+		new Properties()
+		{
+			@Override
+			public final Object put(final Object key, final Object value)
+			{
+				return entries.put((String) key, (String) value);
+			}
+		}.load(new StringReader(text));
+
+		return entries;
+	}
+}
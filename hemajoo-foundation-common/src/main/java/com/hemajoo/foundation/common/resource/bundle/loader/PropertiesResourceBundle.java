@@ -0,0 +1,91 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.loader;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import lombok.NonNull;
+
+/**
+ * Resource bundle backed by the entries of a {@code .properties} resource bundle file loaded by a
+ * {@link PropertiesBundleLoader}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class PropertiesResourceBundle extends ResourceBundle
+{
+	/**
+	 * Locale of the resource bundle file.
+	 */
+	private final Locale locale;
+
+	/**
+	 * Entries of the resource bundle file.
+	 */
+	private final Map<String, String> entries;
+
+	/**
+	 * Creates a new properties resource bundle.
+	 * <hr>
+	 * @param locale Locale of the resource bundle file.
+	 * @param entries Entries of the resource bundle file.
+	 * @param parent Parent resource bundle (fall-back) or {@code null} if none.
+	 */
+	public PropertiesResourceBundle(final @NonNull Locale locale, final @NonNull Map<String, String> entries, final ResourceBundle parent)
+	{
+		this.locale = locale;
+		this.entries = entries;
+		setParent(parent);
+	}
+
+	@Override
+	public final Locale getLocale()
+	{
+		return locale;
+	}
+
+	@Override
+	protected final Object handleGetObject(final @NonNull String key)
+	{
+		return entries.get(key);
+	}
+
+	@Override
+	protected final Set<String> handleKeySet()
+	{
+		return entries.keySet();
+	}
+
+	@Override
+	public final Enumeration<String> getKeys()
+	{
+		if (parent == null)
+		{
+			return Collections.enumeration(entries.keySet());
+		}
+
+		Set<String> keys = new HashSet<>(entries.keySet());
+		for (Enumeration<String> e = parent.getKeys(); e.hasMoreElements();)
+		{
+			keys.add(e.nextElement());
+		}
+
+		return Collections.enumeration(keys);
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains artifacts for the Hemajoo's Foundation Common component dedicated to the loading of the resource bundle files.
+ */
+package com.hemajoo.foundation.common.resource.bundle.loader;
\ No newline at end of file
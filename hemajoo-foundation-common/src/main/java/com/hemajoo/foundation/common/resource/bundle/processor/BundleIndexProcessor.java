@@ -0,0 +1,322 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor generating, at compile time, the index of the classes annotated with the {@code @Bundle}
+ * annotation and of their methods annotated with the {@code @BundleMethod} annotation.
+ * <p>
+ * The index is written to {@link #INDEX} in the class output, one entry per line with tab separated fields:
+ * <ul>
+ * <li>{@code B priority class file root} for an annotated class,</li>
+ * <li>{@code M class method key} for an annotated method.</li>
+ * </ul>
+ * The {@code ResourceBundleManager} reads the indexes found on the class path instead of scanning it.
+ * <p>
+ * As a compilation may only compile some of the classes (an incremental build for example), the index already in the
+ * class output is merged: the entries of the classes not compiled are indexed again from their (compiled) element,
+ * the ones of the classes gone or no longer annotated being dropped.
+ * <p>
+ * Annotations are accessed through their mirrors only, so the processor does not depend on the annotation classes
+ * and can be compiled ahead of the rest of the module.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@SupportedAnnotationTypes({ BundleIndexProcessor.BUNDLE, BundleIndexProcessor.BUNDLE_METHOD })
+public final class BundleIndexProcessor extends AbstractProcessor
+{
+	/**
+	 * Location of the generated index.
+	 */
+	@SuppressWarnings("nls")
+	public static final String INDEX = "META-INF/hemajoo/bundle.index";
+
+	/**
+	 * Entry type of an annotated class.
+	 */
+	@SuppressWarnings("nls")
+	public static final String TYPE_BUNDLE = "B";
+
+	/**
+	 * Entry type of an annotated method.
+	 */
+	@SuppressWarnings("nls")
+	public static final String TYPE_METHOD = "M";
+
+	/**
+	 * Qualified name of the {@code @Bundle} annotation.
+	 */
+	@SuppressWarnings("nls")
+	static final String BUNDLE = "com.hemajoo.foundation.common.resource.bundle.annotation.Bundle";
+
+	/**
+	 * Qualified name of the {@code @BundleMethod} annotation.
+	 */
+	@SuppressWarnings("nls")
+	static final String BUNDLE_METHOD = "com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod";
+
+	/**
+	 * Default priority of an annotated class.
+	 */
+	private static final int DEFAULT_PRIORITY = 100;
+
+	/**
+	 * Index entries of the annotated classes (collected over the rounds).
+	 */
+	private final Map<String, String> bundles = new LinkedHashMap<>();
+
+	/**
+	 * Index entries of the annotated methods (collected over the rounds, overloaded methods being indexed once).
+	 */
+	private final Set<String> methods = new LinkedHashSet<>();
+
+	/**
+	 * Binary names of the classes indexed (collected over the rounds).
+	 */
+	private final Set<String> indexed = new HashSet<>();
+
+	@Override
+	public final SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public final boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round)
+	{
+		for (TypeElement annotation : annotations)
+		{
+			String name = annotation.getQualifiedName().toString();
+			for (Element element : round.getElementsAnnotatedWith(annotation))
+			{
+				if (BUNDLE.equals(name) && element instanceof TypeElement)
+				{
+					indexBundle((TypeElement) element);
+				}
+				else if (BUNDLE_METHOD.equals(name) && element instanceof ExecutableElement)
+				{
+					indexMethod((ExecutableElement) element);
+				}
+			}
+		}
+
+		if (round.processingOver() && !indexed.isEmpty())
+		{
+			merge();
+			write();
+		}
+
+		// Other processors may also be interested in the annotations.
+		return false;
+	}
+
+	/**
+	 * Indexes a class annotated with the {@code @Bundle} annotation.
+	 * <hr>
+	 * @param element Annotated class.
+	 */
+	private final void indexBundle(final TypeElement element)
+	{
+		Map<String, Object> values = getValues(element, BUNDLE);
+		Object priority = values.get("priority"); //$NON-NLS-1$
+
+		String className = processingEnv.getElementUtils().getBinaryName(element).toString();
+		indexed.add(className);
+		bundles.put(className, join(TYPE_BUNDLE, priority == null ? Integer.valueOf(DEFAULT_PRIORITY) : priority, className, values.get("file"), values.get("root"))); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Indexes a method annotated with the {@code @BundleMethod} annotation.
+	 * <hr>
+	 * @param element Annotated method.
+	 */
+	private final void indexMethod(final ExecutableElement element)
+	{
+		TypeElement type = (TypeElement) element.getEnclosingElement();
+		String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+		indexed.add(className);
+
+		methods.add(join(TYPE_METHOD, className, element.getSimpleName(), getValues(element, BUNDLE_METHOD).get("key"))); //$NON-NLS-1$
+	}
+
+	/**
+	 * Indexes again the classes of the index already in the class output not indexed by the current compilation.
+	 * <p>
+	 * A class no longer found, or no longer annotated, is dropped from the index.
+	 */
+	@SuppressWarnings("nls")
+	private final void merge()
+	{
+		List<String> lines = new ArrayList<>();
+		try
+		{
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8)))
+			{
+				reader.lines().forEach(lines::add);
+			}
+		}
+		catch (IOException e)
+		{
+			// No index yet.
+			return;
+		}
+
+		for (String line : lines)
+		{
+			String[] fields = line.split("\t");
+			String className = null;
+			if (TYPE_BUNDLE.equals(fields[0]) && fields.length > 2)
+			{
+				className = fields[2];
+			}
+			else if (TYPE_METHOD.equals(fields[0]) && fields.length > 1)
+			{
+				className = fields[1];
+			}
+
+			if (className != null && indexed.add(className))
+			{
+				TypeElement element = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+				if (element != null)
+				{
+					reindex(element);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Indexes again a class not compiled by the current compilation from its element.
+	 * <hr>
+	 * @param element Class.
+	 */
+	private final void reindex(final TypeElement element)
+	{
+		if (!getValues(element, BUNDLE).isEmpty())
+		{
+			indexBundle(element);
+		}
+
+		for (ExecutableElement method : ElementFilter.methodsIn(element.getEnclosedElements()))
+		{
+			if (!getValues(method, BUNDLE_METHOD).isEmpty())
+			{
+				indexMethod(method);
+			}
+		}
+	}
+
+	/**
+	 * Returns the values (including the default ones) of an annotation of an element.
+	 * <hr>
+	 * @param element Annotated element.
+	 * @param annotation Qualified name of the annotation.
+	 * @return Values by attribute name (empty if the element is not annotated).
+	 */
+	private final Map<String, Object> getValues(final Element element, final String annotation)
+	{
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (AnnotationMirror mirror : element.getAnnotationMirrors())
+		{
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+			{
+				for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet())
+				{
+					values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+				}
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Joins the fields of an index entry.
+	 * <hr>
+	 * @param fields Fields.
+	 * @return Index entry.
+	 */
+	private static final String join(final Object... fields)
+	{
+		StringBuilder builder = new StringBuilder();
+		for (Object field : fields)
+		{
+			if (builder.length() > 0)
+			{
+				builder.append('\t');
+			}
+			builder.append(field);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Writes the index.
+	 */
+	@SuppressWarnings("nls")
+	private final void write()
+	{
+		try
+		{
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))
+			{
+				writer.write("# Generated by " + getClass().getName() + ", do not edit!\n");
+				for (String entry : bundles.values())
+				{
+					writer.write(entry);
+					writer.write('\n');
+				}
+				for (String entry : methods)
+				{
+					writer.write(entry);
+					writer.write('\n');
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Unable to write the resource bundle index: %s", e.getMessage()));
+		}
+	}
+}
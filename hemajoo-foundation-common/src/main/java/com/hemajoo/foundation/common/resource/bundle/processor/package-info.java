@@ -0,0 +1,4 @@
+/**
+ * Contains artifacts for the Hemajoo's Foundation Common component dedicated to the compile time processing of annotations for the resource bundles.
+ */
+package com.hemajoo.foundation.common.resource.bundle.processor;
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.store;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+/**
+ * Store of resource bundle entries kept as {@link String} objects, the keys being bound to their entry number in a
+ * {@link ConcurrentHashMap}.
+ * <p>
+ * An entry number is only handed to the readers through a key binding (or a structure published after the entry
+ * has been appended), the value of an entry being visible to any reader knowing its number.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class HeapBundleStore implements IBundleStore
+{
+	/**
+	 * Initial number of entries.
+	 */
+	private static final int INITIAL_ENTRIES = 2000;
+
+	/**
+	 * Entry numbers by key.
+	 */
+	private final Map<String, Integer> keys = new ConcurrentHashMap<>(INITIAL_ENTRIES);
+
+	/**
+	 * Keys and values by entry number (key at {@code 2 * entry}, value at {@code 2 * entry + 1}), replaced by a larger
+	 * copy when full.
+	 */
+	private volatile String[] values = new String[2 * INITIAL_ENTRIES];
+
+	/**
+	 * Number of entries.
+	 */
+	private volatile int count = 0;
+
+	@Override
+	public final String get(final int entry)
+	{
+		return values[2 * entry + 1];
+	}
+
+	@Override
+	public final String getKey(final int entry)
+	{
+		return values[2 * entry];
+	}
+
+	@Override
+	public final int indexOf(final @NonNull String key)
+	{
+		Integer entry = keys.get(key);
+
+		return entry != null ? entry.intValue() : -1;
+	}
+
+	@Override
+	public final synchronized int add(final @NonNull String key, final @NonNull String value)
+	{
+		String[] current = values;
+		if (2 * count == current.length)
+		{
+			current = Arrays.copyOf(current, 2 * current.length);
+		}
+
+		current[2 * count] = key;
+		current[2 * count + 1] = value;
+		values = current;
+
+		return count++;
+	}
+
+	@Override
+	public final void bind(final @NonNull String key, final int entry)
+	{
+		keys.put(key, Integer.valueOf(entry));
+	}
+
+	@Override
+	public final boolean bindIfAbsent(final @NonNull String key, final int entry)
+	{
+		return keys.putIfAbsent(key, Integer.valueOf(entry)) == null;
+	}
+
+	@Override
+	public final void unbind(final @NonNull String key)
+	{
+		keys.remove(key);
+	}
+
+	@Override
+	public final int size()
+	{
+		return keys.size();
+	}
+
+	@Override
+	public final int getEntryCount()
+	{
+		return count;
+	}
+
+	@Override
+	public final long getFootprint()
+	{
+		String[] current = values;
+		int entries = count;
+
+		// Entry array, then per key a hash map node (with its table cell) and a boxed entry number.
+		long bytes = 4L * current.length + (4L + 32L + 16L) * keys.size();
+		for (int entry = 0; entry < entries; entry++)
+		{
+			bytes += getFootprint(current[2 * entry]) + getFootprint(current[2 * entry + 1]);
+		}
+
+		// Keys not shared with the key of their entry (aliases).
+		for (Map.Entry<String, Integer> key : keys.entrySet())
+		{
+			int entry = key.getValue().intValue();
+			if (entry >= entries || key.getKey() != current[2 * entry])
+			{
+				bytes += getFootprint(key.getKey());
+			}
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Returns an estimate of the memory held by a string (object header and fields, backing array).
+	 * <hr>
+	 * @param value String.
+	 * @return Number of bytes.
+	 */
+	private static final long getFootprint(final String value)
+	{
+		int length = value.length();
+		for (int i = 0; i < length; i++)
+		{
+			if (value.charAt(i) > 0xFF)
+			{
+				// Not compacted: two bytes per character.
+				length = 2 * value.length();
+				break;
+			}
+		}
+
+		return 24L + ((16L + length + 7L) & ~7L);
+	}
+}
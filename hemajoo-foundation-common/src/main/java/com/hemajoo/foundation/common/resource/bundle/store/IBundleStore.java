@@ -0,0 +1,134 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.store;
+
+/**
+ * Provides the behavior of a storage of resource bundle entries.
+ * <p>
+ * A store holds numbered entries (a value and the key it has been added with) and binds keys to them, several keys
+ * (a full key and its root-relative alias for example) being able to share the same entry. Entries are only appended, so the entries of a resource
+ * bundle file form a range of consecutive entry numbers (a reloaded resource bundle file being appended again as a new
+ * range, its keys being bound to it).
+ * <p>
+ * A store can be read concurrently without locking while being appended by a single writer at a time.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public interface IBundleStore
+{
+	/**
+	 * Returns the value bound to a key.
+	 * <hr>
+	 * @param key Key.
+	 * @return Value or {@code null} if the key does not exist.
+	 */
+	default String get(final String key)
+	{
+		int entry = indexOf(key);
+
+		return entry < 0 ? null : get(entry);
+	}
+
+	/**
+	 * Returns the value of an entry.
+	 * <hr>
+	 * @param entry Entry number.
+	 * @return Value.
+	 */
+	String get(final int entry);
+
+	/**
+	 * Returns the key an entry has been added with.
+	 * <hr>
+	 * @param entry Entry number.
+	 * @return Key.
+	 */
+	String getKey(final int entry);
+
+	/**
+	 * Returns the entry bound to a key.
+	 * <hr>
+	 * @param key Key.
+	 * @return Entry number or {@code -1} if the key does not exist.
+	 */
+	int indexOf(final String key);
+
+	/**
+	 * Appends a new entry (without binding its key).
+	 * <hr>
+	 * @param key Key of the entry.
+	 * @param value Value of the entry.
+	 * @return Entry number.
+	 */
+	int add(final String key, final String value);
+
+	/**
+	 * Binds a key to an entry, replacing its previous binding (if any).
+	 * <hr>
+	 * @param key Key.
+	 * @param entry Entry number.
+	 */
+	void bind(final String key, final int entry);
+
+	/**
+	 * Binds a key to an entry if the key does not exist yet.
+	 * <hr>
+	 * @param key Key.
+	 * @param entry Entry number.
+	 * @return {@code True} if the key has been bound, {@code false} if the key already exists.
+	 */
+	boolean bindIfAbsent(final String key, final int entry);
+
+	/**
+	 * Unbinds a key, its entry being left in the store.
+	 * <hr>
+	 * @param key Key.
+	 */
+	void unbind(final String key);
+
+	/**
+	 * Appends a new entry and binds a key to it, replacing its previous binding (if any).
+	 * <hr>
+	 * @param key Key.
+	 * @param value Value of the entry.
+	 * @return Entry number.
+	 */
+	default int put(final String key, final String value)
+	{
+		int entry = add(key, value);
+		bind(key, entry);
+
+		return entry;
+	}
+
+	/**
+	 * Returns the number of keys.
+	 * <hr>
+	 * @return Number of keys.
+	 */
+	int size();
+
+	/**
+	 * Returns the number of entries (being the number of the next entry).
+	 * <hr>
+	 * @return Number of entries.
+	 */
+	int getEntryCount();
+
+	/**
+	 * Returns an estimate of the memory held by the store (its entries, keys and index).
+	 * <hr>
+	 * @return Number of bytes.
+	 */
+	long getFootprint();
+}
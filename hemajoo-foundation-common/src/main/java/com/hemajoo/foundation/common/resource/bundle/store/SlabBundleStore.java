@@ -0,0 +1,468 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.store;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import lombok.NonNull;
+
+/**
+ * Store of resource bundle entries packing the keys and the values as UTF-8 bytes into a single {@code byte[]} slab,
+ * the keys being indexed by an open-addressing table of key numbers.
+ * <p>
+ * Compared to a {@link HeapBundleStore}, an entry costs its UTF-8 bytes plus a few fixed-size array cells instead
+ * of two {@link String} objects (with their backing arrays) and a hash map node. Values are decoded on each read:
+ * hot values are expected to be cached by the callers (for example the bundle tables of the enumerations).
+ * <p>
+ * Readers never lock: the slot of a new key (or the entry of a rebound key) is published with release semantics
+ * once its bytes are written. When the slab or the index is full, a larger copy is built and published as a whole,
+ * the readers of the previous copy still reading a consistent snapshot.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class SlabBundleStore implements IBundleStore
+{
+	/**
+	 * Access to the slots of the index and to the entries bound to the keys.
+	 */
+	private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+	/**
+	 * Initial number of entries (and keys).
+	 */
+	private static final int INITIAL_ENTRIES = 1024;
+
+	/**
+	 * Initial size of the slab (in bytes).
+	 */
+	private static final int INITIAL_SLAB = 64 * 1024;
+
+	/**
+	 * Current table.
+	 */
+	private volatile Table table = new Table(INITIAL_SLAB, INITIAL_ENTRIES, INITIAL_ENTRIES);
+
+	/**
+	 * Number of unbound keys (their slot being kept in the index, bound to no entry).
+	 */
+	private volatile int unbound = 0;
+
+	@Override
+	public final String get(final @NonNull String key)
+	{
+		Table current = table;
+		int entry = current.getEntry(current.find(key, key.hashCode()));
+
+		return entry < 0 ? null : current.decode(current.values[entry]);
+	}
+
+	@Override
+	public final String get(final int entry)
+	{
+		Table current = table;
+
+		return current.decode(current.values[entry]);
+	}
+
+	@Override
+	public final String getKey(final int entry)
+	{
+		Table current = table;
+
+		return current.decode(current.owners[entry]);
+	}
+
+	@Override
+	public final int indexOf(final @NonNull String key)
+	{
+		Table current = table;
+
+		return current.getEntry(current.find(key, key.hashCode()));
+	}
+
+	@Override
+	public final synchronized int add(final @NonNull String key, final @NonNull String value)
+	{
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+		Table current = ensure(table, keyBytes.length + valueBytes.length, 1, 0);
+
+		int entry = current.entries;
+		current.owners[entry] = current.append(keyBytes);
+		current.values[entry] = current.append(valueBytes);
+		current.entries++;
+
+		return entry;
+	}
+
+	@Override
+	public final synchronized void bind(final @NonNull String key, final int entry)
+	{
+		write(key, entry, true);
+	}
+
+	@Override
+	public final synchronized boolean bindIfAbsent(final @NonNull String key, final int entry)
+	{
+		return write(key, entry, false);
+	}
+
+	@Override
+	public final synchronized void unbind(final @NonNull String key)
+	{
+		int slot = table.find(key, key.hashCode());
+		if (slot >= 0 && table.getEntry(slot) >= 0)
+		{
+			INTS.setRelease(table.bindings, (int) INTS.getAcquire(table.slots, slot) - 1, -1);
+			unbound++;
+		}
+	}
+
+	@Override
+	public final int size()
+	{
+		return table.count - unbound;
+	}
+
+	@Override
+	public final int getEntryCount()
+	{
+		return table.entries;
+	}
+
+	@Override
+	public final long getFootprint()
+	{
+		Table current = table;
+
+		return current.data.length + 8L * current.owners.length + 8L * current.values.length + 4L * current.hashes.length + 8L * current.keys.length + 4L * current.bindings.length + 4L * current.slots.length;
+	}
+
+	/**
+	 * Binds a key to an entry.
+	 * <hr>
+	 * @param key Key.
+	 * @param entry Entry number.
+	 * @param replace Should the binding of an existing key be replaced?
+	 * @return {@code True} if the key has been bound, {@code false} otherwise.
+	 */
+	private final boolean write(final String key, final int entry, final boolean replace)
+	{
+		if (entry < 0 || entry >= table.entries)
+		{
+			throw new IndexOutOfBoundsException(String.format("Invalid entry: %d", Integer.valueOf(entry))); //$NON-NLS-1$
+		}
+
+		int hash = key.hashCode();
+		int slot = table.find(key, hash);
+		if (slot >= 0)
+		{
+			// An unbound key is bound again in place.
+			boolean free = table.getEntry(slot) < 0;
+			if (replace || free)
+			{
+				INTS.setRelease(table.bindings, (int) INTS.getAcquire(table.slots, slot) - 1, entry);
+				if (free)
+				{
+					unbound--;
+				}
+			}
+
+			return replace || free;
+		}
+
+		// The key an entry has been added with shares its bytes.
+		boolean owner = table.matches(table.owners[entry], key);
+		byte[] bytes = owner ? null : key.getBytes(StandardCharsets.UTF_8);
+		Table current = ensure(table, owner ? 0 : bytes.length, 0, 1);
+
+		int number = current.count;
+		current.hashes[number] = hash;
+		current.keys[number] = owner ? current.owners[entry] : current.append(bytes);
+		current.bindings[number] = entry;
+		current.count++;
+
+		// Publishes the key.
+		INTS.setRelease(current.slots, current.free(hash), number + 1);
+
+		return true;
+	}
+
+	/**
+	 * Ensures the current table can hold more bytes, entries and keys, publishing a larger copy if needed.
+	 * <hr>
+	 * @param current Current table.
+	 * @param bytes Number of bytes to add.
+	 * @param entries Number of entries to add.
+	 * @param keys Number of keys to add.
+	 * @return Table to write into.
+	 */
+	private final Table ensure(final Table current, final int bytes, final int entries, final int keys)
+	{
+		boolean slab = current.used + bytes > current.data.length;
+		boolean values = current.entries + entries > current.values.length;
+		boolean index = 2 * (current.count + keys) > current.slots.length;
+		if (!slab && !values && !index)
+		{
+			return current;
+		}
+
+		int size = current.data.length;
+		while (current.used + bytes > size)
+		{
+			size = Math.multiplyExact(size, 2);
+		}
+
+		Table larger = new Table(current, size, values ? 2 * current.values.length : current.values.length, index ? 2 * current.keys.length : current.keys.length);
+		table = larger;
+
+		return larger;
+	}
+
+	/**
+	 * Table of entries: the slab of UTF-8 bytes, the entries (key and value locations), the keys (hash, key location and
+	 * bound entry) and the open-addressing index of the keys. The fields not accessed by the readers are only
+	 * accessed by the writer.
+	 */
+	private static final class Table
+	{
+		/**
+		 * Slab of the UTF-8 bytes of the keys and values.
+		 */
+		final byte[] data;
+
+		/**
+		 * Number of bytes used in the slab.
+		 */
+		int used;
+
+		/**
+		 * Locations of the keys the entries have been added with (offset and length) in the slab (by entry).
+		 */
+		final long[] owners;
+
+		/**
+		 * Locations of the values (offset and length) in the slab (by entry).
+		 */
+		final long[] values;
+
+		/**
+		 * Number of entries.
+		 */
+		int entries;
+
+		/**
+		 * Hashes of the keys (by key number).
+		 */
+		final int[] hashes;
+
+		/**
+		 * Locations of the keys (offset and length) in the slab (by key number).
+		 */
+		final long[] keys;
+
+		/**
+		 * Entries bound to the keys (by key number).
+		 */
+		final int[] bindings;
+
+		/**
+		 * Number of keys.
+		 */
+		int count;
+
+		/**
+		 * Index: key number (plus one) by slot, {@code 0} for a free slot.
+		 */
+		final int[] slots;
+
+		/**
+		 * Creates a new empty table.
+		 * <hr>
+		 * @param size Size of the slab (in bytes).
+		 * @param entries Maximum number of entries.
+		 * @param keys Maximum number of keys.
+		 */
+		Table(final int size, final int entries, final int keys)
+		{
+			data = new byte[size];
+			owners = new long[entries];
+			values = new long[entries];
+			hashes = new int[keys];
+			this.keys = new long[keys];
+			bindings = new int[keys];
+			slots = new int[2 * keys];
+		}
+
+		/**
+		 * Creates a new table holding the entries and keys of another one.
+		 * <hr>
+		 * @param other Table to copy.
+		 * @param size Size of the slab (in bytes).
+		 * @param entries Maximum number of entries.
+		 * @param keys Maximum number of keys.
+		 */
+		Table(final Table other, final int size, final int entries, final int keys)
+		{
+			data = Arrays.copyOf(other.data, size);
+			used = other.used;
+			owners = Arrays.copyOf(other.owners, entries);
+			values = Arrays.copyOf(other.values, entries);
+			this.entries = other.entries;
+			hashes = Arrays.copyOf(other.hashes, keys);
+			this.keys = Arrays.copyOf(other.keys, keys);
+			bindings = Arrays.copyOf(other.bindings, keys);
+			count = other.count;
+
+			if (2 * keys == other.slots.length)
+			{
+				slots = other.slots.clone();
+			}
+			else
+			{
+				slots = new int[2 * keys];
+				for (int i = 0; i < count; i++)
+				{
+					slots[free(hashes[i])] = i + 1;
+				}
+			}
+		}
+
+		/**
+		 * Returns the entry bound to the key of a slot.
+		 * <hr>
+		 * @param slot Slot of the key ({@code -1} for none).
+		 * @return Entry number or {@code -1} if the key does not exist or is unbound.
+		 */
+		final int getEntry(final int slot)
+		{
+			return slot < 0 ? -1 : (int) INTS.getAcquire(bindings, (int) INTS.getAcquire(slots, slot) - 1);
+		}
+
+		/**
+		 * Finds the slot of a key.
+		 * <hr>
+		 * @param key Key.
+		 * @param hash Hash of the key.
+		 * @return Slot or {@code -1} if the key does not exist.
+		 */
+		final int find(final String key, final int hash)
+		{
+			int mask = slots.length - 1;
+			for (int slot = spread(hash) & mask;; slot = (slot + 1) & mask)
+			{
+				int number = (int) INTS.getAcquire(slots, slot);
+				if (number == 0)
+				{
+					return -1;
+				}
+
+				if (hashes[number - 1] == hash && matches(keys[number - 1], key))
+				{
+					return slot;
+				}
+			}
+		}
+		/**
+		 * Finds the first free slot for a hash.
+		 * <hr>
+		 * @param hash Hash of the key.
+		 * @return Slot.
+		 */
+		final int free(final int hash)
+		{
+			int mask = slots.length - 1;
+			int slot = spread(hash) & mask;
+			while (slots[slot] != 0)
+			{
+				slot = (slot + 1) & mask;
+			}
+
+			return slot;
+		}
+
+		/**
+		 * Appends bytes to the slab.
+		 * <hr>
+		 * @param bytes Bytes to append.
+		 * @return Location (offset and length) of the bytes.
+		 */
+		final long append(final byte[] bytes)
+		{
+			System.arraycopy(bytes, 0, data, used, bytes.length);
+			long location = ((long) used << 32) | bytes.length;
+			used += bytes.length;
+
+			return location;
+		}
+
+		/**
+		 * Decodes a string from the slab.
+		 * <hr>
+		 * @param location Location (offset and length) of the string.
+		 * @return String.
+		 */
+		final String decode(final long location)
+		{
+			return new String(data, (int) (location >>> 32), (int) location, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Compares a key of the slab with a given key.
+		 * <hr>
+		 * @param location Location (offset and length) of the key in the slab.
+		 * @param key Key to compare with.
+		 * @return {@code True} if the keys are equal, {@code false} otherwise.
+		 */
+		final boolean matches(final long location, final String key)
+		{
+			int offset = (int) (location >>> 32);
+			int length = (int) location;
+			int size = key.length();
+			if (length < size)
+			{
+				return false;
+			}
+
+			// ASCII keys are compared in place, others are decoded.
+			for (int i = 0; i < size; i++)
+			{
+				char c = key.charAt(i);
+				if (c >= 0x80)
+				{
+					return decode(location).equals(key);
+				}
+				if (data[offset + i] != c)
+				{
+					return false;
+				}
+			}
+
+			return length == size;
+		}
+
+		/**
+		 * Spreads the bits of a hash (the index using its lowest bits).
+		 * <hr>
+		 * @param hash Hash.
+		 * @return Spread hash.
+		 */
+		private static final int spread(final int hash)
+		{
+			return hash ^ (hash >>> 16);
+		}
+	}
+}
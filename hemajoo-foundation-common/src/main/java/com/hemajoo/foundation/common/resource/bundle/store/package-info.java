@@ -0,0 +1,4 @@
+/**
+ * Contains artifacts for the Hemajoo's Foundation Common component dedicated to the storage of the resource bundle entries.
+ */
+package com.hemajoo.foundation.common.resource.bundle.store;
\ No newline at end of file
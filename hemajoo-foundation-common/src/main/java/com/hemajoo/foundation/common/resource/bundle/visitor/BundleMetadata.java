@@ -0,0 +1,403 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.resource.bundle.visitor;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
+
+import lombok.NonNull;
+
+/**
+ * Element values of the {@link Bundle} annotation of a class as read from its class file, without loading (nor
+ * initializing) the class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleMetadata
+{
+	/**
+	 * Descriptor of the {@link Bundle} annotation.
+	 */
+	private static final String DESCRIPTOR = "L" + Bundle.class.getName().replace('.', '/') + ";"; //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * Name of the class attribute holding the runtime visible annotations.
+	 */
+	@SuppressWarnings("nls")
+	private static final String ATTRIBUTE = "RuntimeVisibleAnnotations";
+
+	/**
+	 * Default priority (see {@link Bundle#priority()}).
+	 */
+	private static final int DEFAULT_PRIORITY = 100;
+
+	/**
+	 * Constant pool tags.
+	 */
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_INTEGER = 3;
+	private static final int CONSTANT_FLOAT = 4;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_DOUBLE = 6;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_STRING = 8;
+	private static final int CONSTANT_FIELD_REF = 9;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+	private static final int CONSTANT_METHOD_HANDLE = 15;
+	private static final int CONSTANT_METHOD_TYPE = 16;
+	private static final int CONSTANT_DYNAMIC = 17;
+	private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+	private static final int CONSTANT_MODULE = 19;
+	private static final int CONSTANT_PACKAGE = 20;
+
+	/**
+	 * Class name.
+	 */
+	private final String className;
+
+	/**
+	 * Resource bundle file name.
+	 */
+	private final String file;
+
+	/**
+	 * Root path of the resource keys.
+	 */
+	private final String root;
+
+	/**
+	 * Loading priority.
+	 */
+	private final int priority;
+
+	/**
+	 * Creates a new bundle metadata.
+	 * <hr>
+	 * @param className Class name.
+	 * @param file Resource bundle file name.
+	 * @param root Root path of the resource keys.
+	 * @param priority Loading priority.
+	 */
+	private BundleMetadata(final String className, final String file, final String root, final int priority)
+	{
+		this.className = className;
+		this.file = file;
+		this.root = root;
+		this.priority = priority;
+	}
+
+	/**
+	 * Returns the element values of the {@link Bundle} annotation of an already loaded class.
+	 * <hr>
+	 * @param annotatedClass Class.
+	 * @return Bundle metadata or {@code null} if the class is not annotated.
+	 */
+	public static final BundleMetadata of(final @NonNull Class<?> annotatedClass)
+	{
+		Bundle annotation = annotatedClass.getAnnotation(Bundle.class);
+
+		return annotation != null ? new BundleMetadata(annotatedClass.getName(), annotation.file(), annotation.root(), annotation.priority()) : null;
+	}
+
+	/**
+	 * Reads the {@link Bundle} annotation of a class from its class file available to a class loader.
+	 * <hr>
+	 * @param loader Class loader.
+	 * @param className Class name.
+	 * @return Bundle metadata or {@code null} if the class file cannot be found or the class is not annotated.
+	 * @throws IOException Thrown if the class file cannot be read.
+	 */
+	public static final BundleMetadata read(final @NonNull ClassLoader loader, final @NonNull String className) throws IOException
+	{
+		try (InputStream input = loader.getResourceAsStream(className.replace('.', '/') + ".class")) //$NON-NLS-1$
+		{
+			return input != null ? read(input) : null;
+		}
+	}
+
+	/**
+	 * Reads the {@link Bundle} annotation of a class from its class file.
+	 * <hr>
+	 * @param input Class file content.
+	 * @return Bundle metadata or {@code null} if the class is not annotated.
+	 * @throws IOException Thrown if the class file cannot be read or is invalid.
+	 */
+	@SuppressWarnings("nls")
+	public static final BundleMetadata read(final @NonNull InputStream input) throws IOException
+	{
+		DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+		if (data.readInt() != 0xCAFEBABE)
+		{
+			throw new IOException("Invalid class file");
+		}
+
+		data.readUnsignedShort(); // Minor version.
+		data.readUnsignedShort(); // Major version.
+
+		// Only the UTF8, class and integer entries are kept, others are skipped.
+		int count = data.readUnsignedShort();
+		Object[] pool = new Object[count];
+		for (int i = 1; i < count; i++)
+		{
+			int tag = data.readUnsignedByte();
+			switch (tag)
+			{
+				case CONSTANT_UTF8:
+					pool[i] = data.readUTF();
+					break;
+
+				case CONSTANT_INTEGER:
+					pool[i] = Integer.valueOf(data.readInt());
+					break;
+
+				case CONSTANT_CLASS:
+					pool[i] = Integer.valueOf(data.readUnsignedShort());
+					break;
+
+				case CONSTANT_FLOAT:
+					data.readInt();
+					break;
+
+				case CONSTANT_LONG:
+				case CONSTANT_DOUBLE:
+					data.readLong();
+					i++; // Takes two entries.
+					break;
+
+				case CONSTANT_STRING:
+				case CONSTANT_METHOD_TYPE:
+				case CONSTANT_MODULE:
+				case CONSTANT_PACKAGE:
+					data.readUnsignedShort();
+					break;
+
+				case CONSTANT_METHOD_HANDLE:
+					data.readUnsignedByte();
+					data.readUnsignedShort();
+					break;
+
+				default:
+					// Field, method and interface method references, name and type, dynamic and invoke dynamic.
+					if ((tag < CONSTANT_FIELD_REF || tag > CONSTANT_NAME_AND_TYPE) && tag != CONSTANT_DYNAMIC && tag != CONSTANT_INVOKE_DYNAMIC)
+					{
+						throw new IOException(String.format("Invalid constant pool tag: %d", Integer.valueOf(tag)));
+					}
+					data.readInt();
+					break;
+			}
+		}
+
+		data.readUnsignedShort(); // Access flags.
+		String className = ((String) pool[((Integer) pool[data.readUnsignedShort()]).intValue()]).replace('/', '.');
+		data.readUnsignedShort(); // Super class.
+		skip(data, 2 * data.readUnsignedShort()); // Interfaces.
+		skipMembers(data); // Fields.
+		skipMembers(data); // Methods.
+
+		int attributes = data.readUnsignedShort();
+		for (int i = 0; i < attributes; i++)
+		{
+			String name = (String) pool[data.readUnsignedShort()];
+			int length = data.readInt();
+			if (!ATTRIBUTE.equals(name))
+			{
+				skip(data, length);
+				continue;
+			}
+
+			int annotations = data.readUnsignedShort();
+			for (int j = 0; j < annotations; j++)
+			{
+				String type = (String) pool[data.readUnsignedShort()];
+				if (!DESCRIPTOR.equals(type))
+				{
+					skipElements(data);
+					continue;
+				}
+
+				String file = null;
+				String root = null;
+				int priority = DEFAULT_PRIORITY;
+
+				int elements = data.readUnsignedShort();
+				for (int k = 0; k < elements; k++)
+				{
+					String element = (String) pool[data.readUnsignedShort()];
+					int tag = data.readUnsignedByte();
+					if ((tag == 's' || tag == 'I') && ("file".equals(element) || "root".equals(element) || "priority".equals(element)))
+					{
+						Object value = pool[data.readUnsignedShort()];
+						if ("file".equals(element))
+						{
+							file = (String) value;
+						}
+						else if ("root".equals(element))
+						{
+							root = (String) value;
+						}
+						else
+						{
+							priority = ((Integer) value).intValue();
+						}
+					}
+					else
+					{
+						skipValue(data, tag);
+					}
+				}
+
+				return new BundleMetadata(className, file, root, priority);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Skips the fields or the methods of a class file.
+	 * <hr>
+	 * @param data Class file content.
+	 * @throws IOException Thrown if the class file cannot be read.
+	 */
+	private static final void skipMembers(final DataInputStream data) throws IOException
+	{
+		int members = data.readUnsignedShort();
+		for (int i = 0; i < members; i++)
+		{
+			skip(data, 6); // Access flags, name and descriptor.
+			int attributes = data.readUnsignedShort();
+			for (int j = 0; j < attributes; j++)
+			{
+				data.readUnsignedShort();
+				skip(data, data.readInt());
+			}
+		}
+	}
+
+	/**
+	 * Skips the element value pairs of an annotation.
+	 * <hr>
+	 * @param data Class file content.
+	 * @throws IOException Thrown if the class file cannot be read.
+	 */
+	private static final void skipElements(final DataInputStream data) throws IOException
+	{
+		int elements = data.readUnsignedShort();
+		for (int i = 0; i < elements; i++)
+		{
+			data.readUnsignedShort();
+			skipValue(data, data.readUnsignedByte());
+		}
+	}
+
+	/**
+	 * Skips an element value of an annotation.
+	 * <hr>
+	 * @param data Class file content.
+	 * @param tag Tag of the element value.
+	 * @throws IOException Thrown if the class file cannot be read.
+	 */
+	private static final void skipValue(final DataInputStream data, final int tag) throws IOException
+	{
+		switch (tag)
+		{
+			case 'e':
+				skip(data, 4);
+				break;
+
+			case '@':
+				data.readUnsignedShort();
+				skipElements(data);
+				break;
+
+			case '[':
+				int values = data.readUnsignedShort();
+				for (int i = 0; i < values; i++)
+				{
+					skipValue(data, data.readUnsignedByte());
+				}
+				break;
+
+			default:
+				// Constant values and classes.
+				data.readUnsignedShort();
+				break;
+		}
+	}
+
+	/**
+	 * Skips bytes of a class file.
+	 * <hr>
+	 * @param data Class file content.
+	 * @param length Number of bytes to skip.
+	 * @throws IOException Thrown if the class file cannot be read.
+	 */
+	@SuppressWarnings("nls")
+	private static final void skip(final DataInputStream data, final int length) throws IOException
+	{
+		int remaining = length;
+		while (remaining > 0)
+		{
+			int skipped = data.skipBytes(remaining);
+			if (skipped <= 0)
+			{
+				throw new IOException("Truncated class file");
+			}
+			remaining -= skipped;
+		}
+	}
+
+	/**
+	 * Returns the class name.
+	 * <hr>
+	 * @return Class name.
+	 */
+	public final String getClassName()
+	{
+		return className;
+	}
+
+	/**
+	 * Returns the resource bundle file name.
+	 * <hr>
+	 * @return Resource bundle file name.
+	 */
+	public final String getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * Returns the root path of the resource keys.
+	 * <hr>
+	 * @return Root path.
+	 */
+	public final String getRoot()
+	{
+		return root;
+	}
+
+	/**
+	 * Returns the loading priority.
+	 * <hr>
+	 * @return Priority.
+	 */
+	public final int getPriority()
+	{
+		return priority;
+	}
+}
@@ -11,15 +11,16 @@
  */
 package com.hemajoo.foundation.common.resource.bundle.visitor;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 import com.hemajoo.foundation.common.annotation.IAnnotationVisitor;
-import com.hemajoo.foundation.common.resource.bundle.IBundle;
-import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
 import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
 
 import lombok.NonNull;
@@ -40,6 +41,11 @@ public final class BundleVisitor implements IAnnotationVisitor
 	 */
 	private Map<Integer, List<String>> files = new TreeMap<>();
 
+	/**
+	 * Element values of the {@link Bundle} annotation of the discovered classes (by class name).
+	 */
+	private Map<String, BundleMetadata> metadata = new HashMap<>();
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public Class<? extends Annotation>[] annotations()
@@ -47,54 +53,78 @@ public final class BundleVisitor implements IAnnotationVisitor
 		return new Class[] { Bundle.class };
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public void reportTypeAnnotation(Class<? extends Annotation> annotation, String className)
 	{
-		List<String> classes = null;
-		Integer key = null;
-
-		Class<? extends IBundle> bClass;
+		// The annotation is read from the class file, the class is only loaded when registered.
 		try
 		{
-			bClass = (Class<? extends IBundle>) Class.forName(className);
-			Bundle a = bClass.getAnnotation(Bundle.class);
-			key = Integer.valueOf(a.priority());
-			classes = files.containsKey(key) ? files.get(key) : new ArrayList<>();
-			classes.add(className);
-			files.put(Integer.valueOf(a.priority()), classes);
+			BundleMetadata metadata = BundleMetadata.read(getClassLoader(), className);
+			if (metadata == null)
+			{
+				log.error(String.format("Cannot read the @Bundle annotation of class: '%s'", className));
+				return;
+			}
+
+			this.metadata.put(className, metadata);
+			files.computeIfAbsent(Integer.valueOf(metadata.getPriority()), k -> new ArrayList<>()).add(className);
 		}
-		catch (ClassNotFoundException e)
+		catch (IOException e)
 		{
-			log.error(e.getMessage());
+			log.error(e.getMessage(), e);
 		}
 	}
 
 	@Override
 	public void delegateRegistration() throws ClassNotFoundException
 	{
-		files.entrySet()
-		.stream()
-		.forEach(e -> e.getValue()
-				.stream()
-				.forEach(this::callForRegistration));
+		// The resource bundle manager pulls the discovered classes (see getClassNamesByPriority), loading them on use.
 	}
 
 	/**
-	 * Call the resource bundle manager to register the given class annotated with
-	 * the {@link Bundle} annotation.
+	 * Returns the names of the discovered classes annotated with the {@link Bundle} annotation ordered by priority.
 	 * <hr>
-	 * @param className Name of the class annotated with the {@link Bundle} annotation.
+	 * @return List of class names.
 	 */
-	private final void callForRegistration(final @NonNull String className)
+	public final List<String> getClassNames()
 	{
-		try
-		{
-			ResourceBundleManager.register(Class.forName(className));
-		}
-		catch (ClassNotFoundException e)
-		{
-			log.error(e.getMessage(), e);
-		}
+		List<String> names = new ArrayList<>();
+		files.values().forEach(names::addAll);
+
+		return names;
+	}
+
+	/**
+	 * Returns the names of the discovered classes annotated with the {@link Bundle} annotation by priority tier
+	 * (ordered by priority).
+	 * <hr>
+	 * @return Class names by priority.
+	 */
+	public final Map<Integer, List<String>> getClassNamesByPriority()
+	{
+		return Collections.unmodifiableMap(files);
+	}
+
+	/**
+	 * Returns the element values of the {@link Bundle} annotation of a discovered class.
+	 * <hr>
+	 * @param className Class name.
+	 * @return Bundle metadata or {@code null} if the class has not been discovered.
+	 */
+	public final BundleMetadata getMetadata(final @NonNull String className)
+	{
+		return metadata.get(className);
+	}
+
+	/**
+	 * Returns the class loader to read the class files from.
+	 * <hr>
+	 * @return Class loader.
+	 */
+	private static final ClassLoader getClassLoader()
+	{
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+		return loader != null ? loader : BundleVisitor.class.getClassLoader();
 	}
 }
@@ -15,7 +15,21 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import com.hemajoo.foundation.common.test.annotation.AnnotationScannerTest;
 import com.hemajoo.foundation.common.test.resource.bundle.annotation.BundleAnnotationTest;
+import com.hemajoo.foundation.common.test.resource.bundle.binary.BinaryBundleTest;
+import com.hemajoo.foundation.common.test.resource.bundle.cache.BundleScanCacheTest;
+import com.hemajoo.foundation.common.test.resource.bundle.index.BundleIndexTest;
+import com.hemajoo.foundation.common.test.resource.bundle.initialization.InitializationStressTest;
+import com.hemajoo.foundation.common.test.resource.bundle.initialization.LazyRegistrationTest;
+import com.hemajoo.foundation.common.test.resource.bundle.initialization.LocaleSwitchTest;
+import com.hemajoo.foundation.common.test.resource.bundle.loader.PropertiesBundleLoaderTest;
+import com.hemajoo.foundation.common.test.resource.bundle.preload.BundlePreloadTest;
+import com.hemajoo.foundation.common.test.resource.bundle.resolver.BundleResolutionTest;
+import com.hemajoo.foundation.common.test.resource.bundle.store.SlabBundleStoreTest;
+import com.hemajoo.foundation.common.test.resource.bundle.template.MessageTemplateTest;
+import com.hemajoo.foundation.common.test.resource.bundle.visitor.BundleMetadataTest;
+import com.hemajoo.foundation.common.test.resource.bundle.watcher.BundleWatcherTest;
 
 /**
  * Represents the test suite for the <b>Hemajoo's Foundation Software Common</b> component.
@@ -24,7 +38,7 @@ import com.hemajoo.foundation.common.test.resource.bundle.annotation.BundleAnnot
  * @version 1.0.0
  */
 @RunWith(Suite.class)
-@SuiteClasses({ BundleAnnotationTest.class })
+@SuiteClasses({ BundleAnnotationTest.class, BinaryBundleTest.class, MessageTemplateTest.class, BundleMetadataTest.class, AnnotationScannerTest.class, InitializationStressTest.class, SlabBundleStoreTest.class, BundleWatcherTest.class, PropertiesBundleLoaderTest.class, BundlePreloadTest.class, LocaleSwitchTest.class, BundleResolutionTest.class, BundleIndexTest.class, BundleScanCacheTest.class, LazyRegistrationTest.class })
 public class CommonTestSuite
 {
 	// Empty.
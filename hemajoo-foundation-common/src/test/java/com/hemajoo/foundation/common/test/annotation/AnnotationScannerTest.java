@@ -0,0 +1,92 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.annotation;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.annotation.AnnotationScanner;
+import com.hemajoo.foundation.common.resource.bundle.visitor.BundleVisitor;
+import com.hemajoo.foundation.common.test.resource.bundle.annotation.TenGreatestBooks;
+
+/**
+ * A test case for the {@link AnnotationScanner} class.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class AnnotationScannerTest
+{
+	/**
+	 * Test the visitors registered as services are fed by a single scan.
+	 * <hr>
+	 * @throws IOException Thrown if the class path cannot be scanned.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testScan() throws IOException
+	{
+		BundleVisitor visitor = AnnotationScanner.getVisitor(BundleVisitor.class);
+
+		Assert.assertNotNull(visitor);
+		Assert.assertTrue(visitor.getClassNames().contains(TenGreatestBooks.class.getName()));
+		Assert.assertEquals(50, visitor.getMetadata(TenGreatestBooks.class.getName()).getPriority());
+
+		// The scan is done once.
+		Assert.assertSame(visitor, AnnotationScanner.getVisitor(BundleVisitor.class));
+		Assert.assertSame(AnnotationScanner.scan(), AnnotationScanner.scan());
+	}
+
+	/**
+	 * Test the visitors are asked to delegate the registration of their classes once the scan is over.
+	 * <hr>
+	 * @throws IOException Thrown if the class path cannot be scanned.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testDelegateRegistration() throws IOException
+	{
+		RegistrationVisitor visitor = AnnotationScanner.getVisitor(RegistrationVisitor.class);
+
+		Assert.assertNotNull(visitor);
+		Assert.assertEquals(1, visitor.getDelegations());
+		Assert.assertTrue(visitor.getRegistered().contains(TenGreatestBooks.class.getName()));
+	}
+
+	/**
+	 * Test a scan restricted to some class path entries only creates and feeds the requested visitor.
+	 * <hr>
+	 * @throws IOException Thrown if the class path entries cannot be scanned.
+	 * @throws URISyntaxException Thrown if the location of the test classes is not valid.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testRestrictedScan() throws IOException, URISyntaxException
+	{
+		File root = new File(TenGreatestBooks.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		int instances = RegistrationVisitor.getInstances();
+
+		BundleVisitor visitor = AnnotationScanner.getVisitor(BundleVisitor.class, Collections.singletonList(root));
+
+		Assert.assertNotNull(visitor);
+		Assert.assertTrue(visitor.getClassNames().contains(TenGreatestBooks.class.getName()));
+
+		// The restricted scan is not shared and the other visitors are left alone.
+		Assert.assertNotSame(visitor, AnnotationScanner.getVisitor(BundleVisitor.class));
+		Assert.assertEquals(instances, RegistrationVisitor.getInstances());
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.annotation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.hemajoo.foundation.common.annotation.IAnnotationVisitor;
+import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
+
+/**
+ * Annotation visitor (registered as a service for the tests) recording the classes annotated with the {@link Bundle}
+ * annotation it is asked to register.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class RegistrationVisitor implements IAnnotationVisitor
+{
+	/**
+	 * Number of created instances.
+	 */
+	private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	/**
+	 * Names of the reported classes.
+	 */
+	private final List<String> reported = new ArrayList<>();
+
+	/**
+	 * Names of the registered classes.
+	 */
+	private final List<String> registered = new ArrayList<>();
+
+	/**
+	 * Number of registration delegations.
+	 */
+	private int delegations = 0;
+
+	/**
+	 * Creates a new registration visitor.
+	 */
+	public RegistrationVisitor()
+	{
+		INSTANCES.incrementAndGet();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public Class<? extends Annotation>[] annotations()
+	{
+		return new Class[] { Bundle.class };
+	}
+
+	@Override
+	public void reportTypeAnnotation(final Class<? extends Annotation> annotation, final String className)
+	{
+		reported.add(className);
+	}
+
+	@Override
+	public void delegateRegistration() throws ClassNotFoundException
+	{
+		delegations++;
+		registered.addAll(reported);
+		reported.clear();
+	}
+
+	/**
+	 * Returns the names of the registered classes.
+	 * <hr>
+	 * @return Class names.
+	 */
+	public final List<String> getRegistered()
+	{
+		return Collections.unmodifiableList(registered);
+	}
+
+	/**
+	 * Returns the number of registration delegations.
+	 * <hr>
+	 * @return Number of registration delegations.
+	 */
+	public final int getDelegations()
+	{
+		return delegations;
+	}
+
+	/**
+	 * Returns the number of created instances.
+	 * <hr>
+	 * @return Number of instances.
+	 */
+	public static final int getInstances()
+	{
+		return INSTANCES.get();
+	}
+}
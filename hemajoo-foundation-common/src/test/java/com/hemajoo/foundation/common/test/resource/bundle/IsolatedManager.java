@@ -0,0 +1,178 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+
+/**
+ * A fresh (not yet initialized) {@link ResourceBundleManager} loaded in an isolated class loader, for the tests
+ * needing their own manager (its state being static).
+ * <p>
+ * The isolated class loader is the context class loader of the creating thread until closed, the worker threads
+ * calling the manager having to {@link #attach()} to it.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class IsolatedManager implements Closeable
+{
+	/**
+	 * Isolated class loader.
+	 */
+	private final URLClassLoader loader;
+
+	/**
+	 * Isolated resource bundle manager class.
+	 */
+	private final Class<?> manager;
+
+	/**
+	 * Context class loader of the creating thread (restored once closed).
+	 */
+	private final ClassLoader context;
+
+	/**
+	 * Creates a new isolated resource bundle manager loaded from the class path of the tests.
+	 * <hr>
+	 * @throws MalformedURLException Thrown if an entry of the class path is invalid.
+	 * @throws ClassNotFoundException Thrown if the manager cannot be loaded.
+	 */
+	public IsolatedManager() throws MalformedURLException, ClassNotFoundException
+	{
+		this(new URLClassLoader(getClassPath(), ClassLoader.getPlatformClassLoader()));
+	}
+
+	/**
+	 * Creates a new isolated resource bundle manager loaded by a given class loader (closed with the manager).
+	 * <hr>
+	 * @param loader Isolated class loader (usually loading the {@link #getClassPath() class path} of the tests).
+	 * @throws ClassNotFoundException Thrown if the manager cannot be loaded.
+	 */
+	public IsolatedManager(final URLClassLoader loader) throws ClassNotFoundException
+	{
+		this.loader = loader;
+		this.context = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(loader);
+		this.manager = Class.forName(ResourceBundleManager.class.getName(), true, loader);
+	}
+
+	/**
+	 * Returns the isolated class loader.
+	 * <hr>
+	 * @return Class loader.
+	 */
+	public final URLClassLoader getLoader()
+	{
+		return loader;
+	}
+
+	/**
+	 * Returns the isolated resource bundle manager class.
+	 * <hr>
+	 * @return Manager class.
+	 */
+	public final Class<?> getManager()
+	{
+		return manager;
+	}
+
+	/**
+	 * Returns a public service of the isolated resource bundle manager.
+	 * <hr>
+	 * @param name Name of the service.
+	 * @param types Parameter types of the service.
+	 * @return Method.
+	 * @throws NoSuchMethodException Thrown if the service does not exist.
+	 */
+	public final Method getMethod(final String name, final Class<?>... types) throws NoSuchMethodException
+	{
+		return manager.getMethod(name, types);
+	}
+
+	/**
+	 * Invokes a setter of the isolated resource bundle manager taking an enumerated value (for example
+	 * {@code setLoadMode}), the value being converted into its isolated counterpart.
+	 * <hr>
+	 * @param setter Name of the setter.
+	 * @param value Enumerated value.
+	 * @throws ReflectiveOperationException Thrown if the setter cannot be invoked.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public final void set(final String setter, final Enum<?> value) throws ReflectiveOperationException
+	{
+		Class<? extends Enum> type = (Class<? extends Enum>) Class.forName(value.getDeclaringClass().getName(), true, loader);
+		manager.getMethod(setter, type).invoke(null, Enum.valueOf(type, value.name()));
+	}
+
+	/**
+	 * Returns the value of a static field (public or not) of the isolated resource bundle manager.
+	 * <hr>
+	 * @param name Name of the field.
+	 * @return Value.
+	 * @throws ReflectiveOperationException Thrown if the field cannot be read.
+	 */
+	public final Object getField(final String name) throws ReflectiveOperationException
+	{
+		Field field = manager.getDeclaredField(name);
+		field.setAccessible(true);
+
+		return field.get(null);
+	}
+
+	/**
+	 * Sets the isolated class loader as the context class loader of the current thread (a worker thread calling the
+	 * isolated manager).
+	 */
+	public final void attach()
+	{
+		Thread.currentThread().setContextClassLoader(loader);
+	}
+
+	@Override
+	public final void close() throws IOException
+	{
+		Thread.currentThread().setContextClassLoader(context);
+		loader.close();
+	}
+
+	/**
+	 * Returns the entries of the class path of the tests.
+	 * <hr>
+	 * @return URLs of the class path entries.
+	 * @throws MalformedURLException Thrown if an entry of the class path is invalid.
+	 */
+	@SuppressWarnings("nls")
+	public static final URL[] getClassPath() throws MalformedURLException
+	{
+		List<URL> urls = new ArrayList<>();
+		for (String entry : System.getProperty("java.class.path").split(File.pathSeparator))
+		{
+			if (!entry.isEmpty())
+			{
+				urls.add(new File(entry).toURI().toURL());
+			}
+		}
+
+		return urls.toArray(new URL[urls.size()]);
+	}
+}
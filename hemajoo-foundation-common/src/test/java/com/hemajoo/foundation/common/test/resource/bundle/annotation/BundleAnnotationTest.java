@@ -13,8 +13,10 @@ package com.hemajoo.foundation.common.test.resource.bundle.annotation;
 
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Method;
 import java.text.Collator;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -23,12 +25,18 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.hemajoo.foundation.common.exception.InvalidArgumentException;
+import com.hemajoo.foundation.common.exception.ResourceBundleException;
 import com.hemajoo.foundation.common.resource.ResourceException;
+import com.hemajoo.foundation.common.resource.bundle.BundleLoadModeType;
 import com.hemajoo.foundation.common.resource.bundle.BundleLoadStrategyType;
 import com.hemajoo.foundation.common.resource.bundle.HemajooFoundationCommonBundle;
+import com.hemajoo.foundation.common.resource.bundle.LocaleScope;
 import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
 import com.hemajoo.foundation.common.resource.bundle.annotation.Bundle;
+import com.hemajoo.foundation.common.test.resource.bundle.IsolatedManager;
 import com.hemajoo.foundation.common.test.resource.bundle.type.TestHonorificType;
+import com.neovisionaries.i18n.LanguageCode;
 
 import lombok.extern.log4j.Log4j;
 
@@ -140,6 +148,68 @@ public final class BundleAnnotationTest
 		}
 	}
 
+	/**
+	 * Test two resource bundle files sharing a full key, the first registered one winning.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testDuplicateFullKey()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		ResourceBundleManager.setLocale(Locale.ENGLISH);
+		ResourceBundleManager.register("bundle/planet/planet-inner", "planet");
+		ResourceBundleManager.register("bundle/planet/planet-outer", "planet");
+
+		Assert.assertEquals("Earth", ResourceBundleManager.getMessage("planet.earth.name"));
+		Assert.assertEquals("Earth", ResourceBundleManager.getMessage("earth.name"));
+
+		// The other keys of both resource bundle files are registered.
+		Assert.assertEquals("Mars", ResourceBundleManager.getMessage("planet.mars.name"));
+		Assert.assertEquals("Jupiter", ResourceBundleManager.getMessage("jupiter.name"));
+	}
+
+	/**
+	 * Test the losing duplicate of a full key is not appended to the entries of the catalog.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testDuplicateFullKeyNotStored() throws Exception
+	{
+		try (IsolatedManager manager = new IsolatedManager())
+		{
+			Method register = manager.getMethod("register", String.class, String.class);
+			manager.set("setStrategy", BundleLoadStrategyType.LENIENT);
+			manager.getMethod("setLocale", Locale.class).invoke(null, Locale.ENGLISH);
+
+			register.invoke(null, "bundle/planet/planet-inner", "planet");
+			int count = getEntryCount(manager);
+			register.invoke(null, "bundle/planet/planet-outer", "planet");
+
+			// Only the entry of the jupiter is appended.
+			Assert.assertEquals(count + 1, getEntryCount(manager));
+			Assert.assertEquals("Earth", manager.getMethod("getMessage", String.class).invoke(null, "planet.earth.name"));
+		}
+	}
+
+	/**
+	 * Returns the number of entries (bound or not) of the current catalog of an isolated resource bundle manager.
+	 * <hr>
+	 * @param manager Isolated resource bundle manager.
+	 * @return Number of entries.
+	 * @throws ReflectiveOperationException Thrown if the catalog cannot be accessed.
+	 */
+	@SuppressWarnings("nls")
+	private static final int getEntryCount(final IsolatedManager manager) throws ReflectiveOperationException
+	{
+		Object catalog = ((AtomicReference<?>) manager.getField("CATALOG")).get();
+		Method method = catalog.getClass().getDeclaredMethod("getEntryCount");
+		method.setAccessible(true);
+
+		return ((Integer) method.invoke(catalog)).intValue();
+	}
+
 	/**
 	 * Test the retrieving of a resource bundle string through an enumerated value.
 	 */
@@ -247,4 +317,195 @@ public final class BundleAnnotationTest
 		Assert.assertTrue(String.format("Expected value was: '%s' but is: '%s'", "Madame",
 				TestHonorificType.MADAM.getLongTitle()), TestHonorificType.MADAM.getLongTitle().equals("Madame"));
 	}
+
+	/**
+	 * Test the retrieving of messages by their full key and by their key relative to the root of their resource bundle.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testRetrieveMessageByRelativeKey()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		ResourceBundleManager.setLocale(Locale.ENGLISH);
+
+		Assert.assertEquals("English", ResourceBundleManager.getMessage("hemajoo-foundation-common.test.dummy.language"));
+		Assert.assertEquals("English", ResourceBundleManager.getMessage("test.dummy.language"));
+	}
+
+	/**
+	 * Test the retrieving of messages with a default value for missing keys.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testRetrieveMessageOrDefault()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		ResourceBundleManager.setLocale(Locale.ENGLISH);
+
+		for (int i = 0; i < 1000; i++)
+		{
+			Assert.assertEquals("n/a", ResourceBundleManager.getMessageOrDefault("does.not.exist", "n/a"));
+			Assert.assertEquals("n/a", ResourceBundleManager.getMessageOrDefault(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_KEYDOESNOTEXIST, "n/a"));
+		}
+
+		Assert.assertFalse(ResourceBundleManager.findMessage("does.not.exist").isPresent());
+		Assert.assertFalse(ResourceBundleManager.findMessage(HemajooFoundationCommonBundle.RESOURCE_BUNDLE_KEYDOESNOTEXIST).isPresent());
+		Assert.assertEquals("English", ResourceBundleManager.findMessage("test.dummy.language").get());
+		Assert.assertEquals("English", ResourceBundleManager.findMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE).get());
+	}
+
+	/**
+	 * Test the retrieving of the resource bundle value through a method key.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testHonorificTypeByMethodKey()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+
+		Assert.assertEquals(TestHonorificType.DAME.getShortTitle(), ResourceBundleManager.getBundleValue(TestHonorificType.class, "short", TestHonorificType.DAME));
+		Assert.assertEquals("Madame", ResourceBundleManager.getBundleValue(TestHonorificType.class, "enum.honorific.long", TestHonorificType.MADAM, Locale.FRENCH));
+		Assert.assertEquals("Madame", TestHonorificType.MADAM.getLongTitle(LanguageCode.fr));
+	}
+
+	/**
+	 * Test the retrieving of the resource bundle value outside of a method annotated with the @BundleMethod annotation.
+	 */
+	@SuppressWarnings({ "static-method" })
+	@Test(expected = ResourceBundleException.class)
+	public final void testHonorificTypeWithoutBundleMethod()
+	{
+		ResourceBundleManager.getBundleValue(TestHonorificType.class, TestHonorificType.DAME);
+	}
+
+	/**
+	 * Test the retrieving of messages for a given locale without changing the resource bundle manager locale.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testRetrieveMessageForLocale()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		Locale locale = ResourceBundleManager.getLocale();
+
+		Assert.assertEquals("Deutsch", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, Locale.GERMAN));
+		Assert.assertEquals("Italiano", ResourceBundleManager.getMessage("hemajoo-foundation-common.test.dummy.language", Locale.ITALIAN));
+		Assert.assertEquals("Not the expected locale!", locale, ResourceBundleManager.getLocale());
+	}
+
+	/**
+	 * Test the retrieving of messages through a locale scope.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testLocaleScope()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		Locale locale = ResourceBundleManager.getLocale();
+
+		try (LocaleScope scope = ResourceBundleManager.openScope(Locale.GERMAN))
+		{
+			Assert.assertEquals("Deutsch", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE));
+
+			try (LocaleScope inner = ResourceBundleManager.openScope(new Locale("es")))
+			{
+				Assert.assertEquals("Espa\u00F1ol", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE));
+			}
+
+			Assert.assertEquals("Deutsch", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE));
+		}
+
+		Assert.assertEquals("Not the expected locale!", locale, ResourceBundleManager.getLocale());
+	}
+
+	/**
+	 * Test the retrieving of messages from resource bundles loaded on first use.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testLazyLoadMode()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		ResourceBundleManager.setLoadMode(BundleLoadModeType.LAZY);
+
+		try
+		{
+			Locale locale = new Locale("it", "CH");
+
+			Assert.assertEquals("Italiano", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, locale));
+			Assert.assertEquals("Madam", ResourceBundleManager.getMessage("enum.honorific.short.MADAM", locale));
+			Assert.assertEquals("Dame", ResourceBundleManager.getBundleValue(TestHonorificType.class, "long", TestHonorificType.DAME, locale));
+			Assert.assertEquals("n/a", ResourceBundleManager.getMessageOrDefault("does.not.exist", "n/a"));
+		}
+		finally
+		{
+			ResourceBundleManager.setLoadMode(BundleLoadModeType.EAGER);
+		}
+	}
+
+	/**
+	 * Test the registration of resource bundles resolved concurrently within their priority tier.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testParallelRegistration()
+	{
+		int parallelism = ResourceBundleManager.getParallelism();
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		ResourceBundleManager.setParallelism(4);
+
+		try
+		{
+			Locale locale = new Locale("fr", "BE");
+
+			Assert.assertEquals("Fran\u00E7ais", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, locale));
+			Assert.assertEquals("Dame", ResourceBundleManager.getBundleValue(TestHonorificType.class, "long", TestHonorificType.DAME, locale));
+		}
+		finally
+		{
+			ResourceBundleManager.setParallelism(parallelism);
+		}
+	}
+
+	/**
+	 * Test switching to a locale whose catalog reuses the resource bundles resolving to the same file as the catalog
+	 * in use, the translated ones being loaded.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testIncrementalLocaleSwitch()
+	{
+		ResourceBundleManager.setStrategy(BundleLoadStrategyType.LENIENT);
+		Locale locale = ResourceBundleManager.getLocale();
+
+		try
+		{
+			ResourceBundleManager.setLocale(new Locale("de", "AT"));
+
+			// Translated resource bundle.
+			Assert.assertEquals("Deutsch", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE));
+			Assert.assertEquals("Deutsch", ResourceBundleManager.getMessage("test.dummy.language"));
+
+			// Resource bundle without German translation.
+			Assert.assertEquals("Madam", ResourceBundleManager.getMessage("enum.honorific.short.MADAM"));
+			Assert.assertEquals("Madam", ResourceBundleManager.getMessage("short.MADAM"));
+			Assert.assertEquals("Dame", ResourceBundleManager.getBundleValue(TestHonorificType.class, "long", TestHonorificType.DAME));
+		}
+		finally
+		{
+			ResourceBundleManager.setLocale(locale);
+		}
+
+		Assert.assertEquals(locale, ResourceBundleManager.getLocale());
+	}
+
+	/**
+	 * Test setting an invalid parallelism.
+	 */
+	@SuppressWarnings("static-method")
+	@Test(expected = InvalidArgumentException.class)
+	public final void testInvalidParallelism()
+	{
+		ResourceBundleManager.setParallelism(0);
+	}
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.exception.ResourceBundleException;
+import com.hemajoo.foundation.common.resource.bundle.binary.BinaryBundle;
+import com.hemajoo.foundation.common.resource.bundle.binary.BinaryBundleControl;
+import com.hemajoo.foundation.common.resource.bundle.binary.BinaryResourceBundle;
+
+/**
+ * A test case for the {@link BinaryBundle} class.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BinaryBundleTest
+{
+	/**
+	 * Directory containing the binary bundle files.
+	 */
+	private static Path directory;
+
+	/**
+	 * Entries of the binary bundles.
+	 */
+	private static final Map<String, String> ENTRIES = new HashMap<>();
+
+	/**
+	 * Creates the binary bundle files.
+	 * <hr>
+	 * @throws IOException Thrown if the files cannot be written.
+	 */
+	@SuppressWarnings("nls")
+	@BeforeClass
+	public static final void setUpBeforeClass() throws IOException
+	{
+		// 'Aa' and 'BB' share the same hash code.
+		ENTRIES.put("Aa", "first");
+		ENTRIES.put("BB", "second");
+		ENTRIES.put("test.language", "Fran\u00E7ais");
+		ENTRIES.put("test.empty", "");
+
+		directory = Files.createTempDirectory("hemajoo-binary");
+		Files.createDirectories(directory.resolve("bundle"));
+		BinaryBundle.write(ENTRIES, directory.resolve("bundle/binary_fr." + BinaryBundle.EXTENSION));
+		BinaryBundle.write(Collections.singletonMap("test.language", "English"), directory.resolve("bundle/binary." + BinaryBundle.EXTENSION));
+		Files.write(directory.resolve("bundle/binary_de.properties"), Collections.singletonList("test.language=Deutsch"));
+	}
+
+	/**
+	 * Deletes the binary bundle files.
+	 * <hr>
+	 * @throws IOException Thrown if the files cannot be deleted.
+	 */
+	@SuppressWarnings("nls")
+	@AfterClass
+	public static final void tearDownAfterClass() throws IOException
+	{
+		Files.deleteIfExists(directory.resolve("bundle/binary_fr." + BinaryBundle.EXTENSION));
+		Files.deleteIfExists(directory.resolve("bundle/binary." + BinaryBundle.EXTENSION));
+		Files.deleteIfExists(directory.resolve("bundle/binary_de.properties"));
+		Files.deleteIfExists(directory.resolve("bundle"));
+		Files.deleteIfExists(directory);
+	}
+
+	/**
+	 * Test the retrieving of values from a memory-mapped binary bundle.
+	 * <hr>
+	 * @throws IOException Thrown if the binary bundle cannot be opened.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testRetrieveValue() throws IOException
+	{
+		BinaryBundle bundle = BinaryBundle.open(directory.resolve("bundle/binary_fr." + BinaryBundle.EXTENSION));
+
+		Assert.assertEquals(ENTRIES.size(), bundle.size());
+		for (Map.Entry<String, String> entry : ENTRIES.entrySet())
+		{
+			Assert.assertEquals(entry.getValue(), bundle.getValue(entry.getKey()));
+		}
+
+		Assert.assertNull(bundle.getValue("does.not.exist"));
+		Assert.assertNull(bundle.getValue("Ab"));
+		Assert.assertEquals(ENTRIES.keySet().size(), bundle.getKeys().size());
+		Assert.assertTrue(bundle.getKeys().containsAll(ENTRIES.keySet()));
+	}
+
+	/**
+	 * Test the retrieving of the entries of a binary bundle in key table order.
+	 * <hr>
+	 * @throws IOException Thrown if the binary bundle cannot be opened.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testRetrieveEntry() throws IOException
+	{
+		BinaryBundle bundle = BinaryBundle.open(directory.resolve("bundle/binary_fr." + BinaryBundle.EXTENSION)); //$NON-NLS-1$
+
+		for (int i = 0; i < bundle.size(); i++)
+		{
+			Assert.assertEquals(ENTRIES.get(bundle.getKeyAt(i)), bundle.getValueAt(i));
+			Assert.assertEquals(bundle.getKeys().get(i), bundle.getKeyAt(i));
+		}
+	}
+
+	/**
+	 * Test an entry of the key table pointing outside the blob area is rejected when opening the binary bundle.
+	 * <hr>
+	 * @throws IOException Thrown if the binary bundle cannot be written.
+	 */
+	@SuppressWarnings("static-method")
+	@Test(expected = ResourceBundleException.class)
+	public final void testCorruptedEntry() throws IOException
+	{
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		BinaryBundle.write(ENTRIES, output);
+
+		// Value length of the first entry (header: 16 bytes, entry: hash, key offset, key length, value offset, value length).
+		ByteBuffer buffer = ByteBuffer.wrap(output.toByteArray());
+		buffer.putInt(16 + 16, Integer.MAX_VALUE);
+
+		BinaryBundle.wrap(buffer);
+	}
+
+	/**
+	 * Test the loading of a binary bundle through the standard resource bundle services.
+	 * <hr>
+	 * @throws IOException Thrown if the class loader cannot be closed.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testLoadThroughControl() throws IOException
+	{
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null))
+		{
+			ResourceBundle bundle = ResourceBundle.getBundle("bundle/binary", Locale.FRENCH, loader, BinaryBundleControl.INSTANCE);
+
+			Assert.assertTrue(bundle instanceof BinaryResourceBundle);
+			Assert.assertEquals("Fran\u00E7ais", bundle.getString("test.language"));
+			Assert.assertTrue(bundle.containsKey("Aa"));
+		}
+	}
+
+	/**
+	 * Test only the binary bundle of the requested locale is looked up, the base binary bundle being used when missing
+	 * (neither the fall-back locales nor the {@code .properties} form being used).
+	 * <hr>
+	 * @throws IOException Thrown if the class loader cannot be closed.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testLoadRequestedLocaleOnly() throws IOException
+	{
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null))
+		{
+			ResourceBundle bundle = ResourceBundle.getBundle("bundle/binary", Locale.CANADA_FRENCH, loader, BinaryBundleControl.INSTANCE);
+			Assert.assertEquals(Locale.ROOT, bundle.getLocale());
+			Assert.assertEquals("English", bundle.getString("test.language"));
+
+			bundle = ResourceBundle.getBundle("bundle/binary", Locale.GERMAN, loader, BinaryBundleControl.INSTANCE);
+			Assert.assertTrue(bundle instanceof BinaryResourceBundle);
+			Assert.assertEquals("English", bundle.getString("test.language"));
+		}
+	}
+}
\ No newline at end of file
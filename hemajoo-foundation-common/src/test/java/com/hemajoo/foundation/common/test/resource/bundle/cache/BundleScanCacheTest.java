@@ -0,0 +1,248 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.cache;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.test.resource.bundle.annotation.AbbaDiscography;
+import com.hemajoo.foundation.common.test.resource.bundle.annotation.TenGreatestBooks;
+
+/**
+ * A test case for the cache file persisting the result of the class path scan of the resource bundle manager.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleScanCacheTest
+{
+	/**
+	 * Name of the (package private) scan cache class.
+	 */
+	@SuppressWarnings("nls")
+	private static final String SCAN_CACHE = "com.hemajoo.foundation.common.resource.bundle.BundleScanCache";
+
+	/**
+	 * Packages the scan is restricted to.
+	 */
+	@SuppressWarnings("nls")
+	private static final List<String> PACKAGES = Collections.singletonList("com.hemajoo");
+
+	/**
+	 * Temporary directory.
+	 */
+	private Path directory;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		directory = Files.createTempDirectory("hemajoo-bundle-scan"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Test the cached class names are reused while the class path is unchanged.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testFingerprintHit() throws Exception
+	{
+		Path archive = writeArchive(directory.resolve("library.jar"), "first");
+		Object cache = create(directory.resolve("scan.cache"));
+		Map<Integer, List<String>> classes = getClasses();
+
+		write(cache, fingerprint(archive.toString()), classes);
+
+		Assert.assertEquals(classes, read(cache, fingerprint(archive.toString())));
+	}
+
+	/**
+	 * Test the cache is invalidated when an archive of the class path changes.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testInvalidationOnArchiveChange() throws Exception
+	{
+		Path archive = writeArchive(directory.resolve("library.jar"), "first");
+		Object cache = create(directory.resolve("scan.cache"));
+		String fingerprint = fingerprint(archive.toString());
+
+		write(cache, fingerprint, getClasses());
+		writeArchive(archive, "second, with another size");
+
+		String changed = fingerprint(archive.toString());
+		Assert.assertNotEquals(fingerprint, changed);
+		Assert.assertNull(read(cache, changed));
+	}
+
+	/**
+	 * Test the cache is rejected when it holds a class not annotated with the {@code Bundle} annotation.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testRejectNotAnnotatedClass() throws Exception
+	{
+		Path archive = writeArchive(directory.resolve("library.jar"), "first");
+		Object cache = create(directory.resolve("scan.cache"));
+		String fingerprint = fingerprint(archive.toString());
+
+		Map<Integer, List<String>> classes = getClasses();
+		classes.put(Integer.valueOf(100), Collections.singletonList(BundleScanCacheTest.class.getName()));
+		write(cache, fingerprint, classes);
+		Assert.assertNull(read(cache, fingerprint));
+
+		// Annotated, but not with the cached priority.
+		classes = new TreeMap<>();
+		classes.put(Integer.valueOf(100), Collections.singletonList(AbbaDiscography.class.getName()));
+		write(cache, fingerprint, classes);
+		Assert.assertNull(read(cache, fingerprint));
+	}
+
+	/**
+	 * Returns the annotated class names to cache (by priority).
+	 * <hr>
+	 * @return Class names by priority.
+	 */
+	private static final Map<Integer, List<String>> getClasses()
+	{
+		Map<Integer, List<String>> classes = new TreeMap<>();
+		classes.put(Integer.valueOf(50), Collections.singletonList(TenGreatestBooks.class.getName()));
+		classes.put(Integer.valueOf(120), Collections.singletonList(AbbaDiscography.class.getName()));
+
+		return classes;
+	}
+
+	/**
+	 * Writes a class path archive.
+	 * <hr>
+	 * @param archive Class path archive.
+	 * @param content Content of its single entry.
+	 * @return Class path archive.
+	 * @throws Exception Thrown if the archive cannot be written.
+	 */
+	@SuppressWarnings("nls")
+	private static final Path writeArchive(final Path archive, final String content) throws Exception
+	{
+		try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(archive)))
+		{
+			output.putNextEntry(new JarEntry("content.txt"));
+			output.write(content.getBytes(StandardCharsets.UTF_8));
+			output.closeEntry();
+		}
+
+		return archive;
+	}
+
+	/**
+	 * Creates a scan cache.
+	 * <hr>
+	 * @param file Path of the cache file.
+	 * @return Scan cache.
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	private static final Object create(final Path file) throws Exception
+	{
+		Constructor<?> constructor = Class.forName(SCAN_CACHE).getDeclaredConstructor(Path.class);
+		constructor.setAccessible(true);
+
+		return constructor.newInstance(file);
+	}
+
+	/**
+	 * Computes the fingerprint of a class path.
+	 * <hr>
+	 * @param classPath Class path.
+	 * @return Fingerprint.
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	private static final String fingerprint(final String classPath) throws Exception
+	{
+		Method method = Class.forName(SCAN_CACHE).getDeclaredMethod("fingerprint", String.class, List.class);
+		method.setAccessible(true);
+
+		return (String) method.invoke(null, classPath, PACKAGES);
+	}
+
+	/**
+	 * Writes class names to a scan cache.
+	 * <hr>
+	 * @param cache Scan cache.
+	 * @param fingerprint Fingerprint of the class path.
+	 * @param classes Class names by priority.
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	private static final void write(final Object cache, final String fingerprint, final Map<Integer, List<String>> classes) throws Exception
+	{
+		Method method = cache.getClass().getDeclaredMethod("write", String.class, Map.class);
+		method.setAccessible(true);
+		method.invoke(cache, fingerprint, classes);
+	}
+
+	/**
+	 * Reads the class names from a scan cache.
+	 * <hr>
+	 * @param cache Scan cache.
+	 * @param fingerprint Fingerprint of the class path.
+	 * @return Class names by priority or {@code null} if the cache is not reused.
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "nls", "unchecked" })
+	private static final Map<Integer, List<String>> read(final Object cache, final String fingerprint) throws Exception
+	{
+		Method method = cache.getClass().getDeclaredMethod("read", String.class, ClassLoader.class);
+		method.setAccessible(true);
+
+		return (Map<Integer, List<String>>) method.invoke(cache, fingerprint, BundleScanCacheTest.class.getClassLoader());
+	}
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.processor.BundleIndexProcessor;
+
+/**
+ * A test case for the resource bundle index generated by the {@link BundleIndexProcessor} and merged by the
+ * resource bundle manager.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleIndexTest
+{
+	/**
+	 * Name of the (package private) bundle index class.
+	 */
+	@SuppressWarnings("nls")
+	private static final String BUNDLE_INDEX = "com.hemajoo.foundation.common.resource.bundle.BundleIndex";
+
+	/**
+	 * Temporary directory.
+	 */
+	private Path directory;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		directory = Files.createTempDirectory("hemajoo-bundle-index"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Test the index generated by the processor for annotated classes and methods.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testProcessorOutput() throws Exception
+	{
+		Path sources = Files.createDirectories(directory.resolve("src/sample"));
+		Files.write(sources.resolve("Planet.java"), Arrays.asList(
+				"package sample;",
+				"@com.hemajoo.foundation.common.resource.bundle.annotation.Bundle(file = \"bundle/sample/planet\", root = \"planet\", priority = 7)",
+				"public enum Planet",
+				"{",
+				"	EARTH;",
+				"	@com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod(key = \"planet.name\")",
+				"	public String getName() { return null; }",
+				"	@com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod(key = \"planet.other\")",
+				"	public String getName(int i) { return null; }",
+				"}"), StandardCharsets.UTF_8);
+		Files.write(sources.resolve("Moon.java"), Arrays.asList(
+				"package sample;",
+				"@com.hemajoo.foundation.common.resource.bundle.annotation.Bundle(file = \"bundle/sample/moon\", root = \"moon\")",
+				"public enum Moon { LUNA }"), StandardCharsets.UTF_8);
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Assert.assertNotNull("No system Java compiler!", compiler);
+
+		Path output = Files.createDirectories(directory.resolve("classes"));
+		int status = compiler.run(null, null, null,
+				"-proc:only", "-processor", BundleIndexProcessor.class.getName(),
+				"-cp", System.getProperty("java.class.path"), "-d", output.toString(),
+				sources.resolve("Planet.java").toString(), sources.resolve("Moon.java").toString());
+		Assert.assertEquals(0, status);
+
+		List<String> lines = Files.readAllLines(output.resolve(BundleIndexProcessor.INDEX), StandardCharsets.UTF_8);
+		Assert.assertTrue(lines.get(0).startsWith("#"));
+		Assert.assertTrue(lines.contains("B\t7\tsample.Planet\tbundle/sample/planet\tplanet"));
+		Assert.assertTrue(lines.contains("B\t100\tsample.Moon\tbundle/sample/moon\tmoon"));
+
+		// Each overloaded method is indexed (the first key wins when the index is read).
+		Assert.assertTrue(lines.contains("M\tsample.Planet\tgetName\tplanet.name"));
+		Assert.assertTrue(lines.indexOf("M\tsample.Planet\tgetName\tplanet.name") < lines.indexOf("M\tsample.Planet\tgetName\tplanet.other"));
+		Assert.assertEquals(5, lines.size());
+	}
+
+	/**
+	 * Test the index of an incremental build keeps the classes not compiled again, and drops the ones no longer
+	 * annotated.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testIncrementalBuild() throws Exception
+	{
+		Path sources = Files.createDirectories(directory.resolve("src/sample"));
+		Path planet = Files.write(sources.resolve("Planet.java"), Arrays.asList(
+				"package sample;",
+				"@com.hemajoo.foundation.common.resource.bundle.annotation.Bundle(file = \"bundle/sample/planet\", root = \"planet\")",
+				"public enum Planet { EARTH }"), StandardCharsets.UTF_8);
+		Path moon = Files.write(sources.resolve("Moon.java"), Arrays.asList(
+				"package sample;",
+				"@com.hemajoo.foundation.common.resource.bundle.annotation.Bundle(file = \"bundle/sample/moon\", root = \"moon\")",
+				"public enum Moon",
+				"{",
+				"	LUNA;",
+				"	@com.hemajoo.foundation.common.resource.bundle.annotation.BundleMethod(key = \"moon.name\")",
+				"	public String getName() { return null; }",
+				"}"), StandardCharsets.UTF_8);
+		Path output = Files.createDirectories(directory.resolve("classes"));
+		Path index = output.resolve(BundleIndexProcessor.INDEX);
+
+		compile(output, planet, moon);
+		Assert.assertEquals(4, Files.readAllLines(index, StandardCharsets.UTF_8).size());
+
+		// Only the planet is compiled again: the moon (compiled class) stays indexed.
+		Files.write(planet, Arrays.asList(
+				"package sample;",
+				"@com.hemajoo.foundation.common.resource.bundle.annotation.Bundle(file = \"bundle/sample/planet\", root = \"planet\", priority = 8)",
+				"public enum Planet { EARTH }"), StandardCharsets.UTF_8);
+		compile(output, planet);
+		List<String> lines = Files.readAllLines(index, StandardCharsets.UTF_8);
+		Assert.assertTrue(lines.contains("B\t8\tsample.Planet\tbundle/sample/planet\tplanet"));
+		Assert.assertTrue(lines.contains("B\t100\tsample.Moon\tbundle/sample/moon\tmoon"));
+		Assert.assertTrue(lines.contains("M\tsample.Moon\tgetName\tmoon.name"));
+		Assert.assertEquals(4, lines.size());
+
+		// The moon is no longer annotated.
+		Files.write(moon, Arrays.asList("package sample;", "public enum Moon { LUNA }"), StandardCharsets.UTF_8);
+		compile(output, planet, moon);
+		lines = Files.readAllLines(index, StandardCharsets.UTF_8);
+		Assert.assertTrue(lines.contains("B\t8\tsample.Planet\tbundle/sample/planet\tplanet"));
+		Assert.assertEquals(2, lines.size());
+	}
+
+	/**
+	 * Test the merging of the index resources of several class path entries (directory and archive).
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "nls", "unchecked" })
+	@Test
+	public final void testMerge() throws Exception
+	{
+		Path first = writeIndex(directory.resolve("first"), "B\t50\tsample.First\tbundle/first\tfirst", "B\t100\tsample.Shared\tbundle/shared\tshared");
+		Path second = writeArchive(directory.resolve("second.jar"), "B\t10\tsample.Second\tbundle/second\tsecond", "B\t100\tsample.Shared\tbundle/shared\tshared", "M\tsample.Second\tgetName\tsecond.name", "M\tsample.Second\tgetName\tsecond.other");
+
+		Object index = load(first, second);
+
+		Map<Integer, List<String>> classes = (Map<Integer, List<String>>) invoke(index, "getClassNamesByPriority");
+		Assert.assertEquals(Arrays.asList(Integer.valueOf(10), Integer.valueOf(50), Integer.valueOf(100)), Arrays.asList(classes.keySet().toArray()));
+		Assert.assertEquals(Collections.singletonList("sample.Shared"), classes.get(Integer.valueOf(100)));
+		Assert.assertEquals("second.name", ((Map<String, String>) invoke(index, "getMethodKeys", "sample.Second")).get("getName"));
+
+		// Both class path entries have contributed an index.
+		Set<Path> roots = (Set<Path>) invoke(index, "getRoots");
+		Assert.assertTrue(roots.contains(first.toAbsolutePath().normalize()));
+		Assert.assertTrue(roots.contains(second.toAbsolutePath().normalize()));
+		Assert.assertFalse((Boolean) invoke(index, "isEmpty"));
+	}
+
+	/**
+	 * Test the class path entries without index resource are the ones left to scan.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "nls", "unchecked" })
+	@Test
+	public final void testFallback() throws Exception
+	{
+		Path indexed = writeIndex(directory.resolve("indexed"), "B\t50\tsample.First\tbundle/first\tfirst");
+		Path plain = Files.createDirectories(directory.resolve("plain"));
+		String classPath = indexed + File.pathSeparator + plain;
+
+		List<File> unindexed = (List<File>) invoke(load(indexed, plain), "getUnindexedRoots", classPath);
+		Assert.assertEquals(Collections.singletonList(plain.toFile()), unindexed);
+
+		// Without any index resource, the whole class path is to be scanned.
+		Object empty = load(plain);
+		Assert.assertTrue((Boolean) invoke(empty, "isEmpty"));
+		Assert.assertEquals(2, ((List<File>) invoke(empty, "getUnindexedRoots", classPath)).size());
+	}
+
+	/**
+	 * Compiles source files with the bundle index processor, the class output being on the class path (as for an
+	 * incremental build).
+	 * <hr>
+	 * @param output Class output.
+	 * @param sources Source files.
+	 */
+	@SuppressWarnings("nls")
+	private static final void compile(final Path output, final Path... sources)
+	{
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Assert.assertNotNull("No system Java compiler!", compiler);
+
+		List<String> arguments = new ArrayList<>(Arrays.asList("-processor", BundleIndexProcessor.class.getName(), "-cp", System.getProperty("java.class.path") + File.pathSeparator + output, "-d", output.toString()));
+		for (Path source : sources)
+		{
+			arguments.add(source.toString());
+		}
+
+		Assert.assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[arguments.size()])));
+	}
+
+	/**
+	 * Writes an index resource in a class path directory.
+	 * <hr>
+	 * @param root Class path directory.
+	 * @param entries Index entries.
+	 * @return Class path directory.
+	 * @throws IOException Thrown if the index resource cannot be written.
+	 */
+	private static final Path writeIndex(final Path root, final String... entries) throws IOException
+	{
+		Path file = root.resolve(BundleIndexProcessor.INDEX);
+		Files.createDirectories(file.getParent());
+		Files.write(file, Arrays.asList(entries), StandardCharsets.UTF_8);
+
+		return root;
+	}
+
+	/**
+	 * Writes an index resource in a class path archive.
+	 * <hr>
+	 * @param archive Class path archive.
+	 * @param entries Index entries.
+	 * @return Class path archive.
+	 * @throws IOException Thrown if the archive cannot be written.
+	 */
+	private static final Path writeArchive(final Path archive, final String... entries) throws IOException
+	{
+		try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(archive)))
+		{
+			output.putNextEntry(new JarEntry(BundleIndexProcessor.INDEX));
+			output.write(String.join("\n", entries).getBytes(StandardCharsets.UTF_8));
+			output.closeEntry();
+		}
+
+		return archive;
+	}
+
+	/**
+	 * Loads the bundle index of some class path entries.
+	 * <hr>
+	 * @param roots Class path entries.
+	 * @return Bundle index.
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	private static final Object load(final Path... roots) throws Exception
+	{
+		URL[] urls = new URL[roots.length];
+		for (int i = 0; i < roots.length; i++)
+		{
+			urls[i] = roots[i].toUri().toURL();
+		}
+
+		try (URLClassLoader loader = new URLClassLoader(urls, null))
+		{
+			Method load = Class.forName(BUNDLE_INDEX).getDeclaredMethod("load", ClassLoader.class);
+			load.setAccessible(true);
+
+			return load.invoke(null, loader);
+		}
+	}
+
+	/**
+	 * Invokes a (package private) service of a bundle index.
+	 * <hr>
+	 * @param index Bundle index.
+	 * @param name Name of the service.
+	 * @param arguments Arguments (strings).
+	 * @return Result.
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	private static final Object invoke(final Object index, final String name, final String... arguments) throws Exception
+	{
+		Class<?>[] types = new Class<?>[arguments.length];
+		Arrays.fill(types, String.class);
+
+		Method method = index.getClass().getDeclaredMethod(name, types);
+		method.setAccessible(true);
+
+		return method.invoke(index, (Object[]) arguments);
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.initialization;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+import com.hemajoo.foundation.common.test.resource.bundle.IsolatedManager;
+
+/**
+ * A stress test of the initialization of the {@link ResourceBundleManager}.
+ * <p>
+ * Each round loads a fresh (not yet initialized) resource bundle manager in an isolated class loader, then lets
+ * several threads call it at the same time, the manager having to be initialized exactly once.
+ * <p>
+ * The background initialization is also checked on a fresh manager: the callers arriving before its end must wait
+ * for it rather than initializing the manager on their own.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class InitializationStressTest
+{
+	/**
+	 * Number of rounds.
+	 */
+	private static final int ROUNDS = 10;
+
+	/**
+	 * Number of threads calling the manager at the same time.
+	 */
+	private static final int THREADS = 16;
+
+	/**
+	 * Test the resource bundle manager is initialized exactly once under contention.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testSingleInitializationUnderContention() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+		try
+		{
+			for (int round = 0; round < ROUNDS; round++)
+			{
+				try (IsolatedManager manager = new IsolatedManager())
+				{
+					Method getMessage = manager.getMethod("getMessage", String.class);
+					Method initializeAsync = manager.getMethod("initializeAsync");
+
+					CyclicBarrier barrier = new CyclicBarrier(THREADS);
+					List<Future<Object>> results = new ArrayList<>(THREADS);
+					for (int i = 0; i < THREADS; i++)
+					{
+						boolean async = i == 0;
+						results.add(executor.submit(() -> {
+							manager.attach();
+							barrier.await();
+
+							if (async)
+							{
+								((CompletableFuture<?>) initializeAsync.invoke(null)).join();
+							}
+
+							return getMessage.invoke(null, "hemajoo-foundation-common.test.dummy.language");
+						}));
+					}
+
+					for (Future<Object> result : results)
+					{
+						Assert.assertEquals("English", result.get(60, TimeUnit.SECONDS));
+					}
+
+					Assert.assertEquals(String.format("Round: %d", Integer.valueOf(round)), 1, ((AtomicInteger) manager.getField("INITIALIZATIONS")).get());
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test the callers arriving while the background initialization is pending wait for it.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testEarlyCallersWaitForInitializeAsync() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+		try (IsolatedManager manager = new IsolatedManager())
+		{
+			Method getMessage = manager.getMethod("getMessage", String.class);
+			AtomicInteger initializations = (AtomicInteger) manager.getField("INITIALIZATIONS");
+
+			// The initialization is held until run by the test.
+			AtomicReference<Runnable> initialization = new AtomicReference<>();
+			CompletableFuture<?> future = (CompletableFuture<?>) manager.getMethod("initializeAsync", Executor.class).invoke(null, (Executor) initialization::set);
+			Assert.assertSame("Not the same initialization!", future, manager.getMethod("initializeAsync").invoke(null));
+
+			List<Future<Object>> results = new ArrayList<>(THREADS);
+			for (int i = 0; i < THREADS; i++)
+			{
+				results.add(executor.submit(() -> {
+					manager.attach();
+
+					return getMessage.invoke(null, "hemajoo-foundation-common.test.dummy.language");
+				}));
+			}
+
+			// The early callers wait for the pending initialization, none of them initializing the manager.
+			Thread.sleep(200);
+			for (Future<Object> result : results)
+			{
+				Assert.assertFalse(result.isDone());
+			}
+			Assert.assertEquals(0, initializations.get());
+
+			initialization.get().run();
+			Assert.assertTrue(future.isDone());
+
+			for (Future<Object> result : results)
+			{
+				Assert.assertEquals("English", result.get(60, TimeUnit.SECONDS));
+			}
+			Assert.assertEquals(1, initializations.get());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.initialization;
+
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URLClassLoader;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.BundleLoadModeType;
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+import com.hemajoo.foundation.common.test.resource.bundle.IsolatedManager;
+import com.hemajoo.foundation.common.test.resource.bundle.annotation.AbbaDiscography;
+
+/**
+ * A test of the registration of the annotated classes by the {@link ResourceBundleManager} in
+ * {@link BundleLoadModeType#LAZY} mode.
+ * <p>
+ * A fresh resource bundle manager is loaded in an isolated class loader: the annotated classes must only be loaded
+ * when their resource bundle is first used, their annotation being read from their class file beforehand.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class LazyRegistrationTest
+{
+	/**
+	 * Class loader reporting the classes it has loaded.
+	 */
+	private static final class TrackingClassLoader extends URLClassLoader
+	{
+		/**
+		 * Creates a new tracking class loader of the class path of the tests.
+		 * <hr>
+		 * @throws MalformedURLException Thrown if an entry of the class path is invalid.
+		 */
+		TrackingClassLoader() throws MalformedURLException
+		{
+			super(IsolatedManager.getClassPath(), ClassLoader.getPlatformClassLoader());
+		}
+
+		/**
+		 * Returns if a class has been loaded by this class loader.
+		 * <hr>
+		 * @param className Class name.
+		 * @return {@code True} if the class has been loaded, {@code false} otherwise.
+		 */
+		final boolean isLoaded(final String className)
+		{
+			return findLoadedClass(className) != null;
+		}
+	}
+
+	/**
+	 * Test the annotated classes are loaded on first use only.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testClassLoadedOnFirstUse() throws Exception
+	{
+		TrackingClassLoader loader = new TrackingClassLoader();
+		try (IsolatedManager manager = new IsolatedManager(loader))
+		{
+			manager.set("setLoadMode", BundleLoadModeType.LAZY);
+
+			Method getMessage = manager.getMethod("getMessage", String.class, Locale.class);
+			Assert.assertEquals("English", getMessage.invoke(null, "hemajoo-foundation-common.test.dummy.language", Locale.ENGLISH));
+			Assert.assertFalse(loader.isLoaded(AbbaDiscography.class.getName()));
+
+			Assert.assertEquals("Queen II", getMessage.invoke(null, "queen.album.ten-first.2", Locale.ENGLISH));
+			Assert.assertTrue(loader.isLoaded(AbbaDiscography.class.getName()));
+		}
+	}
+
+	/**
+	 * Test a missing full key only loads the resource bundles having its root, a key having the root of no resource
+	 * bundle loading all of them.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testMissingKeyLoadsMatchingRoots() throws Exception
+	{
+		TrackingClassLoader loader = new TrackingClassLoader();
+		try (IsolatedManager manager = new IsolatedManager(loader))
+		{
+			manager.set("setLoadMode", BundleLoadModeType.LAZY);
+
+			Method getMessageOrDefault = manager.getMethod("getMessageOrDefault", String.class, String.class);
+			Assert.assertEquals("none", getMessageOrDefault.invoke(null, "hemajoo-foundation-common.test.missing", "none"));
+			Assert.assertFalse(loader.isLoaded(AbbaDiscography.class.getName()));
+
+			Assert.assertEquals("none", getMessageOrDefault.invoke(null, "unknown.missing", "none"));
+			Assert.assertTrue(loader.isLoaded(AbbaDiscography.class.getName()));
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.initialization;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+import com.hemajoo.foundation.common.test.resource.bundle.IsolatedManager;
+
+/**
+ * A test of the locale switches of the {@link ResourceBundleManager} under concurrent readers.
+ * <p>
+ * A fresh resource bundle manager is loaded in an isolated class loader, so each locale switch builds a new catalog
+ * while several threads keep reading a message: the readers must always see a complete catalog (the one of the
+ * previous or of the new locale), never a missing key.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class LocaleSwitchTest
+{
+	/**
+	 * Number of reading threads.
+	 */
+	private static final int READERS = 8;
+
+	/**
+	 * Number of rounds through the locales.
+	 */
+	private static final int ROUNDS = 5;
+
+	/**
+	 * Locales switched to (each one having its own translation).
+	 */
+	@SuppressWarnings("nls")
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN, Locale.ITALIAN, new Locale("es") };
+
+	/**
+	 * Values of the read message (one per locale).
+	 */
+	@SuppressWarnings("nls")
+	private static final List<String> VALUES = Arrays.asList("English", "Fran\u00E7ais", "Deutsch", "Italiano", "Espa\u00F1ol");
+
+	/**
+	 * Test the readers never see a missing key while the locale is switched.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testNoMissingKeyDuringLocaleSwitch() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(READERS);
+
+		try (IsolatedManager manager = new IsolatedManager())
+		{
+			Method getMessage = manager.getMethod("getMessage", String.class);
+			Method setLocale = manager.getMethod("setLocale", Locale.class);
+
+			setLocale.invoke(null, Locale.ENGLISH);
+			Assert.assertEquals("English", getMessage.invoke(null, "hemajoo-foundation-common.test.dummy.language"));
+
+			AtomicBoolean running = new AtomicBoolean(true);
+			List<Future<?>> readers = new ArrayList<>(READERS);
+			for (int i = 0; i < READERS; i++)
+			{
+				readers.add(executor.submit(() -> {
+					manager.attach();
+
+					while (running.get())
+					{
+						Object value = getMessage.invoke(null, "hemajoo-foundation-common.test.dummy.language");
+						Assert.assertTrue(String.format("Unexpected value: %s", value), VALUES.contains(value));
+					}
+
+					return null;
+				}));
+			}
+
+			try
+			{
+				for (int round = 0; round < ROUNDS; round++)
+				{
+					for (Locale locale : LOCALES)
+					{
+						setLocale.invoke(null, locale);
+					}
+				}
+			}
+			finally
+			{
+				running.set(false);
+			}
+
+			// Any missing key would have thrown in a reader.
+			for (Future<?> reader : readers)
+			{
+				reader.get(60, TimeUnit.SECONDS);
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides test artifacts for the Hemajoo's Foundation framework.
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.initialization;
\ No newline at end of file
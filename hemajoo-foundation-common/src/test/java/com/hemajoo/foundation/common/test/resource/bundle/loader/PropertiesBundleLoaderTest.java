@@ -0,0 +1,142 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.loader;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.loader.PropertiesBundleLoader;
+
+/**
+ * A test case for the {@link PropertiesBundleLoader} class.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class PropertiesBundleLoaderTest
+{
+	/**
+	 * Resource bundle files compared with the ones resolved by the resource bundle services.
+	 */
+	@SuppressWarnings("nls")
+	private static final String[] FILENAMES = { "bundle/color/color", "bundle/fruit/fruit", "bundle/book/book-ten-greatest", "bundle/greeting/greeting" };
+
+	/**
+	 * Locales compared with the ones resolved by the resource bundle services.
+	 */
+	@SuppressWarnings("nls")
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.FRENCH, Locale.CANADA_FRENCH, Locale.GERMAN, new Locale("de", "AT"), Locale.JAPANESE, Locale.ITALIAN, Locale.ROOT };
+
+	/**
+	 * Test reading UTF-8 resource bundle files.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testUtf8()
+	{
+		PropertiesBundleLoader loader = new PropertiesBundleLoader(getClass().getClassLoader());
+
+		Assert.assertEquals("\u00C7a va ?", loader.load("bundle/greeting/greeting", Locale.FRENCH).getString("greeting.hello"));
+		Assert.assertEquals("\u3053\u3093\u306B\u3061\u306F", loader.load("bundle/greeting/greeting", Locale.JAPANESE).getString("greeting.hello"));
+
+		// Keys missing from a resource bundle file are found in its parent.
+		Assert.assertEquals("Goodbye", loader.load("bundle/greeting/greeting", Locale.JAPANESE).getString("greeting.goodbye"));
+	}
+
+	/**
+	 * Test reading ISO-8859-1 resource bundle files.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testIso88591()
+	{
+		PropertiesBundleLoader loader = new PropertiesBundleLoader(getClass().getClassLoader());
+
+		Assert.assertTrue(loader.load("bundle/fruit/fruit", Locale.FRENCH).getString("fruit.apricot.description").contains("g\u00E9n\u00E9ralement"));
+	}
+
+	/**
+	 * Test the resource bundles resolved are the ones resolved by the resource bundle services.
+	 */
+	@Test
+	public final void testSameResolution()
+	{
+		PropertiesBundleLoader loader = new PropertiesBundleLoader(getClass().getClassLoader());
+
+		for (String filename : FILENAMES)
+		{
+			for (Locale locale : LOCALES)
+			{
+				ResourceBundle expected = ResourceBundle.getBundle(filename, locale);
+				ResourceBundle bundle = loader.load(filename, locale);
+
+				Assert.assertEquals(filename + " " + locale, expected.getLocale(), bundle.getLocale()); //$NON-NLS-1$
+				Assert.assertEquals(filename + " " + locale, Collections.list(expected.getKeys()).size(), Collections.list(bundle.getKeys()).size()); //$NON-NLS-1$
+				for (String key : Collections.list(expected.getKeys()))
+				{
+					Assert.assertEquals(expected.getString(key), bundle.getString(key));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test the resource bundle files found missing are not probed again.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testMissingProbes()
+	{
+		AtomicInteger probes = new AtomicInteger();
+		ClassLoader counting = new ClassLoader(getClass().getClassLoader())
+		{
+			@Override
+			public URL getResource(final String name)
+			{
+				probes.incrementAndGet();
+				return super.getResource(name);
+			}
+		};
+		PropertiesBundleLoader loader = new PropertiesBundleLoader(counting);
+
+		// Probes color_it and color, then the resource bundle files of the default locale.
+		loader.load("bundle/color/color", Locale.ITALIAN);
+		int first = probes.get();
+
+		probes.set(0);
+		loader.load("bundle/color/color", Locale.ITALIAN);
+		Assert.assertTrue(probes.get() < first);
+
+		// Once forgotten, the missing resource bundle files are probed again.
+		loader.clear();
+		probes.set(0);
+		loader.load("bundle/color/color", Locale.ITALIAN);
+		Assert.assertEquals(first, probes.get());
+	}
+
+	/**
+	 * Test loading a resource bundle file that does not exist.
+	 */
+	@SuppressWarnings("nls")
+	@Test(expected = MissingResourceException.class)
+	public final void testMissingBundle()
+	{
+		new PropertiesBundleLoader(getClass().getClassLoader()).load("bundle/unknown/unknown", Locale.FRENCH);
+	}
+}
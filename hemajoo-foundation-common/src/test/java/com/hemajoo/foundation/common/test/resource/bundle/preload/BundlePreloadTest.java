@@ -0,0 +1,276 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.preload;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.exception.ResourceBundleException;
+import com.hemajoo.foundation.common.resource.bundle.BundleLoadModeType;
+import com.hemajoo.foundation.common.resource.bundle.BundleLoadStrategyType;
+import com.hemajoo.foundation.common.resource.bundle.BundlePreload;
+import com.hemajoo.foundation.common.resource.bundle.HemajooFoundationCommonBundle;
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+import com.hemajoo.foundation.common.test.resource.bundle.IsolatedManager;
+
+/**
+ * A test case for the {@link ResourceBundleManager#preload(Set)} service.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundlePreloadTest
+{
+	/**
+	 * Class loader holding the first lookup of a German resource bundle file until released (the preload of the
+	 * German catalog being then in flight).
+	 */
+	private static final class HoldingClassLoader extends URLClassLoader
+	{
+		/**
+		 * Signaled once a German resource bundle file is looked up.
+		 */
+		private final CountDownLatch held = new CountDownLatch(1);
+
+		/**
+		 * Releases the held lookup.
+		 */
+		private final CountDownLatch released = new CountDownLatch(1);
+
+		/**
+		 * Creates a new holding class loader of the class path of the tests.
+		 * <hr>
+		 * @throws MalformedURLException Thrown if an entry of the class path is invalid.
+		 */
+		HoldingClassLoader() throws MalformedURLException
+		{
+			super(IsolatedManager.getClassPath(), ClassLoader.getPlatformClassLoader());
+		}
+
+		@SuppressWarnings("nls")
+		@Override
+		public final URL findResource(final String name)
+		{
+			if (name.contains("_de.") && held.getCount() > 0)
+			{
+				held.countDown();
+				try
+				{
+					released.await(TIMEOUT, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			return super.findResource(name);
+		}
+	}
+
+	/**
+	 * Maximum time to wait for a preload (in seconds).
+	 */
+	private static final long TIMEOUT = 30;
+
+	/**
+	 * Locales of the shipped resource bundle files.
+	 */
+	@SuppressWarnings("nls")
+	private static final Set<Locale> LOCALES = new LinkedHashSet<>(Arrays.asList(Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN, Locale.ITALIAN, new Locale("es")));
+
+	/**
+	 * Test preloading the catalogs of several locales.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testPreload()
+	{
+		Map<Locale, BundlePreload> results = ResourceBundleManager.preload(LOCALES);
+
+		Assert.assertEquals(LOCALES.size(), results.size());
+		Assert.assertEquals(Arrays.asList(LOCALES.toArray()), Arrays.asList(results.keySet().toArray()));
+		for (BundlePreload result : results.values())
+		{
+			Assert.assertTrue(result.toString(), result.getEntries() > 0);
+			Assert.assertTrue(result.toString(), result.getKeys() >= result.getEntries());
+			Assert.assertTrue(result.toString(), result.getFootprint() > 0);
+		}
+
+		Assert.assertEquals("English", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, Locale.ENGLISH));
+		Assert.assertEquals("Fran\u00E7ais", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, Locale.FRENCH));
+		Assert.assertEquals("Deutsch", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, Locale.GERMAN));
+		Assert.assertEquals("Italiano", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, Locale.ITALIAN));
+		Assert.assertEquals("Espa\u00F1ol", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, new Locale("es")));
+
+		// Catalogs are now resident.
+		for (BundlePreload result : ResourceBundleManager.preload(LOCALES).values())
+		{
+			Assert.assertTrue(result.toString(), result.isResident());
+		}
+	}
+
+	/**
+	 * Test preloading an empty set of locales.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testPreloadNothing()
+	{
+		Assert.assertTrue(ResourceBundleManager.preload(Collections.emptySet()).isEmpty());
+	}
+
+	/**
+	 * Test preloading the catalogs of several locales in {@link BundleLoadModeType#LAZY} mode, the pending resource
+	 * bundles being loaded by the preload.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls", "unchecked" })
+	@Test
+	public final void testPreloadLazy() throws Exception
+	{
+		Map<Locale, Object> results = (Map<Locale, Object>) preloadIsolated(BundleLoadStrategyType.LENIENT, LOCALES);
+
+		Assert.assertEquals(LOCALES.size(), results.size());
+		for (Object result : results.values())
+		{
+			Assert.assertTrue(result.toString(), ((Integer) result.getClass().getMethod("getEntries").invoke(result)).intValue() > 0);
+		}
+	}
+
+	/**
+	 * Test preloading a catalog in {@link BundleLoadModeType#LAZY} mode with a pending resource bundle missing for its
+	 * locale in {@link BundleLoadStrategyType#STRICT} mode: the error is raised (its message being retrieved from
+	 * the catalog in use) instead of blocking the preload.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testPreloadLazyStrict() throws Exception
+	{
+		try
+		{
+			preloadIsolated(BundleLoadStrategyType.STRICT, Collections.singleton(Locale.JAPANESE));
+			Assert.fail("Preloading a catalog with a missing resource bundle in STRICT mode should fail");
+		}
+		catch (InvocationTargetException e)
+		{
+			Assert.assertEquals(ResourceBundleException.class.getName(), e.getCause().getClass().getName());
+		}
+	}
+
+	/**
+	 * Test a resource bundle file registered while a catalog is being preloaded is part of the published catalog.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testRegisterDuringPreload() throws Exception
+	{
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		HoldingClassLoader loader = new HoldingClassLoader();
+		try (IsolatedManager manager = new IsolatedManager(loader))
+		{
+			// The file is registered while the pending resource bundles are loaded, once the registered files are read.
+			manager.set("setLoadMode", BundleLoadModeType.LAZY);
+			manager.set("setStrategy", BundleLoadStrategyType.LENIENT);
+			manager.getMethod("setLocale", Locale.class).invoke(null, Locale.ENGLISH);
+
+			Method preload = manager.getMethod("preload", Set.class);
+			Future<Object> future = executor.submit(() -> {
+				manager.attach();
+				return preload.invoke(null, Collections.singleton(Locale.GERMAN));
+			});
+
+			try
+			{
+				// The German catalog is being loaded (without the lock of the manager) when the file is registered.
+				Assert.assertTrue(loader.held.await(TIMEOUT, TimeUnit.SECONDS));
+				manager.getMethod("register", String.class, String.class).invoke(null, "bundle/planet/planet-inner", "planet");
+			}
+			finally
+			{
+				loader.released.countDown();
+			}
+
+			future.get(TIMEOUT, TimeUnit.SECONDS);
+			Assert.assertEquals("Earth", manager.getMethod("getMessage", String.class, Locale.class).invoke(null, "planet.earth.name", Locale.GERMAN));
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Preloads catalogs with a fresh resource bundle manager (loaded in an isolated class loader) in
+	 * {@link BundleLoadModeType#LAZY} mode.
+	 * <hr>
+	 * @param strategy Resource bundle load strategy.
+	 * @param locales Locales to preload.
+	 * @return Preload results.
+	 * @throws Exception Thrown if an error occurred (the exception thrown by the preload being wrapped into an
+	 * {@link InvocationTargetException}).
+	 */
+	@SuppressWarnings("nls")
+	private static final Object preloadIsolated(final BundleLoadStrategyType strategy, final Set<Locale> locales) throws Exception
+	{
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try (IsolatedManager manager = new IsolatedManager())
+		{
+			manager.set("setLoadMode", BundleLoadModeType.LAZY);
+			manager.set("setStrategy", strategy);
+
+			Method preload = manager.getMethod("preload", Set.class);
+			Future<Object> future = executor.submit(() -> {
+				manager.attach();
+				return preload.invoke(null, locales);
+			});
+
+			try
+			{
+				return future.get(TIMEOUT, TimeUnit.SECONDS);
+			}
+			catch (ExecutionException e)
+			{
+				throw (Exception) e.getCause();
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.resolver;
+
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+import com.hemajoo.foundation.common.test.resource.bundle.IsolatedManager;
+
+/**
+ * A test of the resolution of the resource bundle files by the {@link ResourceBundleManager}.
+ * <p>
+ * A fresh resource bundle manager is loaded in an isolated class loader counting the lookups of each resource bundle
+ * file, then switched through several locales: each resource bundle file (found or missing) must be looked up once.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleResolutionTest
+{
+	/**
+	 * Locales switched to ({@code fr_CA} falling back to {@code fr}).
+	 */
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.FRENCH, Locale.CANADA_FRENCH, Locale.GERMAN, Locale.ENGLISH, Locale.FRENCH };
+
+	/**
+	 * Class loader counting the lookups of the resource bundle files.
+	 */
+	private static final class CountingClassLoader extends URLClassLoader
+	{
+		/**
+		 * Number of lookups by resource bundle file.
+		 */
+		private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+
+		/**
+		 * Creates a new counting class loader of the class path of the tests.
+		 * <hr>
+		 * @throws MalformedURLException Thrown if an entry of the class path is invalid.
+		 */
+		CountingClassLoader() throws MalformedURLException
+		{
+			super(IsolatedManager.getClassPath(), ClassLoader.getPlatformClassLoader());
+		}
+
+		@SuppressWarnings("nls")
+		@Override
+		public final URL findResource(final String name)
+		{
+			if (name.startsWith("bundle/") && name.endsWith(".properties"))
+			{
+				lookups.computeIfAbsent(name, e -> new AtomicInteger()).incrementAndGet();
+			}
+
+			return super.findResource(name);
+		}
+
+		/**
+		 * Returns the number of lookups by resource bundle file.
+		 * <hr>
+		 * @return Number of lookups by resource bundle file.
+		 */
+		final Map<String, AtomicInteger> getLookups()
+		{
+			return lookups;
+		}
+	}
+
+	/**
+	 * Test each resource bundle file is resolved once per locale, whatever the number of locale switches.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testSingleResolutionPerLocale() throws Exception
+	{
+		CountingClassLoader loader = new CountingClassLoader();
+		try (IsolatedManager manager = new IsolatedManager(loader))
+		{
+			Method getMessage = manager.getMethod("getMessage", String.class);
+			Method setLocale = manager.getMethod("setLocale", Locale.class);
+
+			for (Locale locale : LOCALES)
+			{
+				setLocale.invoke(null, locale);
+				Assert.assertNotNull(getMessage.invoke(null, "hemajoo-foundation-common.test.dummy.language"));
+				Assert.assertNotNull(getMessage.invoke(null, "fruit.apple.name"));
+			}
+
+			Map<String, AtomicInteger> lookups = loader.getLookups();
+			Assert.assertTrue(lookups.containsKey("bundle/hemajoo-foundation-common_fr.properties"));
+			Assert.assertTrue(lookups.containsKey("bundle/fruit/fruit_de.properties"));
+			for (Map.Entry<String, AtomicInteger> entry : lookups.entrySet())
+			{
+				Assert.assertEquals(entry.getKey(), 1, entry.getValue().get());
+			}
+		}
+	}
+}
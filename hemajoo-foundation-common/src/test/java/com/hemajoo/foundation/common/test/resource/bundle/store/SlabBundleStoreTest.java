@@ -0,0 +1,189 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.store;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.BundleStorageType;
+import com.hemajoo.foundation.common.resource.bundle.HemajooFoundationCommonBundle;
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+import com.hemajoo.foundation.common.resource.bundle.store.SlabBundleStore;
+
+/**
+ * A test case for the {@link SlabBundleStore} class.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class SlabBundleStoreTest
+{
+	/**
+	 * Number of entries used to make the store grow.
+	 */
+	private static final int ENTRIES = 50000;
+
+	/**
+	 * Padding used to vary the length of the values.
+	 */
+	@SuppressWarnings("nls")
+	private static final String PADDING = "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx";
+
+	/**
+	 * Test adding, binding and reading entries.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testPutAndGet()
+	{
+		SlabBundleStore store = new SlabBundleStore();
+
+		int red = store.put("color.red", "Red");
+		Assert.assertEquals("Red", store.get("color.red"));
+		Assert.assertEquals(red, store.indexOf("color.red"));
+		Assert.assertNull(store.get("color.blue"));
+		Assert.assertNull(store.get("color.re"));
+		Assert.assertEquals(-1, store.indexOf("color.blue"));
+
+		// An alias shares the entry of its full key.
+		Assert.assertTrue(store.bindIfAbsent("red", red));
+		Assert.assertFalse(store.bindIfAbsent("red", store.add("red", "Rouge")));
+		Assert.assertEquals("Red", store.get("red"));
+
+		int rouge = store.put("color.red", "Rouge");
+		Assert.assertEquals("Rouge", store.get("color.red"));
+		Assert.assertEquals("Red", store.get(red));
+		store.bind("red", rouge);
+		Assert.assertEquals("Rouge", store.get("red"));
+
+		store.put("color.green", "");
+		Assert.assertEquals("", store.get("color.green"));
+		Assert.assertEquals(3, store.size());
+		Assert.assertEquals(4, store.getEntryCount());
+	}
+
+	/**
+	 * Test binding a key to an entry not appended yet.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test(expected = IndexOutOfBoundsException.class)
+	public final void testBindInvalidEntry()
+	{
+		new SlabBundleStore().bind("color.red", 0);
+	}
+
+	/**
+	 * Test entries having non ASCII keys and values.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testNonAsciiEntries()
+	{
+		SlabBundleStore store = new SlabBundleStore();
+
+		store.put("langue.fran\u00E7ais", "Fran\u00E7ais");
+		store.put("langue.\u65E5\u672C\u8A9E", "\u65E5\u672C\u8A9E \uD83D\uDE00");
+
+		Assert.assertEquals("Fran\u00E7ais", store.get("langue.fran\u00E7ais"));
+		Assert.assertEquals("\u65E5\u672C\u8A9E \uD83D\uDE00", store.get("langue.\u65E5\u672C\u8A9E"));
+		Assert.assertNull(store.get("langue.francais"));
+	}
+
+	/**
+	 * Test the store keeps its entries while growing.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testGrowth()
+	{
+		SlabBundleStore store = new SlabBundleStore();
+		for (int i = 0; i < ENTRIES; i++)
+		{
+			store.put("key." + i, "value-" + i + "-" + PADDING.substring(0, i % 64));
+		}
+
+		Assert.assertEquals(ENTRIES, store.size());
+		for (int i = 0; i < ENTRIES; i++)
+		{
+			Assert.assertEquals("value-" + i + "-" + PADDING.substring(0, i % 64), store.get("key." + i));
+		}
+	}
+
+	/**
+	 * Test reading entries while the store is written (and grows).
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testConcurrentReads() throws Exception
+	{
+		SlabBundleStore store = new SlabBundleStore();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try
+		{
+			Future<?> writer = executor.submit(() -> {
+				for (int i = 0; i < ENTRIES; i++)
+				{
+					store.put("key." + i, "value." + i);
+				}
+			});
+
+			Future<?> reader = executor.submit(() -> {
+				while (!writer.isDone())
+				{
+					for (int i = 0; i < ENTRIES; i += 97)
+					{
+						String value = store.get("key." + i);
+						Assert.assertTrue(value == null || value.equals("value." + i));
+					}
+				}
+			});
+
+			writer.get(60, TimeUnit.SECONDS);
+			reader.get(60, TimeUnit.SECONDS);
+			Assert.assertEquals("value." + (ENTRIES - 1), store.get("key." + (ENTRIES - 1)));
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test retrieving messages from a catalog using the slab storage.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testSlabCatalog()
+	{
+		ResourceBundleManager.setStorage(BundleStorageType.SLAB);
+
+		try
+		{
+			Locale locale = new Locale("es", "MX");
+			Assert.assertEquals("Espa\u00F1ol", ResourceBundleManager.getMessage(HemajooFoundationCommonBundle.TEST_DUMMY_LANGUAGE, locale));
+			Assert.assertEquals("Espa\u00F1ol", ResourceBundleManager.getMessage("hemajoo-foundation-common.test.dummy.language", locale));
+		}
+		finally
+		{
+			ResourceBundleManager.setStorage(BundleStorageType.HEAP);
+		}
+	}
+}
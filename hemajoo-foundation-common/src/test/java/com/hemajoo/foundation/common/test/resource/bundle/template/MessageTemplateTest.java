@@ -0,0 +1,187 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.template;
+
+import java.lang.management.ManagementFactory;
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.MessageTemplate;
+
+import lombok.extern.log4j.Log4j;
+
+/**
+ * A test case for the {@link MessageTemplate} class.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+@Log4j
+public final class MessageTemplateTest
+{
+	/**
+	 * Number of iterations used to measure the allocations.
+	 */
+	private static final int ITERATIONS = 20000;
+
+	/**
+	 * A fixed date used as parameter.
+	 */
+	private static final Date DATE = new Date(1234567890123L);
+
+	/**
+	 * Ensures a template renders the same output as a message format.
+	 * <hr>
+	 * @param pattern Message pattern.
+	 * @param locale Locale.
+	 * @param parameters Parameters.
+	 */
+	@SuppressWarnings("nls")
+	private static final void assertSame(final String pattern, final Locale locale, final Object... parameters)
+	{
+		String expected = new MessageFormat(pattern, locale).format(parameters, new StringBuffer(), null).toString();
+		String actual = MessageTemplate.compile(pattern, locale).format(parameters);
+
+		Assert.assertEquals(String.format("Pattern: '%s'", pattern), expected, actual);
+	}
+
+	/**
+	 * Test the rendering of plain arguments.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testPlainArguments()
+	{
+		assertSame("Class initialized [class.name={0}, class.fullname={1}]", Locale.ENGLISH, "Foo", "com.foo.Foo");
+		assertSame("{1} before {0} and {1} again", Locale.ENGLISH, "a", "b");
+		assertSame("Count: {0}, date: {1}", Locale.ENGLISH, Integer.valueOf(1234567), DATE);
+		assertSame("Count: {0}, date: {1}", Locale.FRENCH, Double.valueOf(1234567.891), DATE);
+		assertSame("Null: {0}, object: {1}", Locale.ENGLISH, null, Locale.GERMAN);
+		assertSame("Missing: {0} {3}", Locale.ENGLISH, "only one");
+		assertSame("No argument at all", Locale.ENGLISH, "unused");
+	}
+
+	/**
+	 * Test the rendering of quoted patterns.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testQuotes()
+	{
+		assertSame("Error for element: '{0}'. Caused by: ", Locale.ENGLISH, "foo");
+		assertSame("It''s {0}''s turn", Locale.ENGLISH, "Bob");
+		assertSame("'{'{0}'}' and '''quoted'''", Locale.ENGLISH, "x");
+	}
+
+	/**
+	 * Test the rendering of arguments having a format type.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testFormattedArguments()
+	{
+		for (Locale locale : new Locale[] { Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN })
+		{
+			assertSame("{0,number} items", locale, Double.valueOf(1234.567));
+			assertSame("{0, number, integer} items", locale, Double.valueOf(1234.567));
+			assertSame("{0,number,percent}", locale, Double.valueOf(0.25));
+			assertSame("{0,number,#.##} ({0})", locale, Double.valueOf(1234.567));
+			assertSame("{0,date} at {0,time}", locale, DATE);
+			assertSame("{0,date,short} / {0,date,long} / {0,time,HH:mm}", locale, DATE);
+		}
+	}
+
+	/**
+	 * Test the rendering of patterns delegated to a message format.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testChoice()
+	{
+		String pattern = "There {0,choice,0#are no files|1#is one file|1<are {0,number,integer} files}.";
+
+		assertSame(pattern, Locale.ENGLISH, Integer.valueOf(0));
+		assertSame(pattern, Locale.ENGLISH, Integer.valueOf(1));
+		assertSame(pattern, Locale.ENGLISH, Integer.valueOf(1273));
+	}
+
+	/**
+	 * Test the rendering without any parameter.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testWithoutParameters()
+	{
+		String pattern = "Value of '{0}' is {0,number} for {1}";
+
+		Assert.assertEquals(MessageFormat.format(pattern, (Object[]) null), MessageTemplate.compile(pattern, Locale.getDefault(Locale.Category.FORMAT)).format((Object[]) null));
+		Assert.assertEquals(MessageFormat.format(pattern, new Object[0]), MessageTemplate.compile(pattern).format());
+	}
+
+	/**
+	 * Test an invalid pattern is rejected the same way as a message format does.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidPattern()
+	{
+		MessageTemplate.compile("Unmatched {0", Locale.ENGLISH);
+	}
+
+	/**
+	 * Benchmark the allocations of a template against the ones of the static {@link MessageFormat#format(String, Object...)}.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testAllocationAgainstMessageFormat()
+	{
+		Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+		String pattern = "Command registered [name={0}, class.simple={1}, class.full={2}]";
+		MessageTemplate template = MessageTemplate.of(pattern);
+		Object[] parameters = { "help", "HelpCommand", "com.hemajoo.command.HelpCommand" };
+		long threadId = Thread.currentThread().getId();
+		long length = 0;
+
+		// Warm up both paths.
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			length += MessageFormat.format(pattern, parameters).length() + template.format(parameters).length();
+		}
+
+		long start = bean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			length += MessageFormat.format(pattern, parameters).length();
+		}
+		long formatBytes = bean.getThreadAllocatedBytes(threadId) - start;
+
+		start = bean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			length += template.format(parameters).length();
+		}
+		long templateBytes = bean.getThreadAllocatedBytes(threadId) - start;
+
+		log.info(String.format("Allocation per message: MessageFormat=%d bytes, MessageTemplate=%d bytes (checksum=%d)", Long.valueOf(formatBytes / ITERATIONS), Long.valueOf(templateBytes / ITERATIONS), Long.valueOf(length)));
+
+		Assert.assertTrue(String.format("Template allocated %d bytes, message format allocated %d bytes", Long.valueOf(templateBytes), Long.valueOf(formatBytes)), templateBytes * 2 < formatBytes);
+	}
+}
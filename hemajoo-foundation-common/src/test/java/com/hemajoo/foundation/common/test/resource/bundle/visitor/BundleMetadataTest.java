@@ -0,0 +1,80 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.visitor;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.HemajooFoundationCommonBundle;
+import com.hemajoo.foundation.common.resource.bundle.visitor.BundleMetadata;
+import com.hemajoo.foundation.common.test.resource.bundle.annotation.AbbaDiscography;
+import com.hemajoo.foundation.common.test.resource.bundle.annotation.TenGreatestBooks;
+
+/**
+ * A test case for the {@link BundleMetadata} class.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleMetadataTest
+{
+	/**
+	 * Test reading the annotation of an annotated class from its class file.
+	 * <hr>
+	 * @throws IOException Thrown if the class file cannot be read.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testReadAnnotatedClass() throws IOException
+	{
+		BundleMetadata metadata = BundleMetadata.read(BundleMetadataTest.class.getClassLoader(), TenGreatestBooks.class.getName());
+
+		Assert.assertNotNull(metadata);
+		Assert.assertEquals(TenGreatestBooks.class.getName(), metadata.getClassName());
+		Assert.assertEquals("bundle/book/book-ten-greatest", metadata.getFile());
+		Assert.assertEquals("books.the-ten-greatest", metadata.getRoot());
+		Assert.assertEquals(50, metadata.getPriority());
+	}
+
+	/**
+	 * Test reading the annotation of an annotated enumeration (having methods and constants) from its class file.
+	 * <hr>
+	 * @throws IOException Thrown if the class file cannot be read.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testReadAnnotatedEnumeration() throws IOException
+	{
+		BundleMetadata metadata = BundleMetadata.read(BundleMetadataTest.class.getClassLoader(), HemajooFoundationCommonBundle.class.getName());
+
+		Assert.assertNotNull(metadata);
+		Assert.assertEquals("bundle/hemajoo-foundation-common", metadata.getFile());
+		Assert.assertEquals(10, metadata.getPriority());
+
+		Assert.assertEquals(120, BundleMetadata.read(BundleMetadataTest.class.getClassLoader(), AbbaDiscography.class.getName()).getPriority());
+	}
+
+	/**
+	 * Test reading the annotation of a class not annotated.
+	 * <hr>
+	 * @throws IOException Thrown if the class file cannot be read.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testReadNotAnnotatedClass() throws IOException
+	{
+		Assert.assertNull(BundleMetadata.read(BundleMetadataTest.class.getClassLoader(), BundleMetadataTest.class.getName()));
+		Assert.assertNull(BundleMetadata.read(BundleMetadataTest.class.getClassLoader(), "does.not.Exist")); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.common.test.resource.bundle.watcher;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.exception.InvalidArgumentException;
+import com.hemajoo.foundation.common.resource.bundle.BundleReload;
+import com.hemajoo.foundation.common.resource.bundle.BundleWatcher;
+import com.hemajoo.foundation.common.resource.bundle.ResourceBundleManager;
+
+/**
+ * A test case for the {@link BundleWatcher} class.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleWatcherTest
+{
+	/**
+	 * Key used by the tests.
+	 */
+	@SuppressWarnings("nls")
+	private static final String KEY = "fruit.pineapple.name";
+
+	/**
+	 * Key only held by the external resource bundle files.
+	 */
+	@SuppressWarnings("nls")
+	private static final String KIWI = "fruit.kiwi.name";
+
+	/**
+	 * English external fruit resource bundle file.
+	 */
+	@SuppressWarnings("nls")
+	private static final String ENGLISH = "bundle/fruit/fruit_en.properties";
+
+	/**
+	 * Default external fruit resource bundle file.
+	 */
+	@SuppressWarnings("nls")
+	private static final String DEFAULT = "bundle/fruit/fruit.properties";
+
+	/**
+	 * Maximum time to wait for a reload (in milliseconds).
+	 */
+	private static final long TIMEOUT = 30000;
+
+	/**
+	 * Number of reloads of the bounded entries test.
+	 */
+	private static final int ROUNDS = 6;
+
+	/**
+	 * External resource bundle directory.
+	 */
+	private Path directory;
+
+	/**
+	 * Creates the external resource bundle directory.
+	 * <hr>
+	 * @throws IOException Thrown if the directory cannot be created.
+	 */
+	@SuppressWarnings("nls")
+	@Before
+	public final void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("hemajoo-bundle-watcher");
+	}
+
+	/**
+	 * Deletes the external resource bundle directory (the reloaded values being unloaded by the watchers once closed).
+	 * <hr>
+	 * @throws IOException Thrown if the directory cannot be deleted.
+	 */
+	@After
+	public final void tearDown() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+			{
+				Files.delete(path);
+			}
+		}
+	}
+
+	/**
+	 * Test the resource bundle files already in the directory are reloaded when starting to watch it.
+	 * <hr>
+	 * @throws IOException Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testInitialReload() throws IOException
+	{
+		write(ENGLISH, KEY + "=Ananas comosus", KIWI + "=Kiwi");
+
+		try (BundleWatcher watcher = ResourceBundleManager.watch(directory))
+		{
+			Assert.assertEquals(1, watcher.getReloadCount());
+			Assert.assertEquals("Ananas comosus", ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+			Assert.assertEquals("Kiwi", ResourceBundleManager.getMessage(KIWI, Locale.ENGLISH));
+
+			BundleReload reload = watcher.getLastReload();
+			Assert.assertEquals("bundle/fruit/fruit", reload.getFilename());
+			Assert.assertEquals(Locale.ENGLISH, reload.getLocale());
+			Assert.assertTrue(reload.getCatalogs() >= 1);
+			Assert.assertEquals(reload.getCatalogs(), reload.getChanged());
+			Assert.assertEquals(reload.getCatalogs(), reload.getAdded());
+			Assert.assertEquals(Collections.singleton(KEY), reload.getChangedKeys());
+			Assert.assertEquals(Collections.singleton(KIWI), reload.getAddedKeys());
+			Assert.assertTrue(reload.getRemovedKeys().isEmpty());
+		}
+	}
+
+	/**
+	 * Test a resource bundle file modified while watching the directory is reloaded.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testReloadOnChange() throws Exception
+	{
+		try (BundleWatcher watcher = ResourceBundleManager.watch(directory, 50))
+		{
+			Assert.assertEquals(0, watcher.getReloadCount());
+
+			write(ENGLISH, KEY + "=Pineapple (fresh)");
+
+			long deadline = System.currentTimeMillis() + TIMEOUT;
+			while (watcher.getChangedCount() == 0 && System.currentTimeMillis() < deadline)
+			{
+				Thread.sleep(20);
+			}
+
+			Assert.assertTrue(watcher.getReloadCount() >= 1);
+			Assert.assertTrue(watcher.getChangedCount() >= 1);
+			Assert.assertEquals("Pineapple (fresh)", ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+		}
+	}
+
+	/**
+	 * Test the entries of a catalog stay bounded across the reloads of a resource bundle file.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testBoundedEntriesAcrossReloads() throws Exception
+	{
+		Assert.assertEquals("Pineapple", ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+
+		// Each reload leaves at least as many unused entries as the catalog holds live ones.
+		int keys = getEntryCount(Locale.ENGLISH, "getLiveEntryCount");
+		try (BundleWatcher watcher = ResourceBundleManager.watch(directory, 50))
+		{
+			for (int i = 1; i <= ROUNDS; i++)
+			{
+				write(ENGLISH, getLines(String.format("Pineapple %d", Integer.valueOf(i)), keys));
+
+				long deadline = System.currentTimeMillis() + TIMEOUT;
+				while (watcher.getReloadCount() < i && System.currentTimeMillis() < deadline)
+				{
+					Thread.sleep(20);
+				}
+
+				Assert.assertEquals(String.format("Pineapple %d", Integer.valueOf(i)), ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+
+				int live = getEntryCount(Locale.ENGLISH, "getLiveEntryCount");
+				int entries = getEntryCount(Locale.ENGLISH, "getEntryCount");
+				Assert.assertTrue(String.format("Reload: %d, entries: %d, live entries: %d", Integer.valueOf(i), Integer.valueOf(entries), Integer.valueOf(live)), entries <= 2 * live);
+			}
+		}
+	}
+
+	/**
+	 * Test a reloaded default resource bundle file reaches the resource bundle files falling back on it.
+	 * <hr>
+	 * @throws IOException Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testReloadParent() throws IOException
+	{
+		// The French catalog is resident before the reload.
+		Assert.assertEquals("Ananas", ResourceBundleManager.getMessage(KEY, Locale.FRENCH));
+
+		write(DEFAULT, KIWI + "=Kiwi");
+		try (BundleWatcher watcher = ResourceBundleManager.watch(directory))
+		{
+			BundleReload reload = watcher.getLastReload();
+			Assert.assertEquals(Locale.ROOT, reload.getLocale());
+			Assert.assertTrue(reload.getCatalogs() >= 2);
+			Assert.assertEquals(reload.getCatalogs(), reload.getAdded());
+			Assert.assertEquals(0, reload.getChanged());
+
+			Assert.assertEquals("Kiwi", ResourceBundleManager.getMessage(KIWI, Locale.ENGLISH));
+			Assert.assertEquals("Kiwi", ResourceBundleManager.getMessage(KIWI, Locale.FRENCH));
+			Assert.assertEquals("Ananas", ResourceBundleManager.getMessage(KEY, Locale.FRENCH));
+		}
+	}
+
+	/**
+	 * Test a deleted resource bundle file is unloaded.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testUnloadOnDelete() throws Exception
+	{
+		write(ENGLISH, KEY + "=Ananas comosus", KIWI + "=Kiwi");
+
+		try (BundleWatcher watcher = ResourceBundleManager.watch(directory, 50))
+		{
+			Assert.assertEquals("Ananas comosus", ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+
+			Files.delete(directory.resolve(ENGLISH));
+
+			long deadline = System.currentTimeMillis() + TIMEOUT;
+			while (watcher.getRemovedCount() == 0 && System.currentTimeMillis() < deadline)
+			{
+				Thread.sleep(20);
+			}
+
+			Assert.assertTrue(watcher.getRemovedCount() >= 1);
+			Assert.assertEquals("Pineapple", ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+			Assert.assertFalse(ResourceBundleManager.findMessage(KIWI).isPresent());
+		}
+	}
+
+	/**
+	 * Test the resource bundle files reloaded by a watcher are unloaded once the watcher is closed.
+	 * <hr>
+	 * @throws IOException Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testUnloadOnClose() throws IOException
+	{
+		write(DEFAULT, KIWI + "=Kiwi");
+		write(ENGLISH, KEY + "=Ananas comosus");
+
+		try (BundleWatcher watcher = ResourceBundleManager.watch(directory))
+		{
+			Assert.assertEquals(2, watcher.getReloadCount());
+			Assert.assertEquals("Ananas comosus", ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+			Assert.assertEquals("Kiwi", ResourceBundleManager.getMessage(KIWI, Locale.FRENCH));
+		}
+
+		Assert.assertEquals("Pineapple", ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+		Assert.assertFalse(ResourceBundleManager.findMessage(KIWI).isPresent());
+	}
+
+	/**
+	 * Test a malformed resource bundle file does not stop the watcher.
+	 * <hr>
+	 * @throws Exception Thrown if an error occurred.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testMalformedFile() throws Exception
+	{
+		try (BundleWatcher watcher = ResourceBundleManager.watch(directory, 50))
+		{
+			// Malformed unicode escape sequence.
+			write(ENGLISH, KEY + "=\\uZZZZ");
+			Thread.sleep(500);
+			Assert.assertTrue(watcher.isRunning());
+			Assert.assertEquals(0, watcher.getReloadCount());
+
+			write(ENGLISH, KEY + "=Pineapple (fixed)");
+
+			long deadline = System.currentTimeMillis() + TIMEOUT;
+			while (watcher.getChangedCount() == 0 && System.currentTimeMillis() < deadline)
+			{
+				Thread.sleep(20);
+			}
+
+			Assert.assertTrue(watcher.isRunning());
+			Assert.assertEquals("Pineapple (fixed)", ResourceBundleManager.getMessage(KEY, Locale.ENGLISH));
+		}
+	}
+
+	/**
+	 * Test watching a directory with an invalid debounce delay.
+	 * <hr>
+	 * @throws IOException Thrown if an error occurred.
+	 */
+	@SuppressWarnings("resource")
+	@Test(expected = InvalidArgumentException.class)
+	public final void testInvalidDebounce() throws IOException
+	{
+		ResourceBundleManager.watch(directory, -1);
+	}
+
+	/**
+	 * Returns the lines of an external fruit resource bundle file holding a value for the pineapple and extra keys.
+	 * <hr>
+	 * @param value Value of the pineapple.
+	 * @param extra Number of extra keys.
+	 * @return Lines.
+	 */
+	@SuppressWarnings("nls")
+	private static final String[] getLines(final String value, final int extra)
+	{
+		String[] lines = new String[extra + 1];
+		lines[0] = KEY + "=" + value;
+		for (int i = 1; i <= extra; i++)
+		{
+			lines[i] = String.format("fruit.extra-%d.name=Extra %d", Integer.valueOf(i), Integer.valueOf(i));
+		}
+
+		return lines;
+	}
+
+	/**
+	 * Returns a number of entries of the resident catalog of a locale.
+	 * <hr>
+	 * @param locale Locale of the catalog.
+	 * @param service Name of the (package private) service of the catalog returning the number of entries.
+	 * @return Number of entries.
+	 * @throws ReflectiveOperationException Thrown if the catalog cannot be accessed.
+	 */
+	@SuppressWarnings("nls")
+	private static final int getEntryCount(final Locale locale, final String service) throws ReflectiveOperationException
+	{
+		Field field = ResourceBundleManager.class.getDeclaredField("CATALOGS");
+		field.setAccessible(true);
+		Object catalog = ((Map<?, ?>) field.get(null)).get(locale);
+
+		Method method = catalog.getClass().getDeclaredMethod(service);
+		method.setAccessible(true);
+
+		return ((Integer) method.invoke(catalog)).intValue();
+	}
+
+	/**
+	 * Writes an external fruit resource bundle file.
+	 * <hr>
+	 * @param name Path of the file relative to the external resource bundle directory.
+	 * @param lines Lines of the file.
+	 * @throws IOException Thrown if the file cannot be written.
+	 */
+	private final void write(final String name, final String... lines) throws IOException
+	{
+		Path file = directory.resolve(name);
+		Files.createDirectories(file.getParent());
+		Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.maven.plugin.bundle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.hemajoo.foundation.common.resource.bundle.binary.BinaryBundle;
+
+import lombok.NonNull;
+
+/**
+ * Compiles the {@code .properties} resource bundle files into their binary form ({@code .hbc}), one per locale, with
+ * the fallback chain already flattened.
+ * <p>
+ * The fallback chain of a locale is the one of the standard {@link ResourceBundle} services (for example
+ * {@code fr_CA -> fr -> root}), so that looking up a key in a compiled resource bundle never falls back to another
+ * one. The keys provided by the other resource bundle files of a family but missing for a locale are reported.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleCompiler
+{
+	/**
+	 * Extension of the resource bundle source files.
+	 */
+	@SuppressWarnings("nls")
+	private static final String EXTENSION = ".properties";
+
+	/**
+	 * Pattern of the region part of a resource bundle file name.
+	 */
+	@SuppressWarnings("nls")
+	private static final Pattern REGION = Pattern.compile("[A-Z]{2}|\\d{3}");
+
+	/**
+	 * Control providing the fallback chain of a locale.
+	 */
+	private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+	/**
+	 * ISO 639 language codes.
+	 */
+	private static final Set<String> LANGUAGES = new HashSet<>(Arrays.asList(Locale.getISOLanguages()));
+
+	/**
+	 * Directory of the resources (resource bundle names are relative to it).
+	 */
+	private final Path resourceDirectory;
+
+	/**
+	 * Directory to write the compiled resource bundles into.
+	 */
+	private final Path outputDirectory;
+
+	/**
+	 * Creates a new bundle compiler.
+	 * <hr>
+	 * @param resourceDirectory Directory of the resources.
+	 * @param outputDirectory Directory to write the compiled resource bundles into.
+	 */
+	public BundleCompiler(final @NonNull Path resourceDirectory, final @NonNull Path outputDirectory)
+	{
+		this.resourceDirectory = resourceDirectory;
+		this.outputDirectory = outputDirectory;
+	}
+
+	/**
+	 * Compiles the resource bundle files found in a directory (recursively).
+	 * <hr>
+	 * @param bundleDirectory Directory containing the resource bundle files (relative to the resource directory).
+	 * @return Compiled resource bundles (by base name then locale).
+	 * @throws IOException Thrown if a resource bundle file cannot be read or written.
+	 */
+	public final List<CompiledBundle> compile(final @NonNull String bundleDirectory) throws IOException
+	{
+		Path directory = resourceDirectory.resolve(bundleDirectory);
+		if (!Files.isDirectory(directory))
+		{
+			return Collections.emptyList();
+		}
+
+		// Resource bundle families: base name -> locale -> entries.
+		Map<String, Map<Locale, Map<String, String>>> families = new TreeMap<>();
+		try (Stream<Path> paths = Files.walk(directory))
+		{
+			for (Path path : paths.filter(e -> e.toString().endsWith(EXTENSION)).sorted().collect(Collectors.toList()))
+			{
+				String name = resourceDirectory.relativize(path).toString().replace('\\', '/');
+				name = name.substring(0, name.length() - EXTENSION.length());
+
+				Map.Entry<String, Locale> parsed = parse(name);
+				families.computeIfAbsent(parsed.getKey(), k -> new HashMap<>()).put(parsed.getValue(), load(path));
+			}
+		}
+
+		List<CompiledBundle> compiled = new ArrayList<>();
+		for (Map.Entry<String, Map<Locale, Map<String, String>>> family : families.entrySet())
+		{
+			compiled.addAll(compile(family.getKey(), family.getValue()));
+		}
+
+		return compiled;
+	}
+
+	/**
+	 * Compiles a resource bundle family.
+	 * <hr>
+	 * @param baseName Base name of the resource bundle family.
+	 * @param files Entries of the resource bundle files of the family (by locale).
+	 * @return Compiled resource bundles.
+	 * @throws IOException Thrown if a compiled resource bundle cannot be written.
+	 */
+	private final List<CompiledBundle> compile(final @NonNull String baseName, final @NonNull Map<Locale, Map<String, String>> files) throws IOException
+	{
+		Set<String> keys = new HashSet<>();
+		files.values().forEach(e -> keys.addAll(e.keySet()));
+
+		List<Locale> locales = new ArrayList<>(files.keySet());
+		locales.sort((a, b) -> a.toString().compareTo(b.toString()));
+
+		List<CompiledBundle> compiled = new ArrayList<>(locales.size());
+		for (Locale locale : locales)
+		{
+			// Flattened from the least to the most specific resource bundle file of the chain.
+			Map<String, String> entries = new LinkedHashMap<>();
+			Set<String> own = new HashSet<>();
+			List<Locale> chain = new ArrayList<>(CONTROL.getCandidateLocales(baseName, locale));
+			Collections.reverse(chain);
+			for (Locale candidate : chain)
+			{
+				Map<String, String> file = files.get(candidate);
+				if (file != null)
+				{
+					entries.putAll(file);
+					if (!candidate.equals(Locale.ROOT))
+					{
+						own.addAll(file.keySet());
+					}
+				}
+			}
+
+			Set<String> missing = new HashSet<>();
+			if (!locale.equals(Locale.ROOT))
+			{
+				keys.stream().filter(e -> !own.contains(e)).forEach(missing::add);
+			}
+
+			Path output = outputDirectory.resolve(CONTROL.toResourceName(CONTROL.toBundleName(baseName, locale), BinaryBundle.EXTENSION));
+			Files.createDirectories(output.getParent());
+			BinaryBundle.write(entries, output);
+
+			compiled.add(new CompiledBundle(baseName, locale, entries.size(), missing));
+		}
+
+		return compiled;
+	}
+
+	/**
+	 * Splits a resource bundle name into its base name and its locale.
+	 * <hr>
+	 * @param name Resource bundle name (without extension).
+	 * @return Base name and locale ({@link Locale#ROOT} for the default resource bundle file).
+	 */
+	static final Map.Entry<String, Locale> parse(final @NonNull String name)
+	{
+		int slash = name.lastIndexOf('/') + 1;
+		String[] parts = name.substring(slash).split("_", -1); //$NON-NLS-1$
+
+		// The locale is made of at most three parts (language, region and variant) following the base name.
+		for (int i = Math.max(1, parts.length - 3); i < parts.length; i++)
+		{
+			if (LANGUAGES.contains(parts[i]) && (i + 1 == parts.length || parts[i + 1].isEmpty() || REGION.matcher(parts[i + 1]).matches()))
+			{
+				Locale locale = new Locale(parts[i], i + 1 < parts.length ? parts[i + 1] : "", i + 2 < parts.length ? parts[i + 2] : ""); //$NON-NLS-1$ //$NON-NLS-2$
+
+				return new SimpleImmutableEntry<>(name.substring(0, slash) + String.join("_", Arrays.asList(parts).subList(0, i)), locale); //$NON-NLS-1$
+			}
+		}
+
+		return new SimpleImmutableEntry<>(name, Locale.ROOT);
+	}
+
+	/**
+	 * Loads the entries of a resource bundle file the same way the {@link ResourceBundle} services do.
+	 * <hr>
+	 * @param path Path of the resource bundle file.
+	 * @return Entries.
+	 * @throws IOException Thrown if the resource bundle file cannot be read.
+	 */
+	private static final Map<String, String> load(final @NonNull Path path) throws IOException
+	{
+		try (InputStream input = Files.newInputStream(path))
+		{
+			PropertyResourceBundle bundle = new PropertyResourceBundle(input);
+
+			Map<String, String> entries = new HashMap<>();
+			Enumeration<String> keys = bundle.getKeys();
+			while (keys.hasMoreElements())
+			{
+				String key = keys.nextElement();
+				entries.put(key, bundle.getString(key));
+			}
+
+			return entries;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.maven.plugin.bundle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Compiles the resource bundle files of a project into their binary form (one per locale, with the fallback chain
+ * already flattened) and reports the keys missing per locale.
+ * <p>
+ * The compiled resource bundles are written next to the resources of the project and are loaded by the
+ * {@code ResourceBundleManager} once its format is set to {@code BundleFormatType.BINARY}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+@Mojo(name = "compile-bundles", defaultPhase = LifecyclePhase.PROCESS_RESOURCES, threadSafe = true)
+public final class CompileBundleMojo extends AbstractMojo
+{
+	/**
+	 * Directory of the resources (resource bundle names are relative to it).
+	 */
+	@Parameter(defaultValue = "${project.basedir}/src/main/resources", required = true)
+	private File resourceDirectory;
+
+	/**
+	 * Directory containing the resource bundle files (relative to the resource directory).
+	 */
+	@Parameter(defaultValue = "bundle", required = true)
+	private String bundleDirectory;
+
+	/**
+	 * Directory to write the compiled resource bundles into.
+	 */
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File outputDirectory;
+
+	/**
+	 * Should the build fail if keys are missing for a locale?
+	 */
+	@Parameter(property = "hemajoo.bundle.failOnMissingKeys", defaultValue = "false")
+	private boolean failOnMissingKeys;
+
+	/**
+	 * Should the compilation be skipped?
+	 */
+	@Parameter(property = "hemajoo.bundle.skip", defaultValue = "false")
+	private boolean skip;
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void execute() throws MojoExecutionException, MojoFailureException
+	{
+		if (skip)
+		{
+			getLog().info("Resource bundle compilation skipped");
+
+			return;
+		}
+
+		List<CompiledBundle> compiled;
+		try
+		{
+			compiled = new BundleCompiler(resourceDirectory.toPath(), outputDirectory.toPath()).compile(bundleDirectory);
+		}
+		catch (IOException e)
+		{
+			throw new MojoExecutionException(String.format("Cannot compile the resource bundles of: '%s'", resourceDirectory), e);
+		}
+
+		int incomplete = 0;
+		for (CompiledBundle bundle : compiled)
+		{
+			if (!bundle.getMissingKeys().isEmpty())
+			{
+				incomplete++;
+				getLog().warn(String.format("Resource bundle: '%s' has %d key(s) missing for language: '%s' (served by fall-back)", bundle.getBaseName(), Integer.valueOf(bundle.getMissingKeys().size()), bundle.getLocale()));
+				bundle.getMissingKeys().forEach(e -> getLog().warn(String.format("Resource bundle key: '%s' missing for language: '%s'", e, bundle.getLocale())));
+			}
+		}
+
+		getLog().info(String.format("Compiled %d resource bundle file(s) into: '%s'", Integer.valueOf(compiled.size()), outputDirectory));
+
+		if (failOnMissingKeys && incomplete > 0)
+		{
+			throw new MojoFailureException(String.format("%d resource bundle file(s) have missing keys", Integer.valueOf(incomplete)));
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.maven.plugin.bundle;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import lombok.NonNull;
+
+/**
+ * Outcome of the compilation of a resource bundle file for a given locale.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class CompiledBundle
+{
+	/**
+	 * Base name of the resource bundle (relative to the resource directory, without extension).
+	 */
+	private final String baseName;
+
+	/**
+	 * Locale of the compiled resource bundle ({@link Locale#ROOT} for the default one).
+	 */
+	private final Locale locale;
+
+	/**
+	 * Number of entries of the compiled resource bundle (once the fallback chain flattened).
+	 */
+	private final int size;
+
+	/**
+	 * Keys missing for the locale (only provided by the default resource bundle or by other locales).
+	 */
+	private final SortedSet<String> missingKeys;
+
+	/**
+	 * Creates a new compiled bundle.
+	 * <hr>
+	 * @param baseName Base name of the resource bundle.
+	 * @param locale Locale of the compiled resource bundle.
+	 * @param size Number of entries of the compiled resource bundle.
+	 * @param missingKeys Keys missing for the locale.
+	 */
+	CompiledBundle(final @NonNull String baseName, final @NonNull Locale locale, final int size, final @NonNull Set<String> missingKeys)
+	{
+		this.baseName = baseName;
+		this.locale = locale;
+		this.size = size;
+		this.missingKeys = Collections.unmodifiableSortedSet(new TreeSet<>(missingKeys));
+	}
+
+	/**
+	 * Returns the base name of the resource bundle.
+	 * <hr>
+	 * @return Base name.
+	 */
+	public final String getBaseName()
+	{
+		return baseName;
+	}
+
+	/**
+	 * Returns the locale of the compiled resource bundle.
+	 * <hr>
+	 * @return Locale ({@link Locale#ROOT} for the default resource bundle).
+	 */
+	public final Locale getLocale()
+	{
+		return locale;
+	}
+
+	/**
+	 * Returns the number of entries of the compiled resource bundle.
+	 * <hr>
+	 * @return Number of entries.
+	 */
+	public final int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the keys missing for the locale.
+	 * <hr>
+	 * @return Missing keys (sorted).
+	 */
+	public final SortedSet<String> getMissingKeys()
+	{
+		return missingKeys;
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains artifacts for the Hemajoo's Foundation Maven plugin dedicated to the compilation of the resource bundles.
+ */
+package com.hemajoo.foundation.maven.plugin.bundle;
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * Copyright(c) 2018 Hemajoo Ltd.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Hemajoo's Foundation project which is licensed
+ * under the Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.hemajoo.foundation.maven.plugin.bundle;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.hemajoo.foundation.common.resource.bundle.binary.BinaryBundle;
+
+/**
+ * A test case for the {@link BundleCompiler} class.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Hemajoo</a>
+ * @version 1.0.0
+ */
+public final class BundleCompilerTest
+{
+	/**
+	 * Directory to write the compiled resource bundles into.
+	 */
+	private Path output;
+
+	/**
+	 * Creates the output directory.
+	 * <hr>
+	 * @throws IOException Thrown if the directory cannot be created.
+	 */
+	@SuppressWarnings("nls")
+	@Before
+	public final void setUp() throws IOException
+	{
+		output = Files.createTempDirectory("hemajoo-bundle");
+	}
+
+	/**
+	 * Deletes the output directory.
+	 * <hr>
+	 * @throws IOException Thrown if the directory cannot be deleted.
+	 */
+	@After
+	public final void tearDown() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(output))
+		{
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+			{
+				Files.delete(path);
+			}
+		}
+	}
+
+	/**
+	 * Test the parsing of resource bundle names.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void testParseName()
+	{
+		Assert.assertEquals(Locale.ROOT, BundleCompiler.parse("bundle/hemajoo-foundation-common").getValue());
+		Assert.assertEquals(Locale.FRENCH, BundleCompiler.parse("bundle/hemajoo-foundation-common_fr").getValue());
+		Assert.assertEquals("bundle/hemajoo-foundation-common", BundleCompiler.parse("bundle/hemajoo-foundation-common_fr").getKey());
+		Assert.assertEquals(Locale.CANADA_FRENCH, BundleCompiler.parse("bundle/my_bundle_fr_CA").getValue());
+		Assert.assertEquals("bundle/my_bundle", BundleCompiler.parse("bundle/my_bundle_fr_CA").getKey());
+		Assert.assertEquals(Locale.ROOT, BundleCompiler.parse("bundle/my_bundle").getValue());
+	}
+
+	/**
+	 * Test the compilation of a resource bundle family with flattened fall-back chains.
+	 * <hr>
+	 * @throws IOException Thrown if the resource bundles cannot be compiled.
+	 * @throws URISyntaxException Thrown if the test resources cannot be found.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testCompile() throws IOException, URISyntaxException
+	{
+		Path resources = Paths.get(getClass().getResource("/bundle").toURI()).getParent();
+
+		List<CompiledBundle> compiled = new BundleCompiler(resources, output).compile("bundle");
+		Assert.assertEquals(4, compiled.size());
+
+		CompiledBundle canadian = compiled.stream().filter(e -> e.getLocale().equals(Locale.CANADA_FRENCH)).findFirst().get();
+		Assert.assertEquals("bundle/sample/sample", canadian.getBaseName());
+		Assert.assertEquals(3, canadian.getSize());
+		Assert.assertEquals("[sample.goodbye]", canadian.getMissingKeys().toString());
+
+		BinaryBundle bundle = BinaryBundle.open(output.resolve("bundle/sample/sample_fr_CA." + BinaryBundle.EXTENSION));
+		Assert.assertEquals("Allo", bundle.getValue("sample.hello"));
+		Assert.assertEquals("Fran\u00E7ais", bundle.getValue("sample.language"));
+		Assert.assertEquals("Goodbye", bundle.getValue("sample.goodbye"));
+
+		Assert.assertTrue(compiled.stream().filter(e -> e.getLocale().equals(Locale.ENGLISH)).findFirst().get().getMissingKeys().isEmpty());
+	}
+}